@@ -0,0 +1,34 @@
+package com.limvik.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String PERCOLATION_EXECUTOR = "percolationExecutor";
+
+    // 저장 검색식 확인은 채용공고 변경 순서대로 하나씩 처리
+    @Bean(name = PERCOLATION_EXECUTOR)
+    public ThreadPoolTaskExecutor percolationExecutor(MeterRegistry meterRegistry) {
+        var rejected = meterRegistry.counter("percolation.rejected");
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("percolation-");
+        // 대기열이 가득 차면 요청 스레드에서 처리하지 않고 버림. 그 채용공고의 알림은 만들지 않음
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("저장 검색식 확인 대기열이 가득 차서 작업을 버렸습니다. 대기 중인 작업 수: {}", pool.getQueue().size());
+        });
+        return executor;
+    }
+
+}
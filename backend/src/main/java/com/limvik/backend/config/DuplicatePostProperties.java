@@ -0,0 +1,17 @@
+package com.limvik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 중복 채용공고 검사 설정. threshold 이상 비슷한(0 ~ 1) 채용공고가 있으면 policy 에 따라 기록(flag)하거나 거부(reject)합니다.
+ */
+@ConfigurationProperties(prefix = "post.duplicate")
+public record DuplicatePostProperties(
+        @DefaultValue("flag") Policy policy,
+        @DefaultValue("0.8") double threshold
+) {
+    public enum Policy {
+        FLAG, REJECT
+    }
+}
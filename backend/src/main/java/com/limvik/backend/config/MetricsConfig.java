@@ -0,0 +1,41 @@
+package com.limvik.backend.config;
+
+import com.limvik.backend.index.PostSearchCache;
+import com.limvik.backend.service.SkillService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder skillDictionaryMetrics(SkillService skillService) {
+        return registry -> {
+            FunctionCounter.builder("skill.dictionary.lookups", skillService, SkillService::getHitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("skill.dictionary.lookups", skillService, SkillService::getMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("skill.dictionary.size", skillService, SkillService::getDictionarySize)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder postSearchCacheMetrics(PostSearchCache postSearchCache) {
+        var cache = postSearchCache.getCache();
+        return registry -> {
+            new CaffeineCacheMetrics<>(cache, "post.search", Tags.empty()).bindTo(registry);
+            Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                    .tag("cache", "post.search")
+                    .register(registry);
+        };
+    }
+
+}
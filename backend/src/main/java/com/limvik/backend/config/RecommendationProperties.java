@@ -0,0 +1,16 @@
+package com.limvik.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 지원 이력 기반 추천 설정. 채용공고마다 유사한 채용공고를 neighbors 개, 사용자마다 추천 채용공고를 size 개까지 계산합니다.
+ * parallelism 이 0 이면 CPU 수만큼 병렬로 계산합니다.
+ */
+@ConfigurationProperties(prefix = "recommendation")
+public record RecommendationProperties(
+        @DefaultValue("50") int neighbors,
+        @DefaultValue("50") int size,
+        @DefaultValue("0") int parallelism
+) {
+}
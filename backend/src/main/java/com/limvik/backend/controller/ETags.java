@@ -0,0 +1,36 @@
+package com.limvik.backend.controller;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 본문을 만들지 않고 응답을 결정하는 값(채용공고 id, 버전 등)으로 강한 ETag 를 만들고,
+ * If-None-Match 와 비교합니다.
+ */
+final class ETags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    static String of(CharSequence content) {
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * If-None-Match 의 태그 중 하나라도 eTag 와 같으면 true. If-None-Match 는 약한 비교를 사용합니다.
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) return false;
+        for (var tag : ifNoneMatch.split(",")) {
+            tag = tag.strip();
+            if (tag.startsWith(WEAK_PREFIX)) tag = tag.substring(WEAK_PREFIX.length());
+            if (ANY.equals(tag) || eTag.equals(tag)) return true;
+        }
+        return false;
+    }
+
+}
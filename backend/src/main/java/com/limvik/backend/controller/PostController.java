@@ -1,21 +1,43 @@
 package com.limvik.backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.limvik.backend.domain.Address;
 import com.limvik.backend.domain.Company;
 import com.limvik.backend.domain.Post;
+import com.limvik.backend.domain.PostDescription;
+import com.limvik.backend.domain.PostDetailsDocument;
+import com.limvik.backend.domain.PostFacets;
+import com.limvik.backend.domain.PostListFilter;
+import com.limvik.backend.domain.PostSnippet;
+import com.limvik.backend.domain.PostSummary;
 import com.limvik.backend.domain.Skill;
 import com.limvik.backend.dto.*;
+import com.limvik.backend.exception.CursorNotValidException;
+import com.limvik.backend.exception.PostFilterNotValidException;
 import com.limvik.backend.exception.PostNotValidException;
+import com.limvik.backend.index.SpellingCorrector;
 import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
 import com.limvik.backend.service.SkillService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @RestController
@@ -24,19 +46,98 @@ public class PostController {
 
     private final PostService postService;
     private final SkillService skillService;
+    private final PostSkillLoader postSkillLoader;
+    private final SpellingCorrector spellingCorrector;
+    private final ObjectMapper objectMapper;
+
+    private static final String CORRECTED_SEARCH_HEADER = "X-Corrected-Search";
+    private static final String DUPLICATE_OF_HEADER = "X-Duplicate-Of";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int OTHER_POSTS_SIZE = PostDetailsDocument.OTHER_POSTS_SIZE;
+    private static final int MAX_SIMILAR_POSTS_SIZE = 50;
+    private static final String MATCH_ALL = "all";
+    private static final String MATCH_ANY = "any";
+    private static final String SORT_LATEST = "latest";
+    private static final String SORT_REWARD = "reward";
 
     @GetMapping
-    public ResponseEntity<List<PostView>> returnAllPosts(@RequestParam(required = false) String search) {
-        List<Post> posts = getAllPosts(search);
-        return ResponseEntity.ok(mapPostListToPostViewList(posts));
+    public ResponseEntity<List<PostView>> returnAllPosts(@RequestParam(required = false) String search,
+                                                         @RequestParam(required = false) List<String> skills,
+                                                         @RequestParam(defaultValue = MATCH_ALL) String match,
+                                                         @RequestParam(required = false) String sort,
+                                                         @RequestParam(required = false) Long minReward,
+                                                         @RequestParam(required = false) Long maxReward,
+                                                         @RequestParam(required = false) String city,
+                                                         @RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = "20") int size,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                         String ifNoneMatch) {
+        var cursor = getCursor(after);
+        var pageSize = getPageSize(size);
+        var filter = getFilter(sort, minReward, maxReward, city);
+        Slice<PostSummary> posts;
+        if (filter != null)
+            posts = getFilteredPosts(search, skills, filter, cursor, after, pageSize);
+        else if (skills == null || skills.isEmpty())
+            posts = getAllPosts(search, cursor, pageSize);
+        else
+            posts = getPostsBySkills(search, skills, match, cursor, pageSize);
+
+        // 첫 페이지 검색 결과가 없으면 오타를 교정한 검색어로 다시 검색
+        String correctedSearch = null;
+        if (!posts.hasContent() && cursor == null && StringUtils.hasText(search)) {
+            correctedSearch = spellingCorrector.correct(search).orElse(null);
+            if (correctedSearch != null)
+                posts = postService.getPostsByKeyword(correctedSearch, null, pageSize);
+        }
+        var nextPageLink = posts.hasNext() ? getNextPageLink(posts.getContent(), correctedSearch,
+                filter != null && filter.sort() == PostListFilter.Sort.REWARD) : null;
+
+        // 바뀌지 않았으면 스킬을 읽거나 응답을 만들지 않음
+        var eTag = getPostListETag(posts.getContent(), correctedSearch, nextPageLink);
+        if (ETags.matches(ifNoneMatch, eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+
+        var response = ResponseEntity.ok().eTag(eTag);
+        if (correctedSearch != null)
+            response.header(CORRECTED_SEARCH_HEADER, UriUtils.encode(correctedSearch, StandardCharsets.UTF_8));
+        if (nextPageLink != null)
+            response.header(HttpHeaders.LINK, nextPageLink);
+        return response.body(mapPostListToPostViewList(posts.getContent()));
+    }
+
+    // 목록 응답은 채용공고 id 와 버전, 교정한 검색어, 다음 페이지 링크로 정해짐
+    private String getPostListETag(List<PostSummary> posts, String correctedSearch, String nextPageLink) {
+        var content = new StringBuilder();
+        for (var post : posts)
+            content.append(post.id()).append(':').append(post.version()).append(',');
+        content.append('|').append(correctedSearch).append('|').append(nextPageLink);
+        return ETags.of(content);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<PostFacetsView> returnPostFacets(@RequestParam(required = false) String search,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        var facets = postService.getFacets(search, getPageSize(size));
+        return ResponseEntity.ok(new PostFacetsView(facets.total(), toMap(facets.skills()), toMap(facets.cities()),
+                toMap(facets.states()), toMap(facets.rewards())));
+    }
+
+    private Map<String, Long> toMap(List<PostFacets.FacetCount> counts) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        counts.forEach(count -> map.put(count.value(), count.count()));
+        return map;
     }
 
     @PostMapping
     public ResponseEntity<PostView> returnCreatedPost(@RequestBody PostView createRequestedPost) {
         validateRequestedPost(createRequestedPost);
         var savedPost = mapPostDetailViewToPost(createRequestedPost);
-        var returnedPost = mapPostToPostView().map(savedPost);
-        return ResponseEntity.created(URI.create("/api/v1/posts/" + returnedPost.id())).body(returnedPost);
+        var returnedPost = mapPostToPostView(null).map(savedPost);
+        var response = ResponseEntity.created(URI.create("/api/v1/posts/" + returnedPost.id()));
+        if (savedPost.getDuplicateOf() != null)
+            response.header(DUPLICATE_OF_HEADER, savedPost.getDuplicateOf().toString());
+        return response.body(returnedPost);
     }
 
     @PatchMapping("/{id}")
@@ -44,7 +145,7 @@ public class PostController {
                                                        @RequestBody PostView modifyRequestPost) {
         validateRequestedPost(modifyRequestPost);
         var modifiedPost = mapModifyPostDetailViewToPost(modifyRequestPost, id);
-        var returnedPost = mapPostToPostView().map(modifiedPost);
+        var returnedPost = mapPostToPostView(null).map(modifiedPost);
         return ResponseEntity.ok(returnedPost);
     }
 
@@ -55,9 +156,57 @@ public class PostController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PostView> returnPostDetails(@PathVariable Long id) {
-        var postView = mapPostToPostView().map(postService.getPost(id));
-        return ResponseEntity.ok(postView);
+    public ResponseEntity<PostDetailsView> returnPostDetails(@PathVariable Long id,
+                                                             @RequestParam(required = false) Long otherPostsAfter,
+                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                             String ifNoneMatch) {
+        // 첫 페이지는 미리 만들어 둔 문서로 ETag 를 비교하고, 본문을 보낼 때만 채용내용을 읽음
+        if (otherPostsAfter == null) {
+            var document = postService.getPostDocument(id).orElse(null);
+            if (document != null) {
+                var otherPostIds = document.otherPostIds();
+                var eTag = getPostETag(id, document.version(), otherPostIds);
+                if (ETags.matches(ifNoneMatch, eTag))
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+                return ResponseEntity.ok()
+                        .eTag(eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(new PostDetailsView(document, postService.getPostDescription(id), otherPostIds));
+            }
+        }
+        // 채용공고는 2차 캐시에서 읽거나 한 문장으로 읽고, 그 버전으로 ETag 를 비교
+        var post = postService.getPost(id);
+        var companyId = post.getCompany().getId();
+        var otherPostIds = postService.getIndexedOtherPostIds(companyId, id, otherPostsAfter, OTHER_POSTS_SIZE)
+                .orElse(null);
+        PostDescription description = null;
+        if (otherPostIds == null) {
+            // 색인이 준비되지 않았으면 채용내용과 다른 채용공고 id 를 한 문장으로 읽음
+            var page = postService.getPostDescriptionPage(id, companyId, otherPostsAfter, OTHER_POSTS_SIZE);
+            description = page.description();
+            otherPostIds = page.otherPostIds();
+        }
+        var eTag = getPostETag(id, post.getVersion(), otherPostIds);
+        if (ETags.matches(ifNoneMatch, eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        if (description == null)
+            description = postService.getPostDescription(id);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new PostDetailsView(toPostDetailsDocument(post), description, otherPostIds));
+    }
+
+    // 상세 응답은 채용공고 버전과 같은 회사의 다른 채용공고 목록으로 정해짐
+    private String getPostETag(Long id, long version, List<Long> otherPostIds) {
+        return ETags.of(id + ":" + version + ":" + otherPostIds);
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<PostView>> returnSimilarPosts(@PathVariable Long id,
+                                                             @RequestParam(defaultValue = "10") int size) {
+        var posts = postService.getSimilarPosts(id, Math.max(1, Math.min(size, MAX_SIMILAR_POSTS_SIZE)));
+        return ResponseEntity.ok(mapPostListToPostViewList(posts));
     }
 
     private void validateRequestedPost(PostView postView) {
@@ -65,17 +214,71 @@ public class PostController {
             throw new PostNotValidException();
     }
 
-    private List<Post> getAllPosts(String keyword) {
-        List<Post> posts;
+    private Slice<PostSummary> getAllPosts(String keyword, PostCursor after, int size) {
+        Slice<PostSummary> posts;
 
         if (keyword == null || keyword.isBlank())
-            posts = postService.getPosts();
+            posts = postService.getPosts(after == null ? null : after.id(), size);
         else
-            posts = postService.getPostsByKeyword(keyword);
+            posts = postService.getPostsByKeyword(keyword, after, size);
 
         return posts;
     }
 
+    private Slice<PostSummary> getPostsBySkills(String keyword, List<String> skills, String match,
+                                                PostCursor after, int size) {
+        if (StringUtils.hasText(keyword))
+            throw new PostFilterNotValidException("스킬(skills)은 검색어(search)와 함께 사용할 수 없습니다. " +
+                    "검색어에 skill:스킬이름 을 사용해 주세요.");
+        if (!MATCH_ALL.equals(match) && !MATCH_ANY.equals(match))
+            throw new PostFilterNotValidException("match 는 all 또는 any 만 사용할 수 있습니다. 입력값 = " + match);
+        return postService.getPostsBySkills(skills, MATCH_ALL.equals(match), after == null ? null : after.id(), size);
+    }
+
+    // 정렬과 범위 조건이 하나도 없으면 null
+    private PostListFilter getFilter(String sort, Long minReward, Long maxReward, String city) {
+        if (sort == null && minReward == null && maxReward == null && !StringUtils.hasText(city))
+            return null;
+        PostListFilter.Sort postSort;
+        if (sort == null || SORT_LATEST.equals(sort)) postSort = PostListFilter.Sort.LATEST;
+        else if (SORT_REWARD.equals(sort)) postSort = PostListFilter.Sort.REWARD;
+        else throw new PostFilterNotValidException("sort 는 latest 또는 reward 만 사용할 수 있습니다. 입력값 = " + sort);
+        if (minReward != null && maxReward != null && minReward > maxReward)
+            throw new PostFilterNotValidException("minReward 는 maxReward 보다 클 수 없습니다.");
+        return new PostListFilter(postSort, minReward, maxReward, StringUtils.hasText(city) ? city.strip() : null);
+    }
+
+    private Slice<PostSummary> getFilteredPosts(String keyword, List<String> skills, PostListFilter filter,
+                                                PostCursor after, String encodedAfter, int size) {
+        if (StringUtils.hasText(keyword) || (skills != null && !skills.isEmpty()))
+            throw new PostFilterNotValidException("정렬(sort)과 범위 조건(minReward, maxReward, city)은 " +
+                    "검색어(search)나 스킬(skills)과 함께 사용할 수 없습니다.");
+        if (after != null && filter.sort() == PostListFilter.Sort.REWARD && after.reward() == null)
+            throw new CursorNotValidException(encodedAfter);
+        return postService.getPosts(filter, after, size);
+    }
+
+    private PostCursor getCursor(String after) {
+        return after == null ? null : PostCursor.decode(after);
+    }
+
+    private int getPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private String getNextPageLink(List<PostSummary> posts, String correctedSearch, boolean rewardSort) {
+        var lastPost = posts.get(posts.size() - 1);
+        var cursor = new PostCursor(lastPost.id(), lastPost.score(), rewardSort ? lastPost.reward() : null);
+        var nextPage = ServletUriComponentsBuilder.fromCurrentRequest();
+        if (correctedSearch != null)
+            nextPage.replaceQueryParam("search", UriUtils.encodeQueryParam(correctedSearch, StandardCharsets.UTF_8));
+        var nextPageLink = nextPage
+                .replaceQueryParam("after", cursor.encode())
+                .build()
+                .toUriString();
+        return "<" + nextPageLink + ">; rel=\"next\"";
+    }
+
     private Post mapPostDetailViewToPost(PostView postView) {
         var post = mapPostViewToPost().map(postView);
 //        // 로그인 기능을 생략하여 임시로 첫 번째 회사의 정보를 사용
@@ -89,14 +292,32 @@ public class PostController {
         return postService.modifyPost(post, getSkills(postView));
     }
 
-    private List<PostView> mapPostListToPostViewList(List<Post> posts) {
+    private List<PostView> mapPostListToPostViewList(List<PostSummary> posts) {
+        postSkillLoader.prime(posts.stream().map(PostSummary::id).toList());
         List<PostView> postViews = new ArrayList<>();
         for (var post : posts) {
-            postViews.add(mapPostToPostView().map(post));
+            postViews.add(mapPostSummaryToPostView().map(post));
         }
         return postViews;
     }
 
+    private DtoMapper<PostSummary, PostView> mapPostSummaryToPostView() {
+        return (post) -> PostView.postListOf(
+                post.id(),
+                new CompanyView(post.companyId(), post.companyName()),
+                post.street() == null ? null : new AddressView(post.street(), post.city(), post.state()),
+                post.positionName(),
+                post.reward(),
+                getSkillViews(postSkillLoader.getSkillNames(post.id())),
+                post.snippet() == null ? null : mapPostSnippetToSnippetView().map(post.snippet()));
+    }
+
+    private DtoMapper<PostSnippet, SnippetView> mapPostSnippetToSnippetView() {
+        return (snippet) -> new SnippetView(snippet.text(), snippet.highlights().stream()
+                .map(highlight -> new HighlightView(highlight.start(), highlight.end()))
+                .toArray(HighlightView[]::new));
+    }
+
     private DtoMapper<PostView, Post> mapPostViewToPost() {
         return (postView) -> Post.builder()
                 .company(mapCompanyViewToCompany().map(postView.company()))
@@ -107,25 +328,44 @@ public class PostController {
                 .build();
     }
 
-    private DtoMapper<Post, PostView> mapPostToPostView() {
-        return (post) -> {
-            var jobDescription = post.getJobDescription();
-            Long[] otherPosts = null;
-            if (jobDescription != null) {
-                var postIds = postService.getPostIdsByCompanyId(post.getCompany().getId());
-                postIds.remove(post.getId());
-                otherPosts = postIds.toArray(Long[]::new);
-            }
-            return new PostView(
-                    post.getId(),
-                    mapCompanyToCompanyView().map(post.getCompany()),
-                    mapAddressToAddressView().map(post.getAddress()),
-                    post.getPositionName(),
-                    post.getReward(),
-                    getSkillViews(post),
-                    jobDescription,
-                    otherPosts);
-        };
+    private DtoMapper<Post, PostView> mapPostToPostView(Long otherPostsAfter) {
+        return (post) -> mapPostToPostView(post, post.getJobDescription() == null ? null :
+                getOtherPostIds(post.getCompany().getId(), post.getId(), otherPostsAfter));
+    }
+
+    private PostView mapPostToPostView(Post post, List<Long> otherPostIds) {
+        return new PostView(
+                post.getId(),
+                mapCompanyToCompanyView().map(post.getCompany()),
+                mapAddressToAddressView().map(post.getAddress()),
+                post.getPositionName(),
+                post.getReward(),
+                getSkillViews(post),
+                post.getJobDescription(),
+                otherPostIds == null ? null : otherPostIds.toArray(Long[]::new));
+    }
+
+    // 채용내용과 다른 채용공고를 뺀 상세 응답. 미리 만들어 둔 문서가 없을 때 엔티티로 만듦
+    private PostDetailsDocument toPostDetailsDocument(Post post) {
+        var postView = new PostView(
+                post.getId(),
+                mapCompanyToCompanyView().map(post.getCompany()),
+                mapAddressToAddressView().map(post.getAddress()),
+                post.getPositionName(),
+                post.getReward(),
+                getSkillViews(post),
+                null,
+                null);
+        try {
+            return new PostDetailsDocument(post.getId(), post.getCompany().getId(), post.getVersion(),
+                    objectMapper.writeValueAsBytes(postView), new long[0]);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Long> getOtherPostIds(Long companyId, Long postId, Long otherPostsAfter) {
+        return postService.getOtherPostIdsByCompanyId(companyId, postId, otherPostsAfter, OTHER_POSTS_SIZE);
     }
 
     private DtoMapper<Company, CompanyView> mapCompanyToCompanyView() {
@@ -157,6 +397,14 @@ public class PostController {
         return skillViews;
     }
 
+    private SkillView[] getSkillViews(List<String> skillNames) {
+        SkillView[] skillViews = new SkillView[skillNames.size()];
+        for(int i = 0; i < skillViews.length; i++) {
+            skillViews[i] = new SkillView(skillNames.get(i));
+        }
+        return skillViews;
+    }
+
     private DtoMapper<Skill, SkillView> mapSkillToSkillView() {
         return (skill) -> new SkillView(skill.getName());
     }
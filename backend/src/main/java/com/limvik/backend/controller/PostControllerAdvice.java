@@ -1,8 +1,14 @@
 package com.limvik.backend.controller;
 
 import com.limvik.backend.dto.Problem;
+import com.limvik.backend.exception.CursorNotValidException;
+import com.limvik.backend.exception.FacetsNotReadyException;
+import com.limvik.backend.exception.PostDuplicatedException;
+import com.limvik.backend.exception.PostFilterNotValidException;
 import com.limvik.backend.exception.PostNotFoundException;
 import com.limvik.backend.exception.PostNotValidException;
+import com.limvik.backend.exception.SearchQueryNotValidException;
+import com.limvik.backend.exception.SimilarPostsNotReadyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -25,4 +31,46 @@ public class PostControllerAdvice {
         return new Problem("찾을 수 없는 채용공고", HttpStatus.NOT_FOUND.value(), new String[]{message});
     }
 
+    @ExceptionHandler(CursorNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Problem cursorNotValidHandler(CursorNotValidException ex) {
+        String message = ex.getMessage();
+        return new Problem("유효하지 않은 커서", HttpStatus.BAD_REQUEST.value(), new String[]{message});
+    }
+
+    @ExceptionHandler(SearchQueryNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Problem searchQueryNotValidHandler(SearchQueryNotValidException ex) {
+        String message = ex.getMessage();
+        return new Problem("유효하지 않은 검색어", HttpStatus.BAD_REQUEST.value(), new String[]{message});
+    }
+
+    @ExceptionHandler(PostFilterNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Problem postFilterNotValidHandler(PostFilterNotValidException ex) {
+        String message = ex.getMessage();
+        return new Problem("유효하지 않은 필터", HttpStatus.BAD_REQUEST.value(), new String[]{message});
+    }
+
+    @ExceptionHandler(FacetsNotReadyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Problem facetsNotReadyHandler(FacetsNotReadyException ex) {
+        String message = ex.getMessage();
+        return new Problem("집계 준비 중", HttpStatus.SERVICE_UNAVAILABLE.value(), new String[]{message});
+    }
+
+    @ExceptionHandler(PostDuplicatedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Problem postDuplicatedHandler(PostDuplicatedException ex) {
+        String message = ex.getMessage();
+        return new Problem("중복된 채용공고", HttpStatus.CONFLICT.value(), new String[]{message});
+    }
+
+    @ExceptionHandler(SimilarPostsNotReadyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Problem similarPostsNotReadyHandler(SimilarPostsNotReadyException ex) {
+        String message = ex.getMessage();
+        return new Problem("유사 채용공고 준비 중", HttpStatus.SERVICE_UNAVAILABLE.value(), new String[]{message});
+    }
+
 }
@@ -0,0 +1,44 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.dto.PostDetailsView;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 채용공고 상세 응답을 JSON 으로 씁니다. 채용내용은 압축을 풀면서 바로 응답에 씁니다.
+ * 빈으로 등록하면 Spring Boot 가 기본 변환기보다 앞에 둡니다.
+ */
+@Component
+public class PostDetailsViewHttpMessageConverter extends AbstractHttpMessageConverter<PostDetailsView> {
+
+    public PostDetailsViewHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PostDetailsView.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PostDetailsView readInternal(Class<? extends PostDetailsView> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("채용공고 상세 응답은 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PostDetailsView view, HttpOutputMessage outputMessage) throws IOException {
+        view.writeTo(outputMessage.getBody());
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.domain.SavedSearch;
+import com.limvik.backend.domain.SearchNotification;
+import com.limvik.backend.dto.DtoMapper;
+import com.limvik.backend.dto.SavedSearchView;
+import com.limvik.backend.dto.SearchNotificationView;
+import com.limvik.backend.service.SavedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/saved-searches")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @PostMapping
+    public ResponseEntity<SavedSearchView> createSavedSearch(@RequestBody SavedSearchView savedSearchView) {
+        var savedSearch = savedSearchService.createSavedSearch(savedSearchView.userId(), savedSearchView.search());
+        return ResponseEntity
+                .created(URI.create("/api/v1/saved-searches/" + savedSearch.getId()))
+                .body(mapSavedSearchToSavedSearchView(savedSearchView.userId()).map(savedSearch));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/notifications")
+    public ResponseEntity<List<SearchNotificationView>> returnNotifications(@PathVariable Long id,
+                                                                            @RequestParam(required = false) Long after,
+                                                                            @RequestParam(defaultValue = "20") int size) {
+        var notifications = savedSearchService.getNotifications(id, after, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        return ResponseEntity.ok(notifications.stream()
+                .map(notification -> mapSearchNotificationToView().map(notification))
+                .toList());
+    }
+
+    private DtoMapper<SavedSearch, SavedSearchView> mapSavedSearchToSavedSearchView(Long userId) {
+        return (savedSearch) -> new SavedSearchView(
+                savedSearch.getId(), userId, savedSearch.getSearch(), savedSearch.getCreatedAt());
+    }
+
+    private DtoMapper<SearchNotification, SearchNotificationView> mapSearchNotificationToView() {
+        return (notification) -> new SearchNotificationView(
+                notification.getId(), notification.getPostId(), notification.getCreatedAt());
+    }
+
+}
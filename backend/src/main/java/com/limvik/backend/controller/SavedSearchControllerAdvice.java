@@ -0,0 +1,20 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.dto.Problem;
+import com.limvik.backend.exception.SavedSearchNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class SavedSearchControllerAdvice {
+
+    @ExceptionHandler(SavedSearchNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Problem savedSearchNotFoundHandler(SavedSearchNotFoundException ex) {
+        String message = ex.getMessage();
+        return new Problem("찾을 수 없는 저장 검색식", HttpStatus.NOT_FOUND.value(), new String[]{message});
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.dto.SuggestionView;
+import com.limvik.backend.index.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/suggest")
+public class SuggestController {
+
+    private final SuggestionIndex suggestionIndex;
+
+    private static final int MAX_SUGGESTION_SIZE = 20;
+
+    @GetMapping
+    public ResponseEntity<List<SuggestionView>> returnSuggestions(@RequestParam String prefix,
+                                                                  @RequestParam(defaultValue = "10") int size) {
+        var suggestions = suggestionIndex.suggest(prefix, Math.max(1, Math.min(size, MAX_SUGGESTION_SIZE))).stream()
+                .map(suggestion -> new SuggestionView(suggestion.text(), suggestion.type(), suggestion.weight()))
+                .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.dto.AddressView;
+import com.limvik.backend.dto.CompanyView;
+import com.limvik.backend.dto.PostView;
+import com.limvik.backend.dto.SkillView;
+import com.limvik.backend.service.PostSkillLoader;
+import com.limvik.backend.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserController {
+
+    private final RecommendationService recommendationService;
+    private final PostSkillLoader postSkillLoader;
+
+    private static final int MAX_RECOMMENDATION_SIZE = 50;
+
+    @GetMapping("/{id}/recommended-posts")
+    public ResponseEntity<List<PostView>> returnRecommendedPosts(@PathVariable Long id,
+                                                                 @RequestParam(defaultValue = "20") int size) {
+        var posts = recommendationService.getRecommendedPosts(id,
+                Math.max(1, Math.min(size, MAX_RECOMMENDATION_SIZE)));
+        postSkillLoader.prime(posts.stream().map(PostSummary::id).toList());
+        return ResponseEntity.ok(posts.stream().map(this::mapPostSummaryToPostView).toList());
+    }
+
+    private PostView mapPostSummaryToPostView(PostSummary post) {
+        return PostView.postListOf(
+                post.id(),
+                new CompanyView(post.companyId(), post.companyName()),
+                post.street() == null ? null : new AddressView(post.street(), post.city(), post.state()),
+                post.positionName(),
+                post.reward(),
+                postSkillLoader.getSkillNames(post.id()).stream().map(SkillView::new).toArray(SkillView[]::new));
+    }
+
+}
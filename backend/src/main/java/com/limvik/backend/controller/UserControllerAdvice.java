@@ -0,0 +1,20 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.dto.Problem;
+import com.limvik.backend.exception.UserNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class UserControllerAdvice {
+
+    @ExceptionHandler(UserNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Problem userNotFoundHandler(UserNotFoundException ex) {
+        String message = ex.getMessage();
+        return new Problem("찾을 수 없는 사용자", HttpStatus.NOT_FOUND.value(), new String[]{message});
+    }
+
+}
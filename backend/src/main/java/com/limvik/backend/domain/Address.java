@@ -2,6 +2,8 @@ package com.limvik.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @EqualsAndHashCode(of = "post")
 @Getter
@@ -10,6 +12,8 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "address")
 @Table(name = "addresses")
 public class Address {
 
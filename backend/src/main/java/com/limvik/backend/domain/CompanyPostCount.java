@@ -0,0 +1,8 @@
+package com.limvik.backend.domain;
+
+public record CompanyPostCount(
+        Long companyId,
+        String companyName,
+        Long count
+) {
+}
@@ -2,6 +2,8 @@ package com.limvik.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Optional;
 
@@ -11,6 +13,8 @@ import java.util.Optional;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "position-skill")
 @Table(name = "position_skills")
 public class PositionSkill {
 
@@ -27,8 +31,17 @@ public class PositionSkill {
     @JoinColumn(name = "skill_id")
     private Skill skill;
 
+    // 회사가 입력하지 않고 채용내용에서 찾아 추가한 스킬
+    @Column(name = "inferred", nullable = false)
+    private boolean inferred;
+
     public PositionSkill(Post post, Skill skill) {
         this.post = post;
         this.skill = skill;
     }
+
+    public PositionSkill(Post post, Skill skill, boolean inferred) {
+        this(post, skill);
+        this.inferred = inferred;
+    }
 }
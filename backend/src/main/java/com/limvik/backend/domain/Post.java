@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.Instant;
 import java.util.Set;
 
 @EqualsAndHashCode(of = "id")
@@ -14,6 +17,8 @@ import java.util.Set;
 @NoArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
 @Table(name = "posts")
 public class Post {
 
@@ -26,9 +31,8 @@ public class Post {
     @NotBlank
     private String positionName;
 
-    @Lob
-    @Column(name = "job_description", nullable = false, length = 16_777_216)
-    @NotBlank
+    // 등록/수정 요청의 채용내용. 검색용 원문은 post_search_texts, 응답용 압축본은 post_descriptions 에 저장하고 읽을 때는 채우지 않음
+    @Transient
     private String jobDescription;
 
     @Column(name = "reward", nullable = false)
@@ -47,6 +51,20 @@ public class Post {
     private Set<Application> applications;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post-skills")
     private Set<PositionSkill> positionSkills;
 
+    // 응답의 ETag 에 사용. 수정할 때 잠그고 읽으면서 Hibernate 가 증가시키므로 동시에 수정해도 겹치지 않음
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @org.hibernate.annotations.UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // 등록할 때 찾은 가장 비슷한 채용공고 id. post_signatures 에 저장
+    @Transient
+    private Long duplicateOf;
+
 }
@@ -0,0 +1,70 @@
+package com.limvik.backend.domain;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * post_descriptions 에 저장하는 채용내용. codec 은 content 의 형식입니다.
+ * DEFLATE 는 MySQL COMPRESS() 와 같은 형식(원문 길이 4바이트 little-endian + zlib)이라 SQL 로도 만들고 풀 수 있습니다.
+ */
+public record PostDescription(int codec, byte[] content) {
+
+    public static final int NONE = 0;
+    public static final int DEFLATE = 1;
+
+    private static final int LENGTH_BYTES = 4;
+
+    /**
+     * 압축해서 작아질 때만 압축합니다. 짧은 채용내용은 압축하면 오히려 커지므로 UTF-8 그대로 저장합니다.
+     */
+    public static PostDescription of(String text) {
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+        var compressed = new ByteArrayOutputStream(bytes.length / 2 + LENGTH_BYTES);
+        compressed.write(bytes.length);
+        compressed.write(bytes.length >>> 8);
+        compressed.write(bytes.length >>> 16);
+        compressed.write(bytes.length >>> 24);
+        try (var deflater = new DeflaterOutputStream(compressed, new Deflater(Deflater.DEFAULT_COMPRESSION))) {
+            deflater.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.size() < bytes.length
+                ? new PostDescription(DEFLATE, compressed.toByteArray())
+                : new PostDescription(NONE, bytes);
+    }
+
+    public boolean isEmpty() {
+        return content.length == 0;
+    }
+
+    /**
+     * 원문 UTF-8 을 읽는 스트림을 반환합니다. 압축은 읽는 만큼만 풉니다.
+     */
+    public InputStream openStream() {
+        var stream = new ByteArrayInputStream(content);
+        // COMPRESS('') 는 길이 없이 빈 값을 반환함
+        if (codec == NONE || isEmpty())
+            return stream;
+        if (codec != DEFLATE)
+            throw new IllegalStateException("지원하지 않는 채용내용 형식입니다: " + codec);
+        stream.skip(LENGTH_BYTES);
+        return new InflaterInputStream(stream);
+    }
+
+    public Reader openReader() {
+        return new InputStreamReader(openStream(), StandardCharsets.UTF_8);
+    }
+
+    public String toText() {
+        try (var stream = openStream()) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
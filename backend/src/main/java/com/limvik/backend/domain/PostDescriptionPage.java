@@ -0,0 +1,9 @@
+package com.limvik.backend.domain;
+
+import java.util.List;
+
+/**
+ * 상세 응답에 붙일 압축한 채용내용과 같은 회사의 다른 채용공고 id. 채용내용이 없으면 description 은 null 입니다.
+ */
+public record PostDescriptionPage(PostDescription description, List<Long> otherPostIds) {
+}
@@ -0,0 +1,82 @@
+package com.limvik.backend.domain;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 만들어 둔 채용공고 상세 응답. document 는 채용내용(jobDescription)과 같은 회사의 다른 채용공고
+ * (otherPostsByCompany)를 뺀 JSON 입니다. 채용내용은 본문을 보낼 때만 post_descriptions 에서 읽어 풀면서 붙이고,
+ * 다른 채용공고는 회사의 앞쪽 채용공고 id(companyPostIds)에서 자신을 빼고 붙입니다.
+ */
+public record PostDetailsDocument(
+        Long postId,
+        Long companyId,
+        long version,
+        byte[] document,
+        long[] companyPostIds
+) {
+
+    // 상세 응답 첫 페이지의 다른 채용공고 수
+    public static final int OTHER_POSTS_SIZE = 20;
+    // 자신을 빼고도 첫 페이지를 채울 수 있도록 하나 더 보관
+    public static final int COMPANY_POST_IDS_SIZE = OTHER_POSTS_SIZE + 1;
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final byte[] JOB_DESCRIPTION_FIELD = ",\"jobDescription\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_POSTS_FIELD = ",\"otherPostsByCompany\":[".getBytes(StandardCharsets.UTF_8);
+
+    public List<Long> otherPostIds() {
+        List<Long> otherPostIds = new ArrayList<>(OTHER_POSTS_SIZE);
+        for (var id : companyPostIds) {
+            if (id != postId && otherPostIds.size() < OTHER_POSTS_SIZE) otherPostIds.add(id);
+        }
+        return otherPostIds;
+    }
+
+    /**
+     * document 의 마지막 } 앞에 채용내용과 otherPostIds 를 붙여 out 에 씁니다. 비어 있으면 필드를 붙이지 않습니다.
+     * 채용내용은 압축을 풀면서 바로 JSON 문자열로 쓰므로 풀린 전체를 메모리에 만들지 않습니다.
+     */
+    public void writeJson(PostDescription description, List<Long> otherPostIds, OutputStream out) throws IOException {
+        out.write(document, 0, document.length - 1);
+        if (!description.isEmpty()) {
+            out.write(JOB_DESCRIPTION_FIELD);
+            try (var reader = description.openReader();
+                 var generator = JSON_FACTORY.createGenerator(out)) {
+                generator.writeString(reader, -1);
+            }
+        }
+        if (!otherPostIds.isEmpty()) {
+            var ids = new StringBuilder();
+            for (var id : otherPostIds) {
+                if (!ids.isEmpty()) ids.append(',');
+                ids.append(id);
+            }
+            out.write(OTHER_POSTS_FIELD);
+            out.write(ids.append(']').toString().getBytes(StandardCharsets.UTF_8));
+        }
+        out.write('}');
+    }
+
+    public static byte[] toBytes(long[] ids) {
+        var buffer = ByteBuffer.allocate(ids.length * Long.BYTES);
+        buffer.asLongBuffer().put(ids);
+        return buffer.array();
+    }
+
+    public static long[] toIds(byte[] bytes) {
+        var ids = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(ids);
+        return ids;
+    }
+
+}
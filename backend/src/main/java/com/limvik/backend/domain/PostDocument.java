@@ -0,0 +1,9 @@
+package com.limvik.backend.domain;
+
+public record PostDocument(
+        Long id,
+        String companyName,
+        String positionName,
+        String jobDescription
+) {
+}
@@ -0,0 +1,9 @@
+package com.limvik.backend.domain;
+
+public record PostFacetRow(
+        Long id,
+        String city,
+        String state,
+        Long reward
+) {
+}
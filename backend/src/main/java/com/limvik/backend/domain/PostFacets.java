@@ -0,0 +1,20 @@
+package com.limvik.backend.domain;
+
+import java.util.List;
+
+/**
+ * 조회 결과의 채용공고 수와 스킬, 지역(city/state), 보상금 구간별 채용공고 수입니다.
+ */
+public record PostFacets(
+        long total,
+        List<FacetCount> skills,
+        List<FacetCount> cities,
+        List<FacetCount> states,
+        List<FacetCount> rewards
+) {
+    public record FacetCount(
+            String value,
+            long count
+    ) {
+    }
+}
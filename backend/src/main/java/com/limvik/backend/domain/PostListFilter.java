@@ -0,0 +1,18 @@
+package com.limvik.backend.domain;
+
+/**
+ * 채용공고 목록의 정렬과 범위 조건. 조건이 null 이면 거르지 않습니다.
+ */
+public record PostListFilter(
+        Sort sort,
+        Long minReward,
+        Long maxReward,
+        String city
+) {
+    public enum Sort {
+        // 최신순(id 내림차순)
+        LATEST,
+        // 보상금 내림차순, 같은 보상금은 최신순
+        REWARD
+    }
+}
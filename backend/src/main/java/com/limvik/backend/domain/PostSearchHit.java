@@ -0,0 +1,9 @@
+package com.limvik.backend.domain;
+
+public interface PostSearchHit {
+
+    Long getId();
+
+    Double getScore();
+
+}
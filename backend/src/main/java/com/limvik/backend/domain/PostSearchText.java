@@ -0,0 +1,34 @@
+package com.limvik.backend.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+/**
+ * 전문 검색 색인과 스니펫에 쓰는 채용포지션과 채용내용. 채용공고 행에 채용내용을 두지 않도록 posts 밖에 저장합니다.
+ * 응답에는 post_descriptions 에 압축해 둔 채용내용을 씁니다.
+ */
+@EqualsAndHashCode(of = "postId")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "post_search_texts")
+public class PostSearchText {
+
+    @Id
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private Long postId;
+
+    @Column(name = "position_name", nullable = false)
+    @NotBlank
+    private String positionName;
+
+    @Lob
+    @Column(name = "job_description", nullable = false, length = 16_777_216)
+    @NotBlank
+    private String jobDescription;
+
+}
@@ -0,0 +1,29 @@
+package com.limvik.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 채용공고의 MinHash 서명. duplicate_of 는 등록할 때 찾은 가장 비슷한 채용공고입니다.
+ */
+@EqualsAndHashCode(of = "postId")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "post_signatures")
+public class PostSignature {
+
+    @Id
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private Long postId;
+
+    @Column(name = "signature", nullable = false, length = 512)
+    private byte[] signature;
+
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
+}
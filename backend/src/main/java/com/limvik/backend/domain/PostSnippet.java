@@ -0,0 +1,44 @@
+package com.limvik.backend.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 채용내용에서 검색어와 일치한 곳 주변의 일부와, 그 안에서 검색어가 나타난 위치([start, end)) 입니다.
+ */
+public record PostSnippet(
+        Long id,
+        String text,
+        List<Highlight> highlights
+) {
+    public static PostSnippet of(Long id, String text, Collection<String> terms) {
+        List<Highlight> found = new ArrayList<>();
+        for (var term : terms) {
+            if (term.isEmpty()) continue;
+            for (int start = 0; start + term.length() <= text.length(); start++) {
+                if (text.regionMatches(true, start, term, 0, term.length()))
+                    found.add(new Highlight(start, start + term.length()));
+            }
+        }
+        found.sort(Comparator.comparingInt(Highlight::start).thenComparing(Highlight::end, Comparator.reverseOrder()));
+
+        // 겹치는 위치는 하나로 합침
+        List<Highlight> highlights = new ArrayList<>();
+        for (var highlight : found) {
+            var last = highlights.isEmpty() ? null : highlights.get(highlights.size() - 1);
+            if (last != null && highlight.start() <= last.end())
+                highlights.set(highlights.size() - 1, new Highlight(last.start(), Math.max(last.end(), highlight.end())));
+            else
+                highlights.add(highlight);
+        }
+        return new PostSnippet(id, text, List.copyOf(highlights));
+    }
+
+    public record Highlight(
+            int start,
+            int end
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.limvik.backend.domain;
+
+// version 은 목록 응답의 ETag 에 사용
+public record PostSummary(
+        Long id,
+        Long companyId,
+        String companyName,
+        String street,
+        String city,
+        String state,
+        String positionName,
+        Long reward,
+        long version,
+        Double score,
+        PostSnippet snippet
+) {
+    public PostSummary(Long id, Long companyId, String companyName, String street, String city, String state,
+                       String positionName, Long reward) {
+        this(id, companyId, companyName, street, city, state, positionName, reward, 0L, null, null);
+    }
+
+    public PostSummary(Long id, Long companyId, String companyName, String street, String city, String state,
+                       String positionName, Long reward, long version) {
+        this(id, companyId, companyName, street, city, state, positionName, reward, version, null, null);
+    }
+
+    public PostSummary(Long id, Long companyId, String companyName, String street, String city, String state,
+                       String positionName, Long reward, Double score) {
+        this(id, companyId, companyName, street, city, state, positionName, reward, 0L, score, null);
+    }
+
+    public PostSummary withScore(Double score) {
+        return new PostSummary(id, companyId, companyName, street, city, state, positionName, reward, version, score,
+                snippet);
+    }
+
+    public PostSummary withSnippet(PostSnippet snippet) {
+        return new PostSummary(id, companyId, companyName, street, city, state, positionName, reward, version, score,
+                snippet);
+    }
+}
@@ -0,0 +1,8 @@
+package com.limvik.backend.domain;
+
+public record PostVersion(
+        Long id,
+        Long companyId,
+        Long version
+) {
+}
@@ -0,0 +1,7 @@
+package com.limvik.backend.domain;
+
+public record SavedSearchQuery(
+        Long id,
+        String search
+) {
+}
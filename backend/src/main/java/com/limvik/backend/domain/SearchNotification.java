@@ -0,0 +1,36 @@
+package com.limvik.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 저장한 검색식과 일치한 채용공고. 일치 여부를 확인하는 쪽에서 한꺼번에 추가하므로 id 로만 연결합니다.
+ */
+@EqualsAndHashCode(of = "id")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "search_notifications")
+public class SearchNotification {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "saved_search_id", nullable = false)
+    private Long savedSearchId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @org.hibernate.annotations.CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+}
@@ -0,0 +1,46 @@
+package com.limvik.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * 사용자별 추천 채용공고. 한 번의 키 조회로 읽도록 채용공고 id 를 순서대로 이어 붙여 한 행에 보관합니다.
+ */
+@EqualsAndHashCode(of = "userId")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_recommendations")
+public class UserRecommendation {
+
+    public static final int MAX_POSTS = 100;
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "post_ids", nullable = false, length = MAX_POSTS * Long.BYTES)
+    private byte[] postIds;
+
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+
+    public long[] getPostIdArray() {
+        var postIdArray = new long[postIds.length / Long.BYTES];
+        ByteBuffer.wrap(postIds).asLongBuffer().get(postIdArray);
+        return postIdArray;
+    }
+
+    public static byte[] toBytes(long[] postIds) {
+        var buffer = ByteBuffer.allocate(postIds.length * Long.BYTES);
+        buffer.asLongBuffer().put(postIds);
+        return buffer.array();
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.limvik.backend.dto;
+
+public record HighlightView(
+        int start,
+        int end
+) {
+}
@@ -0,0 +1,53 @@
+package com.limvik.backend.dto;
+
+import com.limvik.backend.exception.CursorNotValidException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록의 마지막 공고 위치. 검색 결과는 관련도 순으로 정렬되므로 관련도(score)를,
+ * 보상금 순 목록은 보상금(reward)을 함께 기록합니다.
+ */
+public record PostCursor(
+        Long id,
+        Double score,
+        Long reward
+) {
+    private static final String DELIMITER = ":";
+    private static final String REWARD_DELIMITER = "@";
+
+    public PostCursor(Long id) {
+        this(id, null, null);
+    }
+
+    public PostCursor(Long id, Double score) {
+        this(id, score, null);
+    }
+
+    public String encode() {
+        String value;
+        if (reward != null) value = id + REWARD_DELIMITER + reward;
+        else if (score != null) value = id + DELIMITER + score;
+        else value = id.toString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var rewardDelimiterIndex = decoded.indexOf(REWARD_DELIMITER);
+            if (rewardDelimiterIndex >= 0)
+                return new PostCursor(Long.parseLong(decoded.substring(0, rewardDelimiterIndex)), null,
+                        Long.parseLong(decoded.substring(rewardDelimiterIndex + 1)));
+            var delimiterIndex = decoded.indexOf(DELIMITER);
+            if (delimiterIndex < 0)
+                return new PostCursor(Long.parseLong(decoded));
+            return new PostCursor(Long.parseLong(decoded.substring(0, delimiterIndex)),
+                    Double.parseDouble(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new CursorNotValidException(cursor);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.limvik.backend.dto;
+
+import com.limvik.backend.domain.PostDescription;
+import com.limvik.backend.domain.PostDetailsDocument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 채용공고 상세 응답. 채용내용은 압축한 채로 들고 있다가 응답을 쓸 때 풀면서 씁니다.
+ */
+public record PostDetailsView(
+        PostDetailsDocument document,
+        PostDescription description,
+        List<Long> otherPostIds
+) {
+
+    public void writeTo(OutputStream out) throws IOException {
+        document.writeJson(description, otherPostIds, out);
+    }
+
+}
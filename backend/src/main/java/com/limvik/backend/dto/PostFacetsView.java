@@ -0,0 +1,12 @@
+package com.limvik.backend.dto;
+
+import java.util.Map;
+
+public record PostFacetsView(
+        Long total,
+        Map<String, Long> skills,
+        Map<String, Long> cities,
+        Map<String, Long> states,
+        Map<String, Long> rewards
+) {
+}
@@ -14,14 +14,37 @@ public record PostView(
         @JsonInclude(Include.NON_EMPTY)
         String jobDescription,
         @JsonInclude(Include.NON_EMPTY)
-        Long[] otherPostsByCompany
+        Long[] otherPostsByCompany,
+        @JsonInclude(Include.NON_NULL)
+        SnippetView snippet
 ) {
+    public PostView(Long id,
+                    CompanyView company,
+                    AddressView address,
+                    String positionName,
+                    Long reward,
+                    SkillView[] skills,
+                    String jobDescription,
+                    Long[] otherPostsByCompany) {
+        this(id, company, address, positionName, reward, skills, jobDescription, otherPostsByCompany, null);
+    }
+
     public static PostView postListOf(Long id,
                                       CompanyView company,
                                       AddressView address,
                                       String positionName,
                                       Long reward,
                                       SkillView[] skills) {
-        return new PostView(id, company, address, positionName, reward, skills, null, null);
+        return postListOf(id, company, address, positionName, reward, skills, null);
+    }
+
+    public static PostView postListOf(Long id,
+                                      CompanyView company,
+                                      AddressView address,
+                                      String positionName,
+                                      Long reward,
+                                      SkillView[] skills,
+                                      SnippetView snippet) {
+        return new PostView(id, company, address, positionName, reward, skills, null, null, snippet);
     }
 }
@@ -0,0 +1,15 @@
+package com.limvik.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+public record SavedSearchView(
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        Long id,
+        Long userId,
+        String search,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        Instant createdAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.limvik.backend.dto;
+
+import java.time.Instant;
+
+public record SearchNotificationView(
+        Long id,
+        Long postId,
+        Instant createdAt
+) {
+}
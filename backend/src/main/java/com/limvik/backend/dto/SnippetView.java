@@ -0,0 +1,7 @@
+package com.limvik.backend.dto;
+
+public record SnippetView(
+        String text,
+        HighlightView[] highlights
+) {
+}
@@ -0,0 +1,8 @@
+package com.limvik.backend.dto;
+
+public record SuggestionView(
+        String text,
+        String type,
+        Long count
+) {
+}
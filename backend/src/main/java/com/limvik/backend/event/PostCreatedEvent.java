@@ -0,0 +1,7 @@
+package com.limvik.backend.event;
+
+public record PostCreatedEvent(
+        Long postId,
+        Long companyId
+) {
+}
@@ -0,0 +1,17 @@
+package com.limvik.backend.event;
+
+import java.util.Set;
+
+/**
+ * 삭제한 채용공고의 채용포지션과 스킬은 커밋 후 DB 에서 읽을 수 없으므로 함께 전달합니다.
+ */
+public record PostDeletedEvent(
+        Long postId,
+        Long companyId,
+        String positionName,
+        Set<Long> skillIds
+) {
+    public PostDeletedEvent(Long postId, Long companyId) {
+        this(postId, companyId, null, Set.of());
+    }
+}
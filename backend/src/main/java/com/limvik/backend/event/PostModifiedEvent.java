@@ -0,0 +1,16 @@
+package com.limvik.backend.event;
+
+import java.util.Set;
+
+/**
+ * 수정 전 채용포지션과 스킬은 커밋 후 DB 에서 다시 읽을 수 없으므로 함께 전달합니다.
+ */
+public record PostModifiedEvent(
+        Long postId,
+        String previousPositionName,
+        Set<Long> previousSkillIds
+) {
+    public PostModifiedEvent(Long postId) {
+        this(postId, null, Set.of());
+    }
+}
@@ -0,0 +1,6 @@
+package com.limvik.backend.event;
+
+public record SavedSearchDeletedEvent(
+        Long savedSearchId
+) {
+}
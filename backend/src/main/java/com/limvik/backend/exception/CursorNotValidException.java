@@ -0,0 +1,11 @@
+package com.limvik.backend.exception;
+
+public class CursorNotValidException extends RuntimeException {
+
+    private static final String messageTemplate = "입력하신 커서(after) = %s 는 유효하지 않습니다.";
+
+    public CursorNotValidException(String cursor) {
+        super(messageTemplate.formatted(cursor));
+    }
+
+}
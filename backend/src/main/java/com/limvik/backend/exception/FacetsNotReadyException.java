@@ -0,0 +1,11 @@
+package com.limvik.backend.exception;
+
+public class FacetsNotReadyException extends RuntimeException {
+
+    private static final String message = "채용공고 집계를 준비하고 있습니다. 잠시 후 다시 시도해주세요.";
+
+    public FacetsNotReadyException() {
+        super(message);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.limvik.backend.exception;
+
+public class PostDuplicatedException extends RuntimeException {
+
+    private static final String messageTemplate = "비슷한 채용공고(id = %d)가 이미 등록되어 있습니다.";
+
+    public PostDuplicatedException(Long duplicateOf) {
+        super(messageTemplate.formatted(duplicateOf));
+    }
+
+}
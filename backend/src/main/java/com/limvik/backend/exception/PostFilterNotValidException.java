@@ -0,0 +1,9 @@
+package com.limvik.backend.exception;
+
+public class PostFilterNotValidException extends RuntimeException {
+
+    public PostFilterNotValidException(String reason) {
+        super(reason);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.limvik.backend.exception;
+
+public class SavedSearchNotFoundException extends RuntimeException {
+
+    private static final String messageTemplate = "입력하신 저장 검색식의 id = %d 는 존재하지 않습니다.";
+
+    public SavedSearchNotFoundException(Long savedSearchId) {
+        super(messageTemplate.formatted(savedSearchId));
+    }
+}
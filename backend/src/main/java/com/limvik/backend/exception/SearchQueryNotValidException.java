@@ -0,0 +1,11 @@
+package com.limvik.backend.exception;
+
+public class SearchQueryNotValidException extends RuntimeException {
+
+    private static final String messageTemplate = "입력하신 검색어(search) = %s 는 유효하지 않습니다. %s";
+
+    public SearchQueryNotValidException(String search, String reason) {
+        super(messageTemplate.formatted(search, reason));
+    }
+
+}
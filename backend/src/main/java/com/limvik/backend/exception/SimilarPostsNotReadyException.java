@@ -0,0 +1,11 @@
+package com.limvik.backend.exception;
+
+public class SimilarPostsNotReadyException extends RuntimeException {
+
+    private static final String message = "비슷한 채용공고 색인을 준비하고 있습니다. 잠시 후 다시 시도해주세요.";
+
+    public SimilarPostsNotReadyException() {
+        super(message);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.limvik.backend.exception;
+
+public class UserNotFoundException extends RuntimeException {
+
+    private static final String messageTemplate = "입력하신 사용자의 id = %d 는 존재하지 않습니다.";
+
+    public UserNotFoundException(Long userId) {
+        super(messageTemplate.formatted(userId));
+    }
+}
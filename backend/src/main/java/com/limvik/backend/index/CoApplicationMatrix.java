@@ -0,0 +1,336 @@
+package com.limvik.backend.index;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 사용자-채용공고 지원 관계를 CSR(compressed sparse row) 형식의 원시 타입 배열로 보관하고,
+ * "이 채용공고에 지원한 사용자가 지원한 다른 채용공고" 로 채용공고 간 유사도와 사용자별 추천을 계산합니다.
+ * 사용자와 채용공고는 id 순서의 번호(0 부터)로 바꿔 배열의 위치로 사용합니다.
+ * 채용공고 간 유사도는 함께 지원한 사용자 수를 각 채용공고 지원자 수로 정규화한 코사인 유사도입니다.
+ * 계산은 fork/join 으로 채용공고(또는 사용자) 번호 구간을 나눠 병렬로 하며, 구간마다 결과를 쓰는 위치가 겹치지 않습니다.
+ */
+public final class CoApplicationMatrix {
+
+    // 이 수보다 작은 구간은 더 나누지 않고 계산
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private final long[] userIds;
+    private final long[] postIds;
+    // 사용자 u 가 지원한 채용공고 번호는 userPosts[userStarts[u] ~ userStarts[u + 1]) 에 오름차순
+    private final int[] userStarts;
+    private final int[] userPosts;
+    // 채용공고 p 에 지원한 사용자 번호는 postUsers[postStarts[p] ~ postStarts[p + 1])
+    private final int[] postStarts;
+    private final int[] postUsers;
+    // 채용공고별로 유사도가 높은 채용공고 번호와 유사도. computeNeighbors() 전에는 null
+    private int[][] neighbors;
+    private float[][] similarities;
+
+    private CoApplicationMatrix(long[] userIds, long[] postIds, int[] userStarts, int[] userPosts) {
+        this.userIds = userIds;
+        this.postIds = postIds;
+        this.userStarts = userStarts;
+        this.userPosts = userPosts;
+        this.postStarts = new int[postIds.length + 1];
+        this.postUsers = new int[userPosts.length];
+        for (var post : userPosts)
+            postStarts[post + 1]++;
+        for (int post = 0; post < postIds.length; post++)
+            postStarts[post + 1] += postStarts[post];
+        var next = Arrays.copyOf(postStarts, postIds.length);
+        for (int user = 0; user < userIds.length; user++) {
+            for (int i = userStarts[user]; i < userStarts[user + 1]; i++)
+                postUsers[next[userPosts[i]]++] = user;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    public int postCount() {
+        return postIds.length;
+    }
+
+    public long userId(int user) {
+        return userIds[user];
+    }
+
+    /**
+     * 채용공고마다 유사도가 높은 채용공고를 limit 개까지 계산합니다.
+     */
+    public void computeNeighbors(ForkJoinPool pool, int limit) {
+        neighbors = new int[postIds.length][];
+        similarities = new float[postIds.length][];
+        pool.invoke(new NeighborTask(0, postIds.length, limit));
+    }
+
+    /**
+     * postId 와 유사도가 높은 채용공고 id 를 유사도 순서로 반환합니다.
+     */
+    public long[] neighborPostIds(long postId) {
+        int post = Arrays.binarySearch(postIds, postId);
+        if (post < 0) return new long[0];
+        return Arrays.stream(neighbors[post]).mapToLong(neighbor -> postIds[neighbor]).toArray();
+    }
+
+    /**
+     * fromUser 번부터 toUser 번 전까지 사용자의 추천 채용공고 id 를 limit 개까지 반환합니다.
+     * 사용자가 지원한 채용공고와 유사한 채용공고의 유사도를 더해 순위를 정하며, 이미 지원한 채용공고는 제외합니다.
+     */
+    public long[][] recommend(ForkJoinPool pool, int fromUser, int toUser, int limit) {
+        if (neighbors == null)
+            throw new IllegalStateException("채용공고 간 유사도를 먼저 계산해야 합니다.");
+        var recommendations = new long[toUser - fromUser][];
+        pool.invoke(new RecommendTask(fromUser, toUser, fromUser, limit, recommendations));
+        return recommendations;
+    }
+
+    private int degree(int post) {
+        return postStarts[post + 1] - postStarts[post];
+    }
+
+    private boolean applied(int user, int post) {
+        return Arrays.binarySearch(userPosts, userStarts[user], userStarts[user + 1], post) >= 0;
+    }
+
+    private class NeighborTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int limit;
+
+        private NeighborTask(int from, int to, int limit) {
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new NeighborTask(from, middle, limit), new NeighborTask(middle, to, limit));
+                return;
+            }
+            // 구간 안에서 재사용. 값을 올린 위치는 touched 에 기록해 두었다가 그 위치만 0 으로 되돌림
+            var counts = new int[postIds.length];
+            var touched = new int[postIds.length];
+            var top = new TopK(limit);
+            for (int post = from; post < to; post++) {
+                int touchedSize = 0;
+                for (int i = postStarts[post]; i < postStarts[post + 1]; i++) {
+                    int user = postUsers[i];
+                    for (int j = userStarts[user]; j < userStarts[user + 1]; j++) {
+                        int other = userPosts[j];
+                        if (other != post && counts[other]++ == 0)
+                            touched[touchedSize++] = other;
+                    }
+                }
+                for (int i = 0; i < touchedSize; i++) {
+                    int other = touched[i];
+                    top.offer(other, (float) (counts[other] / Math.sqrt((double) degree(post) * degree(other))));
+                    counts[other] = 0;
+                }
+                int count = top.drain();
+                neighbors[post] = Arrays.copyOf(top.ids, count);
+                similarities[post] = Arrays.copyOf(top.scores, count);
+            }
+        }
+    }
+
+    private class RecommendTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int offset;
+        private final int limit;
+        private final long[][] recommendations;
+
+        private RecommendTask(int from, int to, int offset, int limit, long[][] recommendations) {
+            this.from = from;
+            this.to = to;
+            this.offset = offset;
+            this.limit = limit;
+            this.recommendations = recommendations;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RecommendTask(from, middle, offset, limit, recommendations),
+                        new RecommendTask(middle, to, offset, limit, recommendations));
+                return;
+            }
+            var scores = new float[postIds.length];
+            var touched = new int[postIds.length];
+            var top = new TopK(limit);
+            for (int user = from; user < to; user++) {
+                int touchedSize = 0;
+                for (int i = userStarts[user]; i < userStarts[user + 1]; i++) {
+                    int post = userPosts[i];
+                    for (int j = 0; j < neighbors[post].length; j++) {
+                        int other = neighbors[post][j];
+                        if (scores[other] == 0f) touched[touchedSize++] = other;
+                        scores[other] += similarities[post][j];
+                    }
+                }
+                for (int i = 0; i < touchedSize; i++) {
+                    int other = touched[i];
+                    if (!applied(user, other)) top.offer(other, scores[other]);
+                    scores[other] = 0f;
+                }
+                var recommendation = new long[top.drain()];
+                for (int i = 0; i < recommendation.length; i++)
+                    recommendation[i] = postIds[top.ids[i]];
+                recommendations[user - offset] = recommendation;
+            }
+        }
+    }
+
+    /**
+     * 점수가 높은 limit 개를 보관하는 최소 힙. 점수가 같으면 번호가 큰(최신) 채용공고를 우선합니다.
+     */
+    private static final class TopK {
+
+        private final int[] ids;
+        private final float[] scores;
+        private int size;
+
+        private TopK(int limit) {
+            this.ids = new int[limit];
+            this.scores = new float[limit];
+        }
+
+        private void offer(int id, float score) {
+            if (ids.length == 0) return;
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (less(0, id, score)) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        // 최소값을 힙의 끝으로 옮기는 힙 정렬로, 앞에서부터 점수가 높은 순서가 되도록 정렬한 뒤 비움
+        private int drain() {
+            int count = size;
+            while (size > 1) {
+                swap(0, --size);
+                siftDown(0);
+            }
+            size = 0;
+            return count;
+        }
+
+        private boolean less(int i, int id, float score) {
+            return scores[i] < score || (scores[i] == score && ids[i] < id);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!less(i, ids[parent], scores[parent])) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (less(child, ids[smallest], scores[smallest])) smallest = child;
+                }
+                if (smallest == i) return;
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            float score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+
+    /**
+     * (사용자 id, 채용공고 id) 지원 관계를 모아 행렬을 만듭니다. 같은 관계가 여러 번 추가되어도 한 번으로 봅니다.
+     */
+    public static final class Builder {
+
+        private long[] userIds = new long[1_024];
+        private long[] postIds = new long[1_024];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(long userId, long postId) {
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+                postIds = Arrays.copyOf(postIds, size * 2);
+            }
+            userIds[size] = userId;
+            postIds[size++] = postId;
+            return this;
+        }
+
+        public CoApplicationMatrix build() {
+            var users = distinct(userIds);
+            var posts = distinct(postIds);
+            var userStarts = new int[users.length + 1];
+            var userOf = new int[size];
+            for (int i = 0; i < size; i++) {
+                userOf[i] = Arrays.binarySearch(users, userIds[i]);
+                userStarts[userOf[i] + 1]++;
+            }
+            for (int user = 0; user < users.length; user++)
+                userStarts[user + 1] += userStarts[user];
+            var next = Arrays.copyOf(userStarts, users.length);
+            var userPosts = new int[size];
+            for (int i = 0; i < size; i++)
+                userPosts[next[userOf[i]]++] = Arrays.binarySearch(posts, postIds[i]);
+
+            // 사용자별로 정렬하고 중복을 지워 앞으로 모음
+            int length = 0;
+            var compactedStarts = new int[users.length + 1];
+            for (int user = 0; user < users.length; user++) {
+                Arrays.sort(userPosts, userStarts[user], userStarts[user + 1]);
+                compactedStarts[user] = length;
+                for (int i = userStarts[user]; i < userStarts[user + 1]; i++) {
+                    if (length == compactedStarts[user] || userPosts[length - 1] != userPosts[i])
+                        userPosts[length++] = userPosts[i];
+                }
+            }
+            compactedStarts[users.length] = length;
+            return new CoApplicationMatrix(users, posts, compactedStarts, Arrays.copyOf(userPosts, length));
+        }
+
+        private long[] distinct(long[] ids) {
+            var sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+            int length = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (length == 0 || sorted[length - 1] != sorted[i])
+                    sorted[length++] = sorted[i];
+            }
+            return Arrays.copyOf(sorted, length);
+        }
+    }
+
+}
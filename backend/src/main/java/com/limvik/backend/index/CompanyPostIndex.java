@@ -0,0 +1,158 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.CompanyPostId;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회사 id 별로 채용공고 id 를 오름차순 long 배열로 보관합니다.
+ * 배열은 변경하지 않고 교체(copy-on-write)하므로 조회는 잠금 없이 수행합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class CompanyPostIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final long[] EMPTY = new long[0];
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, long[]> postIdsByCompanyId = new ConcurrentHashMap<>();
+    // 읽는 중에 삭제된 채용공고 id. 읽은 결과에 남아 있을 수 있으므로 교체할 때 뺌
+    private final Set<Long> deletedWhileLoading = new HashSet<>();
+    private boolean loading = false;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> getPostIds(Long companyId, long excludedPostId, long after, int limit) {
+        var postIds = postIdsByCompanyId.getOrDefault(companyId, EMPTY);
+        var from = Arrays.binarySearch(postIds, after);
+        from = from >= 0 ? from + 1 : -from - 1;
+
+        List<Long> result = new ArrayList<>(Math.min(limit, postIds.length - from));
+        for (int i = from; i < postIds.length && result.size() < limit; i++) {
+            if (postIds[i] != excludedPostId)
+                result.add(postIds[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 잠금 없이 따로 읽은 뒤 잠금 안에서 합칩니다. 읽는 동안 커밋 후 이벤트 처리(요청 스레드)를 막지 않습니다.
+     * 읽는 동안 등록된 채용공고는 맵에 이미 들어 있으므로 합집합으로 남기고, 삭제된 채용공고는 기록해 두었다가 뺍니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            loading = true;
+        }
+        Map<Long, LongArrayBuilder> loaded = new HashMap<>();
+        long after = 0L;
+        Slice<CompanyPostId> companyPostIds;
+        do {
+            companyPostIds = postRepository.findCompanyPostIds(after, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (var companyPostId : companyPostIds) {
+                loaded.computeIfAbsent(companyPostId.companyId(), id -> new LongArrayBuilder())
+                        .add(companyPostId.postId());
+                after = companyPostId.postId();
+            }
+        } while (companyPostIds.hasNext());
+
+        synchronized (this) {
+            loaded.forEach((companyId, postIds) -> {
+                var merged = union(postIdsByCompanyId.getOrDefault(companyId, EMPTY), postIds.toArray());
+                for (var postId : deletedWhileLoading)
+                    merged = remove(merged, postId);
+                if (merged.length == 0) postIdsByCompanyId.remove(companyId);
+                else postIdsByCompanyId.put(companyId, merged);
+            });
+            deletedWhileLoading.clear();
+            loading = false;
+            ready = true;
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onPostCreated(PostCreatedEvent event) {
+        postIdsByCompanyId.compute(event.companyId(), (companyId, postIds) ->
+                insert(postIds == null ? EMPTY : postIds, event.postId()));
+    }
+
+    @TransactionalEventListener
+    public synchronized void onPostDeleted(PostDeletedEvent event) {
+        postIdsByCompanyId.computeIfPresent(event.companyId(), (companyId, postIds) -> {
+            var removed = remove(postIds, event.postId());
+            return removed.length == 0 ? null : removed;
+        });
+        if (loading)
+            deletedWhileLoading.add(event.postId());
+    }
+
+    private static long[] insert(long[] postIds, long postId) {
+        var index = Arrays.binarySearch(postIds, postId);
+        if (index >= 0) return postIds;
+        index = -index - 1;
+        var inserted = new long[postIds.length + 1];
+        System.arraycopy(postIds, 0, inserted, 0, index);
+        inserted[index] = postId;
+        System.arraycopy(postIds, index, inserted, index + 1, postIds.length - index);
+        return inserted;
+    }
+
+    private static long[] remove(long[] postIds, long postId) {
+        var index = Arrays.binarySearch(postIds, postId);
+        if (index < 0) return postIds;
+        var removed = new long[postIds.length - 1];
+        System.arraycopy(postIds, 0, removed, 0, index);
+        System.arraycopy(postIds, index + 1, removed, index, postIds.length - index - 1);
+        return removed;
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        var merged = new long[a.length + b.length];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) next = a[i++];
+            else if (i >= a.length || b[j] < a[i]) next = b[j++];
+            else { next = a[i++]; j++; }
+            merged[size++] = next;
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    private static class LongArrayBuilder {
+        private long[] values = new long[8];
+        private int size = 0;
+
+        void add(long value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.config.DuplicatePostProperties;
+import com.limvik.backend.domain.PostDocument;
+import com.limvik.backend.domain.PostSignature;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.repository.PostSignatureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채용공고 MinHash 서명의 LSH bucket 별로 채용공고 id 를 보관해, 비슷한 채용공고 후보를 전체와 비교하지 않고 찾습니다.
+ * 후보는 저장된 서명으로 유사도를 다시 확인합니다. 그래서 수정/삭제된 채용공고의 예전 bucket 은 바로 지우지 않고,
+ * 후보를 확인할 때 현재 서명이 그 bucket 에 속하지 않으면 지웁니다.
+ * 시작 시 post_signatures 로 만들며 서명이 없는 채용공고는 서명을 계산해 저장합니다. 준비 전에는 DB 의 bucket 으로 후보를 찾습니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class DuplicatePostIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+
+    private final PostRepository postRepository;
+    private final PostSignatureRepository postSignatureRepository;
+    private final DuplicatePostProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> pendingPostIds = new LinkedHashSet<>();
+    private Map<Long, long[]> postIdsByBucket = new HashMap<>();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean rejectsDuplicates() {
+        return properties.policy() == DuplicatePostProperties.Policy.REJECT;
+    }
+
+    public static int[] signatureOf(String positionName, String jobDescription) {
+        return MinHash.signature(positionName + "\n" + jobDescription);
+    }
+
+    /**
+     * signature 와 유사도가 기준 이상인 채용공고 중 가장 비슷한(같으면 먼저 등록된) 채용공고 id 를 반환합니다. 없으면 null 입니다.
+     */
+    public Long findDuplicate(int[] signature) {
+        var buckets = MinHash.buckets(signature);
+        Map<Long, List<Long>> candidates = ready ? findCandidates(buckets) : findStoredCandidates(buckets);
+        if (candidates.isEmpty()) return null;
+
+        Long duplicate = null;
+        double maxSimilarity = properties.threshold();
+        for (var candidate : postSignatureRepository.findAllById(candidates.keySet())) {
+            var candidateSignature = MinHash.fromBytes(candidate.getSignature());
+            var similarity = MinHash.similarity(signature, candidateSignature);
+            if (similarity > maxSimilarity || (similarity == maxSimilarity &&
+                    (duplicate == null || candidate.getPostId() < duplicate))) {
+                duplicate = candidate.getPostId();
+                maxSimilarity = similarity;
+            }
+            var currentBuckets = Arrays.stream(MinHash.buckets(candidateSignature)).boxed().toList();
+            candidates.get(candidate.getPostId()).removeAll(currentBuckets);
+        }
+        // 확인한 후보에는 현재 서명이 속하지 않는 bucket 만 남음
+        if (ready) removeStale(candidates);
+        return duplicate;
+    }
+
+    /**
+     * 채용공고의 서명과 bucket 을 저장합니다. 색인에는 트랜잭션이 끝난 뒤 채용공고 이벤트로 반영됩니다.
+     */
+    public void saveSignature(Long postId, int[] signature, Long duplicateOf) {
+        postSignatureRepository.save(new PostSignature(postId, MinHash.toBytes(signature), duplicateOf));
+        postSignatureRepository.replaceBuckets(postId, MinHash.buckets(signature));
+    }
+
+    /**
+     * 수정한 채용공고의 서명과 bucket 을 바꿉니다. 등록할 때 찾은 비슷한 채용공고는 그대로 둡니다.
+     */
+    public void updateSignature(Long postId, int[] signature) {
+        var duplicateOf = postSignatureRepository.findById(postId).map(PostSignature::getDuplicateOf).orElse(null);
+        saveSignature(postId, signature, duplicateOf);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postIdsByBucket.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 후보 채용공고 id 와 후보가 된 bucket
+    private Map<Long, List<Long>> findCandidates(long[] buckets) {
+        Map<Long, List<Long>> candidates = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (var bucket : buckets) {
+                for (var postId : postIdsByBucket.getOrDefault(bucket, new long[0]))
+                    candidates.computeIfAbsent(postId, id -> new ArrayList<>()).add(bucket);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return candidates;
+    }
+
+    private Map<Long, List<Long>> findStoredCandidates(long[] buckets) {
+        Map<Long, List<Long>> candidates = new HashMap<>();
+        for (var postId : postSignatureRepository.findPostIdsByBuckets(buckets))
+            candidates.put(postId, new ArrayList<>());
+        return candidates;
+    }
+
+    // 삭제된 채용공고는 서명이 없으므로 후보가 된 bucket 이 모두 남음
+    private void removeStale(Map<Long, List<Long>> staleBuckets) {
+        if (staleBuckets.values().stream().allMatch(Collection::isEmpty)) return;
+        lock.writeLock().lock();
+        try {
+            staleBuckets.forEach((postId, buckets) -> buckets.forEach(bucket -> remove(postIdsByBucket, bucket, postId)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, long[]> loaded = new HashMap<>();
+        long after = 0L;
+        Slice<PostSignature> signatures;
+        do {
+            signatures = postSignatureRepository.findPage(after, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (var signature : signatures)
+                add(loaded, signature.getPostId(), MinHash.fromBytes(signature.getSignature()));
+            if (signatures.hasContent())
+                after = signatures.getContent().get(signatures.getNumberOfElements() - 1).getPostId();
+        } while (signatures.hasNext());
+
+        // 서명을 저장하기 전에 등록된 채용공고
+        after = 0L;
+        Slice<PostDocument> documents;
+        do {
+            documents = postRepository.findDocumentsWithoutSignature(after, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (var document : documents) {
+                var signature = signatureOf(document.positionName(), document.jobDescription());
+                saveSignature(document.id(), signature, null);
+                add(loaded, document.id(), signature);
+            }
+            if (documents.hasContent())
+                after = documents.getContent().get(documents.getNumberOfElements() - 1).id();
+        } while (documents.hasNext());
+
+        synchronized (this) {
+            lock.writeLock().lock();
+            try {
+                postIdsByBucket = loaded;
+                reindex(pendingPostIds);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            pendingPostIds.clear();
+            ready = true;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        update(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostModified(PostModifiedEvent event) {
+        update(event.postId());
+    }
+
+    private synchronized void update(Long postId) {
+        if (!ready) {
+            pendingPostIds.add(postId);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            reindex(List.of(postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reindex(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        for (var signature : postSignatureRepository.findAllById(postIds))
+            add(postIdsByBucket, signature.getPostId(), MinHash.fromBytes(signature.getSignature()));
+    }
+
+    private static void add(Map<Long, long[]> target, long postId, int[] signature) {
+        for (var bucket : MinHash.buckets(signature)) {
+            var postIds = target.get(bucket);
+            if (postIds == null) {
+                target.put(bucket, new long[]{postId});
+            } else if (Arrays.stream(postIds).noneMatch(id -> id == postId)) {
+                var added = Arrays.copyOf(postIds, postIds.length + 1);
+                added[postIds.length] = postId;
+                target.put(bucket, added);
+            }
+        }
+    }
+
+    private static void remove(Map<Long, long[]> target, long bucket, long postId) {
+        var postIds = target.get(bucket);
+        if (postIds == null) return;
+        var remaining = Arrays.stream(postIds).filter(id -> id != postId).toArray();
+        if (remaining.length == 0) target.remove(bucket);
+        else target.put(bucket, remaining);
+    }
+
+}
@@ -0,0 +1,283 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PostFacetRow;
+import com.limvik.backend.domain.PostFacets;
+import com.limvik.backend.domain.PostFacets.FacetCount;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 스킬 id, 지역(city/state), 보상금 구간별로 채용공고 id 를 압축 비트맵(Roaring)으로 보관합니다.
+ * 집계는 조회 결과의 비트맵과 각 비트맵의 교집합 크기로 계산하므로 DB 를 조회하지 않습니다.
+ * 여러 스킬로 거르는 목록 조회도 스킬별 비트맵의 교집합/합집합으로 계산합니다.
+ * 시작 시 DB 에서 만들며, 그 동안 변경된 채용공고는 모아두었다가 준비되면 반영합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class FacetIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    // 보상금 구간의 경계. 구간은 [이전 경계, 다음 경계) 이며 마지막 구간은 상한이 없음
+    private static final long[] REWARD_BOUNDS = {0L, 500_000L, 1_000_000L, 2_000_000L};
+
+    private final PostRepository postRepository;
+    private final PositionSkillRepository positionSkillRepository;
+    private final SkillService skillService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> pendingPostIds = new LinkedHashSet<>();
+    private Bitmaps bitmaps = new Bitmaps();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 채용공고의 집계를 반환합니다. 스킬과 지역은 채용공고 수가 많은 limit 개만 반환합니다.
+     */
+    public PostFacets count(int limit) {
+        lock.readLock().lock();
+        try {
+            return count(null, bitmaps.all.getLongCardinality(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * postIds 채용공고의 집계를 반환합니다.
+     */
+    public PostFacets count(long[] postIds, int limit) {
+        var result = new RoaringBitmap();
+        for (var postId : postIds)
+            result.add(toInt(postId));
+        lock.readLock().lock();
+        try {
+            // 검색 결과에 삭제된 채용공고가 남아있을 수 있으므로 현재 채용공고로 한정
+            result.and(bitmaps.all);
+            return count(result, result.getLongCardinality(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * skillIds 를 모두(matchAll) 또는 하나 이상 요구하는 채용공고 id 를 after 보다 작은 것부터 내림차순으로 limit 개까지 반환합니다.
+     */
+    public long[] findPostIdsBySkillIds(Collection<Long> skillIds, boolean matchAll, long after, int limit) {
+        lock.readLock().lock();
+        try {
+            return page(matchSkills(skillIds, matchAll), after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap matchSkills(Collection<Long> skillIds, boolean matchAll) {
+        List<RoaringBitmap> posts = new ArrayList<>(skillIds.size());
+        for (var skillId : skillIds) {
+            var skillPosts = bitmaps.bySkillId.get(skillId);
+            if (skillPosts != null) posts.add(skillPosts);
+            else if (matchAll) return new RoaringBitmap();
+        }
+        if (posts.isEmpty()) return new RoaringBitmap();
+        // 교집합은 작은 비트맵부터 계산해 중간 결과를 작게 유지
+        return matchAll ? FastAggregation.and(posts.iterator()) : FastAggregation.or(posts.iterator());
+    }
+
+    // after 보다 작은 id 의 수(rank)를 구한 뒤, 그 바로 앞 순번부터 거꾸로 select 해 페이지를 만듦
+    private static long[] page(RoaringBitmap posts, long after, int limit) {
+        if (after <= 1 || limit <= 0) return new long[0];
+        long end = after > Integer.MAX_VALUE ? posts.getLongCardinality() : posts.rankLong((int) after - 1);
+        var postIds = new long[(int) Math.min(limit, end)];
+        for (int i = 0; i < postIds.length; i++)
+            postIds[i] = posts.select((int) (end - 1 - i));
+        return postIds;
+    }
+
+    private PostFacets count(RoaringBitmap result, long total, int limit) {
+        var skills = top(bitmaps.bySkillId, result, limit, skillId -> skillService.getSkillName(skillId).orElse(null));
+        var cities = top(bitmaps.byCity, result, limit, Function.identity());
+        var states = top(bitmaps.byState, result, limit, Function.identity());
+        List<FacetCount> rewards = new ArrayList<>(REWARD_BOUNDS.length);
+        for (int bucket = 0; bucket < REWARD_BOUNDS.length; bucket++) {
+            var posts = bitmaps.byRewardBucket[bucket];
+            long count = cardinality(posts, result);
+            if (count > 0) rewards.add(new FacetCount(rewardLabel(bucket), count));
+        }
+        return new PostFacets(total, skills, cities, states, rewards);
+    }
+
+    private static <K> List<FacetCount> top(Map<K, RoaringBitmap> bitmapsByKey, RoaringBitmap result, int limit,
+                                            Function<K, String> label) {
+        List<FacetCount> counts = new ArrayList<>();
+        bitmapsByKey.forEach((key, posts) -> {
+            long count = cardinality(posts, result);
+            var value = label.apply(key);
+            if (count > 0 && value != null) counts.add(new FacetCount(value, count));
+        });
+        counts.sort(Comparator.comparingLong(FacetCount::count).reversed().thenComparing(FacetCount::value));
+        return counts.size() > limit ? List.copyOf(counts.subList(0, limit)) : counts;
+    }
+
+    private static long cardinality(RoaringBitmap posts, RoaringBitmap result) {
+        return result == null ? posts.getLongCardinality() : RoaringBitmap.andCardinality(posts, result);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var loaded = new Bitmaps();
+        long after = 0L;
+        Slice<PostFacetRow> rows;
+        do {
+            rows = postRepository.findFacetRows(after, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            addAll(loaded, rows.getContent());
+            if (rows.hasContent())
+                after = rows.getContent().get(rows.getNumberOfElements() - 1).id();
+        } while (rows.hasNext());
+        loaded.runOptimize();
+
+        synchronized (this) {
+            lock.writeLock().lock();
+            try {
+                bitmaps = loaded;
+                reindex(pendingPostIds);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            pendingPostIds.clear();
+            ready = true;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        update(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostModified(PostModifiedEvent event) {
+        update(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        update(event.postId());
+    }
+
+    private synchronized void update(Long postId) {
+        if (!ready) {
+            pendingPostIds.add(postId);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            reindex(List.of(postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reindex(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        for (var postId : postIds)
+            bitmaps.remove(toInt(postId));
+        addAll(bitmaps, postRepository.findFacetRowsByIds(postIds));
+    }
+
+    private void addAll(Bitmaps target, List<PostFacetRow> rows) {
+        if (rows.isEmpty()) return;
+        for (var row : rows) {
+            int postId = toInt(row.id());
+            target.all.add(postId);
+            if (row.city() != null)
+                target.byCity.computeIfAbsent(row.city(), city -> new RoaringBitmap()).add(postId);
+            if (row.state() != null)
+                target.byState.computeIfAbsent(row.state(), state -> new RoaringBitmap()).add(postId);
+            if (row.reward() != null)
+                target.byRewardBucket[rewardBucket(row.reward())].add(postId);
+        }
+        var postIds = rows.stream().map(PostFacetRow::id).toList();
+        for (var ids : positionSkillRepository.findIdsByPostIds(postIds))
+            target.bySkillId.computeIfAbsent(ids.getSkillId(), skillId -> new RoaringBitmap()).add(toInt(ids.getPostId()));
+    }
+
+    private static int rewardBucket(long reward) {
+        int bucket = 0;
+        while (bucket + 1 < REWARD_BOUNDS.length && reward >= REWARD_BOUNDS[bucket + 1])
+            bucket++;
+        return bucket;
+    }
+
+    // "하한-상한" (상한 미포함), 마지막 구간은 "하한-"
+    private static String rewardLabel(int bucket) {
+        var upper = bucket + 1 < REWARD_BOUNDS.length ? String.valueOf(REWARD_BOUNDS[bucket + 1]) : "";
+        return REWARD_BOUNDS[bucket] + "-" + upper;
+    }
+
+    private static int toInt(long postId) {
+        if (postId < 0 || postId > Integer.MAX_VALUE)
+            throw new IllegalStateException("집계할 수 없는 채용공고 id 입니다: " + postId);
+        return (int) postId;
+    }
+
+    private static class Bitmaps {
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<Long, RoaringBitmap> bySkillId = new HashMap<>();
+        private final Map<String, RoaringBitmap> byCity = new HashMap<>();
+        private final Map<String, RoaringBitmap> byState = new HashMap<>();
+        private final RoaringBitmap[] byRewardBucket = new RoaringBitmap[REWARD_BOUNDS.length];
+
+        private Bitmaps() {
+            for (int bucket = 0; bucket < byRewardBucket.length; bucket++)
+                byRewardBucket[bucket] = new RoaringBitmap();
+        }
+
+        private void remove(int postId) {
+            if (!all.contains(postId)) return;
+            all.remove(postId);
+            bySkillId.values().forEach(posts -> posts.remove(postId));
+            byCity.values().forEach(posts -> posts.remove(postId));
+            byState.values().forEach(posts -> posts.remove(postId));
+            for (var posts : byRewardBucket)
+                posts.remove(postId);
+        }
+
+        // 연속된 id 구간을 run 으로 압축
+        private void runOptimize() {
+            all.runOptimize();
+            bySkillId.values().forEach(RoaringBitmap::runOptimize);
+            byCity.values().forEach(RoaringBitmap::runOptimize);
+            byState.values().forEach(RoaringBitmap::runOptimize);
+            for (var posts : byRewardBucket)
+                posts.runOptimize();
+        }
+    }
+
+}
@@ -0,0 +1,594 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PostSearchHit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 토큰별로 문서 번호를 오름차순으로 보관하는 역색인입니다. 점수는 BM25 로 계산합니다.
+ * 문서 번호는 추가된 순서대로 부여하며, 수정/삭제된 문서는 삭제 표시(tombstone)만 합니다.
+ * 삭제 표시된 문서가 전체의 1/4 을 넘거나 문서 번호가 부족하면 살아있는 문서의 번호를 순서대로 다시 매겨 정리(compaction)합니다.
+ * posting 은 (문서 번호 << 8 | 토큰 빈도) 로 int 하나에 담고, 문서 안의 토큰 위치를 함께 보관합니다.
+ * 여러 토큰으로 나뉘는 단어와 구문은 토큰이 위치 순서대로 이어진 문서만 찾습니다.
+ * 상위 문서를 모은 뒤에는 나머지 토큰의 최대 점수로 순위에 들 수 없는 문서를 걸러 교집합 확인을 생략합니다.
+ * OR/NOT 이 있는 검색식은 절마다 문서 목록을 만들어 한 번에 병합합니다.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_TERM_FREQUENCY = 0xFF;
+    private static final int MAX_DOCUMENTS = 1 << 23;
+    private static final int LINEAR_SCAN_LIMIT = 8;
+    private static final int MAX_CACHED_LENGTH = 4096;
+    private static final int MIN_COMPACTION_DELETED = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Integer> documentByPostId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] postIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int documentCount = 0;
+    private int deletedCount = 0;
+    private long totalLength = 0L;
+    private int maxLength = 0;
+
+    public void add(long postId, Map<String, Integer> termFrequencies, TermPositions termPositions, int length) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+            if (documentCount == MAX_DOCUMENTS && deletedCount > 0)
+                compact();
+            if (documentCount == MAX_DOCUMENTS)
+                throw new IllegalStateException("색인할 수 있는 문서 수를 초과했습니다.");
+            int document = documentCount++;
+            if (document == postIds.length) {
+                postIds = Arrays.copyOf(postIds, document * 2);
+                lengths = Arrays.copyOf(lengths, document * 2);
+            }
+            postIds[document] = postId;
+            lengths[document] = length;
+            maxLength = Math.max(maxLength, length);
+            totalLength += length;
+            documentByPostId.put(postId, document);
+            termFrequencies.forEach((term, frequency) -> postingsByTerm
+                    .computeIfAbsent(term, t -> new Postings())
+                    .add(document << 8 | Math.min(frequency, MAX_TERM_FREQUENCY), termPositions.positions(term)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(long postId) {
+        var document = documentByPostId.remove(postId);
+        if (document == null) return;
+        deleted.set(document);
+        deletedCount++;
+        totalLength -= lengths[document];
+        if (deletedCount >= MIN_COMPACTION_DELETED && deletedCount * 4L > documentCount)
+            compact();
+    }
+
+    /**
+     * 살아있는 문서에 0 부터 순서대로 번호를 다시 매기고 삭제된 문서의 posting 을 지웁니다.
+     * 번호의 순서가 유지되므로 posting 은 정렬된 상태로 남습니다.
+     */
+    private void compact() {
+        var renumbered = new int[documentCount];
+        int live = 0;
+        maxLength = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (deleted.get(document)) {
+                renumbered[document] = -1;
+                continue;
+            }
+            renumbered[document] = live;
+            postIds[live] = postIds[document];
+            lengths[live] = lengths[document];
+            maxLength = Math.max(maxLength, lengths[live]);
+            documentByPostId.put(postIds[live], live);
+            live++;
+        }
+        postingsByTerm.values().removeIf(postings -> postings.renumber(renumbered) == 0);
+        documentCount = live;
+        deletedCount = 0;
+        deleted.clear();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentByPostId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 아직 정리하지 않은 삭제 표시 문서 수
+    public int deletedSize() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 토큰을 포함하는 문서 중 (점수, 채용공고 id) 내림차순으로 (afterScore, afterId) 다음에 오는 문서를 limit 개까지 반환합니다.
+     */
+    public List<PostSearchHit> search(Collection<String> terms, double afterScore, long afterId, int limit) {
+        return search(terms, List.of(), afterScore, afterId, limit);
+    }
+
+    // sequences 는 모든 토큰을 포함한 문서 중 추가로 위치가 이어져 있어야 하는 토큰 목록
+    private List<PostSearchHit> search(Collection<String> terms, List<List<String>> sequences,
+                                       double afterScore, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty() || documentByPostId.isEmpty()) return List.of();
+            List<Postings> postingsList = new ArrayList<>(terms.size());
+            for (var term : terms) {
+                var postings = postingsByTerm.get(term);
+                if (postings == null) return List.of();
+                postingsList.add(postings);
+            }
+            postingsList.sort(Comparator.comparingInt(postings -> postings.size));
+            return collect(postingsList, sequences, afterScore, afterId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색식을 만족하는 문서를 search(terms, ...) 와 같은 순서로 반환합니다.
+     * AND 로만 이루어진 검색식은 토큰 교집합으로 찾고, OR/NOT 이 있으면 절마다 (문서 번호, 점수) 목록을 만들어 병합합니다.
+     * 점수는 포함한 토큰의 BM25 점수 합이며, NOT 절의 토큰은 점수에 더하지 않습니다.
+     */
+    public List<PostSearchHit> search(SearchQuery query, double afterScore, long afterId, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        List<List<String>> sequences = new ArrayList<>();
+        if (collectConjunctiveTerms(query, terms, sequences))
+            return search(terms, sequences, afterScore, afterId, limit);
+
+        lock.readLock().lock();
+        try {
+            if (documentByPostId.isEmpty()) return List.of();
+            var matches = evaluate(query, new Scoring());
+            var topHits = new TopHits(limit);
+            for (int i = matches.size() - 1; i >= 0; i--) {
+                long postId = postIds[matches.documents()[i]];
+                double score = matches.scores()[i];
+                if (score > afterScore || (score == afterScore && postId >= afterId)) continue;
+                topHits.offer(postId, score);
+            }
+            return topHits.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색식을 만족하는 모든 문서의 채용공고 id 를 반환합니다. 점수 순서와 관계없는 집계에 사용합니다.
+     */
+    public long[] findPostIds(SearchQuery query) {
+        lock.readLock().lock();
+        try {
+            if (documentByPostId.isEmpty()) return new long[0];
+            var matches = evaluate(query, new Scoring());
+            var result = new long[matches.size()];
+            for (int i = 0; i < result.length; i++)
+                result[i] = postIds[matches.documents()[i]];
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean collectConjunctiveTerms(SearchQuery query, Set<String> terms,
+                                                   List<List<String>> sequences) {
+        if (query instanceof SearchQuery.Text text) {
+            // 토큰이 없는 단어는 어떤 문서와도 맞지 않으므로 절 단위로 평가
+            var textTerms = text.terms();
+            if (textTerms.isEmpty()) return false;
+            terms.addAll(textTerms);
+            if (textTerms.size() > 1) sequences.add(textTerms);
+            return true;
+        }
+        if (query instanceof SearchQuery.SkillFilter skill) {
+            terms.add(skill.term());
+            return true;
+        }
+        if (query instanceof SearchQuery.And and) {
+            for (var clause : and.clauses()) {
+                if (!collectConjunctiveTerms(clause, terms, sequences)) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private Matches evaluate(SearchQuery query, Scoring scoring) {
+        if (query instanceof SearchQuery.Text text) {
+            var terms = text.terms();
+            var matches = intersectTerms(new LinkedHashSet<>(terms), scoring);
+            return terms.size() > 1 ? matches.filter(document -> containsSequence(document, terms)) : matches;
+        }
+        if (query instanceof SearchQuery.SkillFilter skill)
+            return termMatches(skill.term(), scoring);
+        if (query instanceof SearchQuery.Or or) {
+            Matches result = Matches.EMPTY;
+            for (var clause : or.clauses())
+                result = result.union(evaluate(clause, scoring));
+            return result;
+        }
+        if (query instanceof SearchQuery.And and) {
+            Matches result = null;
+            for (var clause : and.clauses()) {
+                if (clause instanceof SearchQuery.Not) continue;
+                var matches = evaluate(clause, scoring);
+                result = result == null ? matches : result.intersect(matches);
+                if (result.size() == 0) return result;
+            }
+            if (result == null)
+                throw new IllegalArgumentException("제외하지 않는 절이 없는 검색식은 평가할 수 없습니다.");
+            for (var clause : and.clauses()) {
+                if (clause instanceof SearchQuery.Not not)
+                    result = result.subtract(evaluate(not.clause(), scoring));
+            }
+            return result;
+        }
+        throw new IllegalArgumentException("제외하는 절만으로는 검색식을 평가할 수 없습니다.");
+    }
+
+    private Matches intersectTerms(Collection<String> terms, Scoring scoring) {
+        if (terms.isEmpty()) return Matches.EMPTY;
+        List<Matches> matchesList = new ArrayList<>(terms.size());
+        for (var term : terms)
+            matchesList.add(termMatches(term, scoring));
+        matchesList.sort(Comparator.comparingInt(Matches::size));
+        var result = matchesList.get(0);
+        for (int i = 1; i < matchesList.size() && result.size() > 0; i++)
+            result = result.intersect(matchesList.get(i));
+        return result;
+    }
+
+    // 모든 토큰을 포함한 문서에서 토큰이 순서대로 이어져 있는지 확인
+    private boolean containsSequence(int document, List<String> terms) {
+        var positions = new int[terms.size()][];
+        for (int i = 0; i < positions.length; i++) {
+            var postings = postingsByTerm.get(terms.get(i));
+            int index = postings == null ? -1 : postings.indexOf(document);
+            if (index < 0) return false;
+            positions[i] = postings.positions[index];
+        }
+        return TermPositions.isSequence(positions);
+    }
+
+    private Matches termMatches(String term, Scoring scoring) {
+        var postings = postingsByTerm.get(term);
+        if (postings == null) return Matches.EMPTY;
+        double weight = scoring.weight(postings.size);
+        var documents = new int[postings.size];
+        var scores = new double[postings.size];
+        int size = 0;
+        for (int i = 0; i < postings.size; i++) {
+            int document = postings.entries[i] >>> 8;
+            if (deleted.get(document)) continue;
+            documents[size] = document;
+            scores[size++] = termScore(weight, postings.entries[i] & MAX_TERM_FREQUENCY, scoring.normalization(document));
+        }
+        return new Matches(documents, scores, size);
+    }
+
+    private List<PostSearchHit> collect(List<Postings> postingsList, List<List<String>> sequences,
+                                        double afterScore, long afterId, int limit) {
+        var scoring = new Scoring();
+        // 토큰별 idf * (k1 + 1) 을 미리 계산
+        var weights = new double[postingsList.size()];
+        for (int i = 0; i < weights.length; i++)
+            weights[i] = scoring.weight(postingsList.get(i).size);
+
+        // 나머지 토큰의 최대 점수는 문서 길이에만 의존하므로 길이별로 한 번만 계산
+        var maxRestScores = new double[Math.min(maxLength, MAX_CACHED_LENGTH) + 1];
+        Arrays.fill(maxRestScores, -1);
+
+        // 점수가 같으면 채용공고 id 가 큰 문서가 앞서므로, 최근에 추가된 문서부터 거꾸로 순회해 교체를 줄임
+        var lead = postingsList.get(0);
+        var positions = new int[postingsList.size()];
+        for (int j = 0; j < positions.length; j++)
+            positions[j] = postingsList.get(j).size - 1;
+        var frequencies = new int[postingsList.size()];
+        var topHits = new TopHits(limit);
+        for (int i = lead.size - 1; i >= 0; i--) {
+            int document = lead.entries[i] >>> 8;
+            if (deleted.get(document)) continue;
+            long postId = postIds[document];
+            double normalization = scoring.normalization(document);
+            int leadFrequency = lead.entries[i] & MAX_TERM_FREQUENCY;
+            double leadScore = termScore(weights[0], leadFrequency, normalization);
+
+            // 나머지 토큰이 최대 빈도로 나타나도 가장 낮은 순위보다 높을 수 없으면 교집합을 확인하지 않음
+            if (topHits.isFull()) {
+                double maxScore = leadScore +
+                        maxRestScore(postingsList, weights, maxRestScores, lengths[document], normalization);
+                if (!topHits.accepts(postId, maxScore)) continue;
+            }
+
+            if (!retreatAll(postingsList, positions, frequencies, document)
+                    || !containsSequences(document, sequences)) continue;
+            double restScore = 0;
+            for (int j = 1; j < frequencies.length; j++)
+                restScore += termScore(weights[j], frequencies[j], normalization);
+            double score = leadScore + restScore;
+
+            if (score > afterScore || (score == afterScore && postId >= afterId)) continue;
+            topHits.offer(postId, score);
+        }
+        return topHits.toList();
+    }
+
+    private boolean containsSequences(int document, List<List<String>> sequences) {
+        for (var sequence : sequences) {
+            if (!containsSequence(document, sequence)) return false;
+        }
+        return true;
+    }
+
+    private static double maxRestScore(List<Postings> postingsList, double[] weights, double[] cache,
+                                       int length, double normalization) {
+        if (length < cache.length && cache[length] >= 0) return cache[length];
+        double maxScore = 0;
+        for (int j = 1; j < weights.length; j++) {
+            int maxFrequency = postingsList.get(j).maxFrequency;
+            maxScore += termScore(weights[j], maxFrequency, normalization);
+        }
+        if (length < cache.length) cache[length] = maxScore;
+        return maxScore;
+    }
+
+    // 빈도에 대해 단조 증가하도록 비율을 먼저 계산하므로, 최대 빈도로 계산한 점수는 실제 점수보다 작아지지 않음
+    private static double termScore(double weight, int frequency, double normalization) {
+        return weight * (frequency / (frequency + normalization));
+    }
+
+    private static boolean retreatAll(List<Postings> postingsList, int[] positions, int[] frequencies, int document) {
+        for (int j = 1; j < positions.length; j++) {
+            var postings = postingsList.get(j);
+            positions[j] = postings.retreat(positions[j], document);
+            if (positions[j] < 0 || postings.entries[positions[j]] >>> 8 != document)
+                return false;
+            frequencies[j] = postings.entries[positions[j]] & MAX_TERM_FREQUENCY;
+        }
+        return true;
+    }
+
+    // positions[i] 는 entries[i] 문서 안의 토큰 위치(오름차순)
+    private static class Postings {
+        private int[] entries = new int[4];
+        private int[][] positions = new int[4][];
+        private int size = 0;
+        private int maxFrequency = 0;
+
+        private void add(int entry, int[] documentPositions) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size] = documentPositions;
+            entries[size++] = entry;
+            maxFrequency = Math.max(maxFrequency, entry & MAX_TERM_FREQUENCY);
+        }
+
+        // 삭제된 문서(-1)를 지우고 번호를 바꾼 뒤 남은 수를 반환
+        private int renumber(int[] renumbered) {
+            int count = 0;
+            maxFrequency = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[entries[i] >>> 8];
+                if (document < 0) continue;
+                int frequency = entries[i] & MAX_TERM_FREQUENCY;
+                positions[count] = positions[i];
+                entries[count++] = document << 8 | frequency;
+                maxFrequency = Math.max(maxFrequency, frequency);
+            }
+            Arrays.fill(positions, count, size, null);
+            size = count;
+            if (entries.length > 4 && count < entries.length / 4) {
+                entries = Arrays.copyOf(entries, Math.max(4, count * 2));
+                positions = Arrays.copyOf(positions, entries.length);
+            }
+            return count;
+        }
+
+        // document 의 위치를 이진 탐색으로 찾고, 없으면 -1 을 반환
+        private int indexOf(int document) {
+            int low = 0, high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int current = entries[mid] >>> 8;
+                if (current < document) low = mid + 1;
+                else if (current > document) high = mid - 1;
+                else return mid;
+            }
+            return -1;
+        }
+
+        // from 부터 앞쪽으로 document 이하인 첫 위치를 찾음. 가까운 위치는 순차 탐색, 먼 위치는 지수 탐색 후 이진 탐색
+        private int retreat(int from, int document) {
+            for (int end = Math.max(from - LINEAR_SCAN_LIMIT, -1); from > end; from--) {
+                if (entries[from] >>> 8 <= document) return from;
+            }
+            if (from < 0) return -1;
+            int bound = 1;
+            while (from - bound >= 0 && entries[from - bound] >>> 8 > document)
+                bound <<= 1;
+            int low = Math.max(from - bound, 0), high = from;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (entries[mid] >>> 8 > document) high = mid - 1;
+                else low = mid + 1;
+            }
+            return high;
+        }
+    }
+
+    // 현재 살아있는 문서 수와 평균 길이로 BM25 의 idf 와 문서 길이 정규화 값을 계산
+    private class Scoring {
+        private final int live = documentByPostId.size();
+        private final double normalizationBase = K1 * (1 - B);
+        private final double normalizationScale = K1 * B / Math.max(1.0, (double) totalLength / live);
+
+        private double weight(int documentFrequency) {
+            documentFrequency = Math.min(documentFrequency, live);
+            return Math.log(1 + (live - documentFrequency + 0.5) / (documentFrequency + 0.5)) * (K1 + 1);
+        }
+
+        private double normalization(int document) {
+            return normalizationBase + normalizationScale * lengths[document];
+        }
+    }
+
+    // 문서 번호 오름차순의 (문서 번호, 점수) 목록
+    private record Matches(int[] documents, double[] scores, int size) {
+
+        private static final Matches EMPTY = new Matches(new int[0], new double[0], 0);
+
+        private Matches filter(IntPredicate predicate) {
+            var documents = new int[size];
+            var scores = new double[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (!predicate.test(this.documents[i])) continue;
+                documents[count] = this.documents[i];
+                scores[count++] = this.scores[i];
+            }
+            return new Matches(documents, scores, count);
+        }
+
+        private Matches intersect(Matches other) {
+            var documents = new int[Math.min(size, other.size)];
+            var scores = new double[documents.length];
+            int count = 0;
+            for (int i = 0, j = 0; i < size && j < other.size; ) {
+                if (this.documents[i] < other.documents[j]) i++;
+                else if (this.documents[i] > other.documents[j]) j++;
+                else {
+                    documents[count] = this.documents[i];
+                    scores[count++] = this.scores[i++] + other.scores[j++];
+                }
+            }
+            return new Matches(documents, scores, count);
+        }
+
+        private Matches union(Matches other) {
+            var documents = new int[size + other.size];
+            var scores = new double[documents.length];
+            int count = 0, i = 0, j = 0;
+            while (i < size || j < other.size) {
+                if (j == other.size || (i < size && this.documents[i] < other.documents[j])) {
+                    documents[count] = this.documents[i];
+                    scores[count++] = this.scores[i++];
+                } else if (i == size || this.documents[i] > other.documents[j]) {
+                    documents[count] = other.documents[j];
+                    scores[count++] = other.scores[j++];
+                } else {
+                    documents[count] = this.documents[i];
+                    scores[count++] = this.scores[i++] + other.scores[j++];
+                }
+            }
+            return new Matches(documents, scores, count);
+        }
+
+        private Matches subtract(Matches other) {
+            var documents = new int[size];
+            var scores = new double[size];
+            int count = 0;
+            for (int i = 0, j = 0; i < size; i++) {
+                while (j < other.size && other.documents[j] < this.documents[i]) j++;
+                if (j < other.size && other.documents[j] == this.documents[i]) continue;
+                documents[count] = this.documents[i];
+                scores[count++] = this.scores[i];
+            }
+            return new Matches(documents, scores, count);
+        }
+    }
+
+    // (점수, 채용공고 id) 가 가장 높은 limit 개를 모음
+    private static class TopHits {
+        private final int limit;
+        private final PriorityQueue<Hit> queue;
+        private double minScore = -1;
+        private long minPostId = -1;
+
+        private TopHits(int limit) {
+            this.limit = limit;
+            this.queue = new PriorityQueue<>(limit + 1, Hit.ORDER);
+        }
+
+        private boolean isFull() {
+            return queue.size() == limit;
+        }
+
+        // 이미 limit 개를 모았다면 가장 낮은 순위보다 높은 경우에만 들어갈 수 있음
+        private boolean accepts(long postId, double score) {
+            return !isFull() || score > minScore || (score == minScore && postId >= minPostId);
+        }
+
+        private void offer(long postId, double score) {
+            if (limit <= 0 || !accepts(postId, score)) return;
+            queue.offer(new Hit(postId, score));
+            if (queue.size() > limit) queue.poll();
+            if (isFull()) {
+                minScore = queue.peek().score();
+                minPostId = queue.peek().id();
+            }
+        }
+
+        private List<PostSearchHit> toList() {
+            List<Hit> hits = new ArrayList<>(queue);
+            hits.sort(Hit.ORDER.reversed());
+            return List.copyOf(hits);
+        }
+    }
+
+    private record Hit(Long id, Double score) implements PostSearchHit {
+
+        private static final Comparator<Hit> ORDER =
+                Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::id);
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Double getScore() {
+            return score;
+        }
+    }
+
+}
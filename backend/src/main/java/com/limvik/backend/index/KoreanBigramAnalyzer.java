@@ -0,0 +1,65 @@
+package com.limvik.backend.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 글자/숫자가 이어진 구간을 토큰으로 나눕니다.
+ * 한글 구간은 조사가 붙어도 찾을 수 있도록 2글자씩(bigram) 나누고, 그 외 구간(영문, 숫자)은 단어 그대로 사용합니다.
+ */
+public final class KoreanBigramAnalyzer {
+
+    private KoreanBigramAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+
+        var normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                var hangul = isHangul(codePoint);
+                if (start >= 0 && hangul != hangulRun) {
+                    addRun(tokens, normalized.substring(start, i), hangulRun);
+                    start = -1;
+                }
+                if (start < 0) {
+                    start = i;
+                    hangulRun = hangul;
+                }
+            } else if (start >= 0) {
+                addRun(tokens, normalized.substring(start, i), hangulRun);
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0)
+            addRun(tokens, normalized.substring(start), hangulRun);
+        return tokens;
+    }
+
+    private static void addRun(List<String> tokens, String run, boolean hangul) {
+        if (!hangul || run.codePointCount(0, run.length()) < 2) {
+            tokens.add(run);
+            return;
+        }
+        int first = 0;
+        int second = run.offsetByCodePoints(first, 1);
+        while (second < run.length()) {
+            int end = run.offsetByCodePoints(second, 1);
+            tokens.add(run.substring(first, end));
+            first = second;
+            second = end;
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.limvik.backend.index;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 글자 단위 shingle 집합의 MinHash 서명과 LSH(locality-sensitive hashing) bucket 을 계산합니다.
+ * 두 서명에서 같은 자리의 값이 같은 비율이 두 shingle 집합의 Jaccard 유사도의 추정값입니다.
+ * 서명을 BANDS 개의 band 로 나누고 band 마다 bucket 을 만들어, 유사도가 높은 글일수록 bucket 을 하나 이상 공유할 확률이 높습니다.
+ * 서명은 DB 에 저장되므로 hash 함수의 seed 와 크기를 바꾸면 저장된 서명을 모두 다시 계산해야 합니다.
+ */
+public final class MinHash {
+
+    public static final int SIZE = 128;
+    public static final int BANDS = 16;
+    private static final int ROWS = SIZE / BANDS;
+    private static final int SHINGLE_LENGTH = 5;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final long[] MULTIPLIERS = new long[SIZE];
+    private static final long[] INCREMENTS = new long[SIZE];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SIZE; i++) {
+            // multiply-shift hash 의 곱수는 홀수여야 함
+            MULTIPLIERS[i] = mix(seed += 0x9E3779B97F4A7C15L) | 1L;
+            INCREMENTS[i] = mix(seed += 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * text 를 소문자로 바꾸고 공백을 하나로 줄인 뒤, SHINGLE_LENGTH 글자씩 겹쳐 자른 shingle 집합의 서명을 계산합니다.
+     */
+    public static int[] signature(String text) {
+        var normalized = WHITESPACE.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+        var signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, normalized.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = shingleHash(normalized, start, Math.min(normalized.length(), start + SHINGLE_LENGTH));
+            for (int i = 0; i < SIZE; i++) {
+                // 상위 31비트만 사용해 부호 없이 비교
+                int hash = (int) ((MULTIPLIERS[i] * shingle + INCREMENTS[i]) >>> 33);
+                if (hash < signature[i]) signature[i] = hash;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 두 서명으로 추정한 Jaccard 유사도(0 ~ 1)를 반환합니다.
+     */
+    public static double similarity(int[] signature, int[] other) {
+        int same = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (signature[i] == other[i]) same++;
+        }
+        return (double) same / SIZE;
+    }
+
+    /**
+     * band 별 bucket 을 반환합니다. band 번호를 함께 hash 하므로 서로 다른 band 의 bucket 은 겹치지 않습니다.
+     */
+    public static long[] buckets(int[] signature) {
+        var buckets = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long bucket = mix(band + 1L);
+            for (int row = band * ROWS; row < (band + 1) * ROWS; row++)
+                bucket = mix(bucket ^ signature[row]);
+            buckets[band] = bucket;
+        }
+        return buckets;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        var buffer = ByteBuffer.allocate(SIZE * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        var signature = new int[SIZE];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    private static long shingleHash(String text, int start, int end) {
+        long hash = 0L;
+        for (int i = start; i < end; i++)
+            hash = hash * 31 + text.charAt(i);
+        return mix(hash);
+    }
+
+    // splitmix64 의 마무리 단계
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+}
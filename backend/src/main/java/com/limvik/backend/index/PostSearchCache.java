@@ -0,0 +1,179 @@
+package com.limvik.backend.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.limvik.backend.domain.PostSearchHit;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색식별로 검색 결과 전체(최대 CACHED_HITS 개)의 채용공고 id 와 점수를 순서대로 보관합니다.
+ * 결과 일부만 보관하면 뒤쪽 페이지를 다른 시점의 점수로 만들게 되어 커서가 어긋나므로, 결과 전체를 담을 수 있을 때만 보관합니다.
+ * 크기는 보관한 결과 수로 제한하며 W-TinyLFU 로 내보냅니다.
+ * 채용공고가 바뀌면 그 채용공고가 결과에 있거나, 바뀐 내용이 검색식을 만족하는 항목만 무효화합니다.
+ * 항목은 결과의 채용공고 id 와 검색식의 토큰으로 찾으므로 무효화 비용은 캐시 크기와 관계없습니다.
+ */
+@Component
+public class PostSearchCache {
+
+    static final int CACHED_HITS = 200;
+    private static final long MAXIMUM_WEIGHT = 2_000_000L;
+
+    private final Cache<String, CachedHits> cache = Caffeine.newBuilder()
+            .maximumWeight(MAXIMUM_WEIGHT)
+            .weigher((String key, CachedHits cachedHits) -> key.length() + cachedHits.hits().size())
+            // 내보낸 항목을 바로 찾기 목록에서 지우도록 호출한 스레드에서 알림
+            .executor(Runnable::run)
+            .removalListener((String key, CachedHits cachedHits, RemovalCause cause) -> {
+                if (cachedHits != null) unregister(cachedHits);
+            })
+            .recordStats()
+            .build();
+    private final Map<Long, Set<CachedHits>> entriesByPostId = new ConcurrentHashMap<>();
+    private final Map<String, Set<CachedHits>> entriesByTerm = new ConcurrentHashMap<>();
+    // 무효화할 때마다 증가. 검색하는 동안 무효화가 있었다면 그 결과는 저장하지 않음
+    private long generation = 0L;
+
+    public Cache<String, CachedHits> getCache() {
+        return cache;
+    }
+
+    /**
+     * 캐시한 결과로 (afterScore, afterId) 다음 limit 개를 반환하고, 없으면 null 을 반환합니다.
+     */
+    public List<PostSearchHit> getPage(SearchQuery query, double afterScore, long afterId, int limit) {
+        var cachedHits = cache.getIfPresent(keyOf(query));
+        return cachedHits == null ? null : cachedHits.page(afterScore, afterId, limit);
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 검색 결과 전체를 보관합니다. CACHED_HITS 개보다 많으면 보관하지 않습니다.
+     */
+    public synchronized void put(SearchQuery query, List<PostSearchHit> hits, long generation) {
+        if (this.generation != generation || hits.size() > CACHED_HITS) return;
+        var cachedHits = new CachedHits(query, List.copyOf(hits), termsOf(query));
+        // 넣자마자 내보내져도 찾기 목록에서 지워지도록 먼저 등록
+        register(cachedHits);
+        cache.put(keyOf(query), cachedHits);
+    }
+
+    public synchronized void invalidate(Collection<Long> postIds, Collection<TermPositions> documents) {
+        generation++;
+        Set<CachedHits> invalidated = new HashSet<>();
+        for (var postId : postIds)
+            invalidated.addAll(entriesByPostId.getOrDefault(postId, Set.of()));
+        for (var document : documents) {
+            Set<CachedHits> checked = new HashSet<>();
+            for (var term : document.terms()) {
+                for (var cachedHits : entriesByTerm.getOrDefault(term, Set.of())) {
+                    if (!invalidated.contains(cachedHits) && checked.add(cachedHits)
+                            && cachedHits.query().matches(document))
+                        invalidated.add(cachedHits);
+                }
+            }
+        }
+        for (var cachedHits : invalidated)
+            cache.asMap().remove(keyOf(cachedHits.query()), cachedHits);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        cache.invalidateAll();
+    }
+
+    private void register(CachedHits cachedHits) {
+        for (var hit : cachedHits.hits())
+            entriesByPostId.computeIfAbsent(hit.getId(), id -> ConcurrentHashMap.newKeySet()).add(cachedHits);
+        for (var term : cachedHits.terms())
+            entriesByTerm.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(cachedHits);
+    }
+
+    private void unregister(CachedHits cachedHits) {
+        for (var hit : cachedHits.hits())
+            remove(entriesByPostId, hit.getId(), cachedHits);
+        for (var term : cachedHits.terms())
+            remove(entriesByTerm, term, cachedHits);
+    }
+
+    private static <K> void remove(Map<K, Set<CachedHits>> entries, K key, CachedHits cachedHits) {
+        entries.computeIfPresent(key, (k, set) -> {
+            set.remove(cachedHits);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // 파서가 절의 순서를 정리하므로 같은 뜻의 검색식은 같은 키가 됨
+    private static String keyOf(SearchQuery query) {
+        return query.toString();
+    }
+
+    /**
+     * 검색식을 만족하는 문서가 반드시 포함하는 토큰 중 하나 이상이 들어 있는 집합을 반환합니다.
+     * 제외 절의 토큰은 만족 여부를 바꿀 수 있어도, 새로 만족하는 문서는 제외하지 않는 절의 토큰을 포함하므로 모으지 않습니다.
+     */
+    private static Set<String> termsOf(SearchQuery query) {
+        Set<String> terms = new HashSet<>();
+        collectTerms(query, terms);
+        return Set.copyOf(terms);
+    }
+
+    private static void collectTerms(SearchQuery query, Set<String> terms) {
+        if (query instanceof SearchQuery.Text text)
+            terms.addAll(text.terms());
+        else if (query instanceof SearchQuery.SkillFilter skill)
+            terms.add(skill.term());
+        else if (query instanceof SearchQuery.And and)
+            and.clauses().forEach(clause -> collectTerms(clause, terms));
+        else if (query instanceof SearchQuery.Or or)
+            or.clauses().forEach(clause -> collectTerms(clause, terms));
+    }
+
+    // 같은 검색식이라도 저장한 항목마다 찾기 목록에서 따로 지울 수 있도록 동등성은 객체 단위로 비교
+    public static final class CachedHits {
+
+        private final SearchQuery query;
+        private final List<PostSearchHit> hits;
+        private final Set<String> terms;
+
+        private CachedHits(SearchQuery query, List<PostSearchHit> hits, Set<String> terms) {
+            this.query = query;
+            this.hits = hits;
+            this.terms = terms;
+        }
+
+        public SearchQuery query() {
+            return query;
+        }
+
+        public List<PostSearchHit> hits() {
+            return hits;
+        }
+
+        private Set<String> terms() {
+            return terms;
+        }
+
+        private List<PostSearchHit> page(double afterScore, long afterId, int limit) {
+            int from = 0;
+            while (from < hits.size() && !isAfter(hits.get(from), afterScore, afterId))
+                from++;
+            return hits.subList(from, Math.min(from + limit, hits.size()));
+        }
+
+        private static boolean isAfter(PostSearchHit hit, double afterScore, long afterId) {
+            return hit.getScore() < afterScore || (hit.getScore() == afterScore && hit.getId() < afterId);
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PostDocument;
+import com.limvik.backend.domain.PostSearchHit;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채용포지션, 채용내용, 회사 이름, 스킬을 색인하는 검색 색인입니다. 스킬은 skill: 필터용 토큰으로도 색인합니다.
+ * 시작 시 DB 에서 다시 만들며, 그 동안 변경된 채용공고는 모아두었다가 색인이 준비되면 반영합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PostSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final int POSITION_NAME_WEIGHT = 3;
+    private static final int SKILL_WEIGHT = 3;
+    private static final int COMPANY_NAME_WEIGHT = 2;
+    private static final int JOB_DESCRIPTION_WEIGHT = 1;
+
+    private final PostRepository postRepository;
+    private final PositionSkillRepository positionSkillRepository;
+    private final SkillService skillService;
+    private final PostSearchCache postSearchCache;
+
+    private final Set<Long> pendingPostIds = new LinkedHashSet<>();
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<PostSearchHit> search(SearchQuery query, double afterScore, long afterId, int limit) {
+        var cachedHits = postSearchCache.getPage(query, afterScore, afterId, limit);
+        if (cachedHits != null) return cachedHits;
+
+        // 첫 페이지를 조회할 때 결과 전체를 담을 수 있는지 하나 더 찾아 보고, 담을 수 있으면 캐시
+        var firstPage = afterScore == Double.MAX_VALUE && afterId == Long.MAX_VALUE;
+        if (!firstPage || limit > PostSearchCache.CACHED_HITS)
+            return index.search(query, afterScore, afterId, limit);
+        var generation = postSearchCache.getGeneration();
+        var hits = index.search(query, afterScore, afterId, PostSearchCache.CACHED_HITS + 1);
+        postSearchCache.put(query, hits, generation);
+        return hits.subList(0, Math.min(limit, hits.size()));
+    }
+
+    public long[] findPostIds(SearchQuery query) {
+        return index.findPostIds(query);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var loaded = new InvertedIndex();
+        long after = 0L;
+        Slice<PostDocument> documents;
+        do {
+            documents = postRepository.findDocuments(after, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            addAll(loaded, documents.getContent());
+            if (documents.hasContent())
+                after = documents.getContent().get(documents.getNumberOfElements() - 1).id();
+        } while (documents.hasNext());
+
+        synchronized (this) {
+            index = loaded;
+            postSearchCache.invalidateAll();
+            reindex(pendingPostIds);
+            pendingPostIds.clear();
+            ready = true;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        update(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostModified(PostModifiedEvent event) {
+        update(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        update(event.postId());
+    }
+
+    private synchronized void update(Long postId) {
+        if (!ready) {
+            pendingPostIds.add(postId);
+            return;
+        }
+        reindex(List.of(postId));
+    }
+
+    private void reindex(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        for (var postId : postIds)
+            index.remove(postId);
+        var documentTerms = addAll(index, postRepository.findDocumentsByIds(postIds));
+        postSearchCache.invalidate(postIds, documentTerms);
+    }
+
+    // 색인한 문서별 토큰 위치를 반환
+    private List<TermPositions> addAll(InvertedIndex target, List<PostDocument> documents) {
+        if (documents.isEmpty()) return List.of();
+        List<TermPositions> documentTerms = new ArrayList<>(documents.size());
+        Map<Long, List<String>> skillNamesByPostId = new HashMap<>();
+        var postIds = documents.stream().map(PostDocument::id).toList();
+        for (var ids : positionSkillRepository.findIdsByPostIds(postIds)) {
+            skillService.getSkillName(ids.getSkillId()).ifPresent(name ->
+                    skillNamesByPostId.computeIfAbsent(ids.getPostId(), id -> new ArrayList<>()).add(name));
+        }
+        for (var document : documents) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            var termPositions = new TermPositions();
+            int length = analyze(document, skillNamesByPostId.getOrDefault(document.id(), List.of()),
+                    termFrequencies, termPositions);
+            target.add(document.id(), termFrequencies, termPositions, length);
+            documentTerms.add(termPositions);
+        }
+        return documentTerms;
+    }
+
+    /**
+     * 채용공고의 토큰별 가중치를 termFrequencies 에 더하고 토큰 위치를 termPositions 에 필드별로 추가한 뒤 문서 길이를 반환합니다.
+     * 저장 검색식과 비교할 때도 사용합니다.
+     */
+    static int analyze(PostDocument document, List<String> skillNames, Map<String, Integer> termFrequencies,
+                       TermPositions termPositions) {
+        int length = addTerms(termFrequencies, termPositions, document.positionName(), POSITION_NAME_WEIGHT)
+                + addTerms(termFrequencies, termPositions, document.companyName(), COMPANY_NAME_WEIGHT)
+                + addTerms(termFrequencies, termPositions, document.jobDescription(), JOB_DESCRIPTION_WEIGHT);
+        for (var skillName : skillNames) {
+            length += addTerms(termFrequencies, termPositions, skillName, SKILL_WEIGHT);
+            var skillTerm = SearchQuery.skillTerm(skillName);
+            termFrequencies.merge(skillTerm, SKILL_WEIGHT, Integer::sum);
+            termPositions.addField(List.of(skillTerm));
+        }
+        return length;
+    }
+
+    private static int addTerms(Map<String, Integer> termFrequencies, TermPositions termPositions,
+                                String text, int weight) {
+        var terms = KoreanBigramAnalyzer.analyze(text);
+        for (var term : terms)
+            termFrequencies.merge(term, weight, Integer::sum);
+        termPositions.addField(terms);
+        return terms.size() * weight;
+    }
+
+}
@@ -0,0 +1,269 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.config.AsyncConfig;
+import com.limvik.backend.domain.SavedSearchQuery;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.event.SavedSearchCreatedEvent;
+import com.limvik.backend.event.SavedSearchDeletedEvent;
+import com.limvik.backend.exception.SearchQueryNotValidException;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.repository.SavedSearchRepository;
+import com.limvik.backend.repository.SearchNotificationRepository;
+import com.limvik.backend.service.SkillService;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 저장 검색식을 거꾸로 색인해, 등록/수정된 채용공고 하나와 일치하는 저장 검색식을 찾습니다(percolator).
+ * 검색식마다 일치하는 채용공고가 반드시 하나 이상 포함하는 토큰(anchor)을 골라 토큰 → 검색식 id 비트맵으로 보관하고,
+ * 채용공고의 토큰으로 후보 검색식만 모은 뒤 검색식 전체로 다시 확인합니다.
+ * 확인은 커밋 후 요청 스레드가 아닌 별도 스레드에서 하며, 일치한 검색식의 알림은 batch 로 한 번에 추가합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class SavedSearchPercolator {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SearchNotificationRepository searchNotificationRepository;
+    private final PostRepository postRepository;
+    private final PositionSkillRepository positionSkillRepository;
+    private final SkillService skillService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pendingUpdates = new ArrayList<>();
+    private Queries queries = new Queries();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return queries.queriesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 채용공고의 토큰 위치와 일치하는 저장 검색식의 id 를 반환합니다.
+     */
+    public List<Long> percolate(TermPositions document) {
+        lock.readLock().lock();
+        try {
+            return queries.match(document);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var loaded = new Queries();
+        long after = 0L;
+        Slice<SavedSearchQuery> savedSearches;
+        do {
+            savedSearches = savedSearchRepository.findQueries(after, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (var savedSearch : savedSearches)
+                add(loaded, savedSearch.id(), savedSearch.search());
+            if (savedSearches.hasContent())
+                after = savedSearches.getContent().get(savedSearches.getNumberOfElements() - 1).id();
+        } while (savedSearches.hasNext());
+
+        synchronized (this) {
+            lock.writeLock().lock();
+            try {
+                queries = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates.clear();
+            ready = true;
+        }
+    }
+
+    @Async(AsyncConfig.PERCOLATION_EXECUTOR)
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        update(() -> notify(event.postId()));
+    }
+
+    @Async(AsyncConfig.PERCOLATION_EXECUTOR)
+    @TransactionalEventListener
+    public void onPostModified(PostModifiedEvent event) {
+        update(() -> notify(event.postId()));
+    }
+
+    @TransactionalEventListener
+    public void onSavedSearchCreated(SavedSearchCreatedEvent event) {
+        update(() -> {
+            lock.writeLock().lock();
+            try {
+                add(queries, event.savedSearchId(), event.search());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onSavedSearchDeleted(SavedSearchDeletedEvent event) {
+        update(() -> {
+            lock.writeLock().lock();
+            try {
+                queries.remove(toInt(event.savedSearchId()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 준비 전의 변경은 모아두었다가 load 에서 순서대로 반영
+    private void update(Runnable update) {
+        synchronized (this) {
+            if (!ready) {
+                pendingUpdates.add(update);
+                return;
+            }
+        }
+        update.run();
+    }
+
+    private void notify(Long postId) {
+        var documents = postRepository.findDocumentsByIds(List.of(postId));
+        if (documents.isEmpty()) return;
+        List<String> skillNames = new ArrayList<>();
+        for (var ids : positionSkillRepository.findIdsByPostIds(List.of(postId)))
+            skillService.getSkillName(ids.getSkillId()).ifPresent(skillNames::add);
+        var termPositions = new TermPositions();
+        PostSearchIndex.analyze(documents.get(0), skillNames, new HashMap<>(), termPositions);
+        // 그 사이 삭제된 검색식의 알림은 INSERT IGNORE 가 외래 키 오류를 경고로 바꿔 건너뜀
+        searchNotificationRepository.insertAll(postId, percolate(termPositions));
+    }
+
+    private static void add(Queries target, Long savedSearchId, String search) {
+        try {
+            target.add(toInt(savedSearchId), SearchQueryParser.parse(search));
+        } catch (SearchQueryNotValidException e) {
+            // 저장할 때 검증하므로 파서 규칙이 바뀐 경우에만 발생. 일치하는 채용공고가 없는 것으로 봄
+        }
+    }
+
+    private static int toInt(long savedSearchId) {
+        if (savedSearchId < 0 || savedSearchId > Integer.MAX_VALUE)
+            throw new IllegalStateException("색인할 수 없는 저장 검색식 id 입니다: " + savedSearchId);
+        return (int) savedSearchId;
+    }
+
+    private static class Queries {
+        private final Map<Integer, SearchQuery> queriesById = new HashMap<>();
+        private final Map<Integer, Set<String>> anchorsById = new HashMap<>();
+        private final Map<String, RoaringBitmap> idsByAnchor = new HashMap<>();
+        // anchor 를 고를 수 없는 검색식은 모든 채용공고에서 확인
+        private final RoaringBitmap unanchored = new RoaringBitmap();
+
+        private void add(int id, SearchQuery query) {
+            remove(id);
+            queriesById.put(id, query);
+            var anchors = anchorsOf(query);
+            if (anchors == null) {
+                unanchored.add(id);
+                return;
+            }
+            anchorsById.put(id, anchors);
+            for (var anchor : anchors)
+                idsByAnchor.computeIfAbsent(anchor, term -> new RoaringBitmap()).add(id);
+        }
+
+        private void remove(int id) {
+            if (queriesById.remove(id) == null) return;
+            unanchored.remove(id);
+            var anchors = anchorsById.remove(id);
+            if (anchors == null) return;
+            for (var anchor : anchors) {
+                var ids = idsByAnchor.get(anchor);
+                ids.remove(id);
+                if (ids.isEmpty()) idsByAnchor.remove(anchor);
+            }
+        }
+
+        private List<Long> match(TermPositions document) {
+            var candidates = unanchored.clone();
+            for (var term : document.terms()) {
+                var ids = idsByAnchor.get(term);
+                if (ids != null) candidates.or(ids);
+            }
+            List<Long> matched = new ArrayList<>();
+            var iterator = candidates.getIntIterator();
+            while (iterator.hasNext()) {
+                int id = iterator.next();
+                if (queriesById.get(id).matches(document)) matched.add((long) id);
+            }
+            return matched;
+        }
+
+        // 검색식과 일치하는 채용공고가 반드시 하나 이상 포함하는 토큰 집합. 고를 수 없으면(NOT) null
+        // 고를 수 있는 토큰이 여럿이면 색인에 적게 등록된 쪽을 골라 채용공고마다 확인할 후보를 줄임
+        private Set<String> anchorsOf(SearchQuery query) {
+            if (query instanceof SearchQuery.Text text)
+                return text.terms().stream().min(Comparator.comparingLong(this::postings)).map(Set::of).orElse(null);
+            if (query instanceof SearchQuery.SkillFilter skill)
+                return Set.of(skill.term());
+            if (query instanceof SearchQuery.And and) {
+                Set<String> best = null;
+                for (var clause : and.clauses()) {
+                    var anchors = anchorsOf(clause);
+                    if (anchors != null && (best == null || cost(anchors) < cost(best))) best = anchors;
+                }
+                return best;
+            }
+            if (query instanceof SearchQuery.Or or) {
+                Set<String> anchors = new HashSet<>();
+                for (var clause : or.clauses()) {
+                    var clauseAnchors = anchorsOf(clause);
+                    if (clauseAnchors == null) return null;
+                    anchors.addAll(clauseAnchors);
+                }
+                return anchors;
+            }
+            return null;
+        }
+
+        private long cost(Set<String> anchors) {
+            long cost = 0;
+            for (var anchor : anchors)
+                cost += postings(anchor) + 1;
+            return cost;
+        }
+
+        private long postings(String term) {
+            var ids = idsByAnchor.get(term);
+            return ids == null ? 0 : ids.getLongCardinality();
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.limvik.backend.index;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SearchQueryParser 가 만든 검색식의 구문 트리입니다.
+ * 같은 뜻의 검색식은 같은 트리가 되도록 절의 순서와 중복을 정리하므로, toString() 을 캐시 키로 사용할 수 있습니다.
+ */
+public sealed interface SearchQuery {
+
+    String SKILL_TERM_PREFIX = "skill:";
+
+    /**
+     * 색인한 문서의 토큰 위치로 검색식을 만족하는지 확인합니다.
+     */
+    boolean matches(TermPositions document);
+
+    /**
+     * 검색어 문법으로 되돌립니다. SearchQueryParser.parse(toSearch()) 는 같은 검색식이 됩니다.
+     */
+    String toSearch();
+
+    /**
+     * 스킬 필터로 찾을 수 있도록 스킬 이름과 함께 색인하는 토큰입니다. 분석기가 만드는 토큰에는 ':' 가 없으므로 겹치지 않습니다.
+     */
+    static String skillTerm(String skillName) {
+        return SKILL_TERM_PREFIX + SkillDictionary.normalize(skillName);
+    }
+
+    /**
+     * 단어 또는 따옴표로 묶은 구문. 분석한 토큰이 순서대로 이어져 있는 문서를 찾습니다.
+     * FULLTEXT 로 찾을 때도 단어와 구문을 모두 따옴표로 감싸 ngram 구문으로 찾으므로 결과가 같습니다.
+     */
+    record Text(String text, boolean phrase) implements SearchQuery {
+
+        public List<String> terms() {
+            return KoreanBigramAnalyzer.analyze(text);
+        }
+
+        @Override
+        public boolean matches(TermPositions document) {
+            var terms = terms();
+            if (terms.size() == 1) return document.contains(terms.get(0));
+            return !terms.isEmpty() && document.containsSequence(terms);
+        }
+
+        @Override
+        public String toSearch() {
+            return phrase || text.contains(" ") ? '"' + text + '"' : text;
+        }
+    }
+
+    /**
+     * skill:이름. 해당 스킬이 등록된 문서를 찾습니다.
+     */
+    record SkillFilter(String name) implements SearchQuery {
+
+        public String term() {
+            return skillTerm(name);
+        }
+
+        @Override
+        public boolean matches(TermPositions document) {
+            return document.contains(term());
+        }
+
+        @Override
+        public String toSearch() {
+            return SKILL_TERM_PREFIX + (name.contains(" ") ? '"' + name + '"' : name);
+        }
+    }
+
+    /**
+     * 공백으로 나열한 절. 모든 절을 만족해야 하며, Not 절은 이 안에만 올 수 있습니다.
+     */
+    record And(List<SearchQuery> clauses) implements SearchQuery {
+
+        @Override
+        public boolean matches(TermPositions document) {
+            for (var clause : clauses) {
+                if (!clause.matches(document)) return false;
+            }
+            return true;
+        }
+
+        // '|' 가 공백보다 먼저 묶이므로 Or 절을 괄호 없이 이어 씀. 제외하는 절은 뒤에 씀
+        @Override
+        public String toSearch() {
+            return String.join(" ", clauses.stream()
+                    .sorted(Comparator.comparing(Not.class::isInstance))
+                    .map(SearchQuery::toSearch)
+                    .toList());
+        }
+    }
+
+    /**
+     * '|' 로 나열한 절. 하나 이상의 절을 만족하면 됩니다.
+     */
+    record Or(List<SearchQuery> clauses) implements SearchQuery {
+
+        @Override
+        public boolean matches(TermPositions document) {
+            for (var clause : clauses) {
+                if (clause.matches(document)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String toSearch() {
+            return String.join(" | ", clauses.stream().map(SearchQuery::toSearch).toList());
+        }
+    }
+
+    /**
+     * '-' 를 붙인 절. 해당 절을 만족하는 문서를 제외합니다.
+     */
+    record Not(SearchQuery clause) implements SearchQuery {
+
+        @Override
+        public boolean matches(TermPositions document) {
+            return !clause.matches(document);
+        }
+
+        @Override
+        public String toSearch() {
+            return "-" + clause.toSearch();
+        }
+    }
+
+}
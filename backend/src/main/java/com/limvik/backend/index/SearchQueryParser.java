@@ -0,0 +1,146 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.exception.SearchQueryNotValidException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 검색어를 검색식으로 바꿉니다.
+ * <pre>
+ * 백엔드 개발자          공백은 AND
+ * java | kotlin        '|' 는 OR 이며 공백보다 먼저 묶임 (java | kotlin 백엔드 = (java OR kotlin) AND 백엔드)
+ * -시니어               '-' 로 시작하면 NOT
+ * "백엔드 개발자"         따옴표로 묶으면 한 절
+ * skill:java           스킬 필터. skill:"spring boot" 처럼 따옴표도 사용 가능
+ * </pre>
+ * 짝이 맞지 않는 따옴표나 남는 연산자는 무시하고, NOT 만 있는 검색식과 OR 안의 NOT 은 허용하지 않습니다.
+ */
+public final class SearchQueryParser {
+
+    private static final String SKILL_PREFIX = "skill:";
+    private static final Comparator<SearchQuery> CANONICAL_ORDER = Comparator.comparing(SearchQuery::toString);
+
+    private final String search;
+    private int position = 0;
+
+    private SearchQueryParser(String search) {
+        this.search = search;
+    }
+
+    public static SearchQuery parse(String search) {
+        return new SearchQueryParser(search).parseQuery();
+    }
+
+    private SearchQuery parseQuery() {
+        List<SearchQuery> clauses = new ArrayList<>();
+        while (skipWhitespace()) {
+            var clause = parseOr();
+            if (clause != null) clauses.add(clause);
+        }
+        if (clauses.isEmpty())
+            throw new SearchQueryNotValidException(search, "검색할 단어가 없습니다.");
+        if (clauses.stream().allMatch(SearchQuery.Not.class::isInstance))
+            throw new SearchQueryNotValidException(search, "제외(-)하지 않는 단어가 하나 이상 있어야 합니다.");
+        return combine(clauses, false);
+    }
+
+    private SearchQuery parseOr() {
+        List<SearchQuery> clauses = new ArrayList<>();
+        var clause = parseUnary();
+        if (clause != null) clauses.add(clause);
+        while (peekOr()) {
+            position++;
+            if (!skipWhitespace()) break;
+            clause = parseUnary();
+            if (clause != null) clauses.add(clause);
+        }
+        if (clauses.size() > 1 && clauses.stream().anyMatch(SearchQuery.Not.class::isInstance))
+            throw new SearchQueryNotValidException(search, "'|' 로 묶은 단어에는 제외(-)를 사용할 수 없습니다.");
+        return clauses.isEmpty() ? null : combine(clauses, true);
+    }
+
+    private SearchQuery parseUnary() {
+        if (current() == '-') {
+            position++;
+            var clause = parsePrimary();
+            return clause == null ? null : new SearchQuery.Not(clause);
+        }
+        return parsePrimary();
+    }
+
+    private SearchQuery parsePrimary() {
+        if (search.regionMatches(true, position, SKILL_PREFIX, 0, SKILL_PREFIX.length())) {
+            position += SKILL_PREFIX.length();
+            var name = normalize(current() == '"' ? readQuoted() : readWord());
+            return name.isEmpty() ? null : new SearchQuery.SkillFilter(name);
+        }
+        if (current() == '"') {
+            var phrase = normalize(readQuoted());
+            return phrase.isEmpty() ? null : new SearchQuery.Text(phrase, true);
+        }
+        var word = readWord();
+        return word.isEmpty() ? null : new SearchQuery.Text(word, false);
+    }
+
+    // 닫는 따옴표가 없으면 끝까지 읽음
+    private String readQuoted() {
+        int start = ++position;
+        int end = search.indexOf('"', start);
+        if (end < 0) end = search.length();
+        position = Math.min(end + 1, search.length());
+        return search.substring(start, end);
+    }
+
+    private String readWord() {
+        int start = position;
+        while (position < search.length()) {
+            char c = search.charAt(position);
+            if (Character.isWhitespace(c) || c == '|' || c == '"') break;
+            position++;
+        }
+        return search.substring(start, position);
+    }
+
+    // '|' 양옆의 공백은 연산자의 일부로 봄
+    private boolean peekOr() {
+        int next = position;
+        while (next < search.length() && Character.isWhitespace(search.charAt(next)))
+            next++;
+        if (next < search.length() && search.charAt(next) == '|') {
+            position = next;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean skipWhitespace() {
+        while (position < search.length() && Character.isWhitespace(search.charAt(position)))
+            position++;
+        return position < search.length();
+    }
+
+    private char current() {
+        return position < search.length() ? search.charAt(position) : 0;
+    }
+
+    private static String normalize(String text) {
+        return text.strip().replaceAll("\\s+", " ");
+    }
+
+    // 같은 종류의 절은 펼치고, 중복을 없앤 뒤 정렬해 같은 뜻의 검색식이 같은 트리가 되도록 함
+    private static SearchQuery combine(List<SearchQuery> clauses, boolean or) {
+        var canonical = new TreeSet<>(CANONICAL_ORDER);
+        for (var clause : clauses) {
+            if (or && clause instanceof SearchQuery.Or nested) canonical.addAll(nested.clauses());
+            else if (!or && clause instanceof SearchQuery.And nested) canonical.addAll(nested.clauses());
+            else canonical.add(clause);
+        }
+        if (canonical.size() == 1) return canonical.first();
+        var sorted = List.copyOf(canonical);
+        return or ? new SearchQuery.Or(sorted) : new SearchQuery.And(sorted);
+    }
+
+}
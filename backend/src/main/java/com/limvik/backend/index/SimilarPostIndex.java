@@ -0,0 +1,291 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PostPositionName;
+import com.limvik.backend.domain.SimilarPost;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 채용공고별 스킬 id 와 포지션 이름 토큰을 비트맵(Roaring)으로 보관해, 비슷한 채용공고를 DB 조회 없이 찾습니다.
+ * 유사도는 스킬에 가중치를 더 둔 가중 Jaccard 유사도이며, 후보는 스킬이나 토큰을 하나 이상 공유하는 채용공고뿐입니다.
+ * 채용공고별 결과 앞부분(최대 CACHED_SIMILAR_POSTS 개)은 최근 조회한 MAX_CACHED_POSTS 개까지 보관하며,
+ * 채용공고가 바뀌면 바뀌기 전이나 후의 스킬/토큰을 공유하는 채용공고의 결과만 지웁니다.
+ * 시작 시 DB 에서 만들며, 그 동안 변경된 채용공고는 모아두었다가 준비되면 반영합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class SimilarPostIndex {
+
+    static final int CACHED_SIMILAR_POSTS = 50;
+    private static final int MAX_CACHED_POSTS = 1_000;
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final int SKILL_WEIGHT = 2;
+    private static final int TOKEN_WEIGHT = 1;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    // 점수가 높은 것부터, 같으면 최신 채용공고부터
+    private static final Comparator<SimilarPost> RANK = Comparator.comparingDouble(SimilarPost::score).reversed()
+            .thenComparing(SimilarPost::id, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final PositionSkillRepository positionSkillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> pendingPostIds = new LinkedHashSet<>();
+    private final Map<Long, List<SimilarPost>> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, List<SimilarPost>> eldest) {
+                    return size() > MAX_CACHED_POSTS;
+                }
+            });
+    private Features features = new Features();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * postId 채용공고와 비슷한 채용공고를 비슷한 순서로 limit 개(최대 CACHED_SIMILAR_POSTS 개)까지 반환합니다.
+     * 색인에 없는 채용공고면 null 을 반환합니다.
+     */
+    public List<SimilarPost> findSimilar(Long postId, int limit) {
+        limit = Math.min(limit, CACHED_SIMILAR_POSTS);
+        lock.readLock().lock();
+        try {
+            var post = features.byPostId.get(postId);
+            if (post == null) return null;
+            var similarPosts = cache.get(postId);
+            if (similarPosts == null) {
+                similarPosts = rank(toInt(postId), post);
+                // 무효화는 쓰기 잠금에서 하므로 읽기 잠금 안에서 저장한 결과는 최신임
+                cache.put(postId, similarPosts);
+            }
+            return similarPosts.size() > limit ? similarPosts.subList(0, limit) : similarPosts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int cachedSize() {
+        return cache.size();
+    }
+
+    private List<SimilarPost> rank(int postId, PostFeatures post) {
+        var candidates = features.candidates(post);
+        candidates.remove(postId);
+        // 최소 힙으로 상위 CACHED_SIMILAR_POSTS 개만 유지
+        PriorityQueue<SimilarPost> top = new PriorityQueue<>(CACHED_SIMILAR_POSTS + 1, RANK.reversed());
+        candidates.forEach((int candidateId) -> {
+            var similarPost = new SimilarPost((long) candidateId,
+                    similarity(post, features.byPostId.get((long) candidateId)));
+            if (top.size() < CACHED_SIMILAR_POSTS) {
+                top.add(similarPost);
+            } else if (RANK.compare(similarPost, top.peek()) < 0) {
+                top.poll();
+                top.add(similarPost);
+            }
+        });
+        List<SimilarPost> ranked = new ArrayList<>(top);
+        ranked.sort(RANK);
+        return List.copyOf(ranked);
+    }
+
+    // 공유하는 스킬/토큰의 가중치 합 / 둘 중 하나에라도 있는 스킬/토큰의 가중치 합
+    static double similarity(PostFeatures post, PostFeatures other) {
+        int sharedSkills = RoaringBitmap.andCardinality(post.skillIds, other.skillIds);
+        int sharedTokens = RoaringBitmap.andCardinality(post.tokenIds, other.tokenIds);
+        int shared = SKILL_WEIGHT * sharedSkills + TOKEN_WEIGHT * sharedTokens;
+        int union = SKILL_WEIGHT * (post.skillIds.getCardinality() + other.skillIds.getCardinality() - sharedSkills) +
+                TOKEN_WEIGHT * (post.tokenIds.getCardinality() + other.tokenIds.getCardinality() - sharedTokens);
+        return union == 0 ? 0.0 : (double) shared / union;
+    }
+
+    static Set<String> tokenize(String positionName) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (positionName == null) return tokens;
+        for (var token : TOKEN_SEPARATOR.split(positionName.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var loaded = new Features();
+        long after = 0L;
+        Slice<PostPositionName> rows;
+        do {
+            rows = postRepository.findPositionNames(after, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            addAll(loaded, rows.getContent());
+            if (rows.hasContent())
+                after = rows.getContent().get(rows.getNumberOfElements() - 1).id();
+        } while (rows.hasNext());
+
+        synchronized (this) {
+            lock.writeLock().lock();
+            try {
+                features = loaded;
+                cache.clear();
+                reindex(pendingPostIds);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            pendingPostIds.clear();
+            ready = true;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        update(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostModified(PostModifiedEvent event) {
+        update(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        update(event.postId());
+    }
+
+    private synchronized void update(Long postId) {
+        if (!ready) {
+            pendingPostIds.add(postId);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            reindex(List.of(postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 바뀌기 전과 후에 스킬/토큰을 공유하는 채용공고만 결과가 달라질 수 있음
+    private void reindex(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        var affected = new RoaringBitmap();
+        for (var postId : postIds) {
+            var removed = features.remove(postId);
+            if (removed != null) affected.or(features.candidates(removed));
+            affected.add(toInt(postId));
+        }
+        for (var added : addAll(features, postRepository.findPositionNamesByIds(postIds)))
+            affected.or(features.candidates(added));
+        synchronized (cache) {
+            cache.keySet().removeIf(postId -> affected.contains(toInt(postId)));
+        }
+    }
+
+    private List<PostFeatures> addAll(Features target, List<PostPositionName> rows) {
+        if (rows.isEmpty()) return List.of();
+        Map<Long, RoaringBitmap> skillIdsByPostId = new HashMap<>();
+        var postIds = rows.stream().map(PostPositionName::id).toList();
+        for (var ids : positionSkillRepository.findIdsByPostIds(postIds))
+            skillIdsByPostId.computeIfAbsent(ids.getPostId(), postId -> new RoaringBitmap()).add(toInt(ids.getSkillId()));
+
+        List<PostFeatures> added = new ArrayList<>(rows.size());
+        for (var row : rows) {
+            var tokenIds = new RoaringBitmap();
+            for (var token : tokenize(row.positionName()))
+                tokenIds.add(target.tokenIdOf(token));
+            var post = new PostFeatures(skillIdsByPostId.getOrDefault(row.id(), new RoaringBitmap()), tokenIds);
+            post.runOptimize();
+            target.add(row.id(), post);
+            added.add(post);
+        }
+        return added;
+    }
+
+    private static int toInt(long id) {
+        if (id < 0 || id > Integer.MAX_VALUE)
+            throw new IllegalStateException("색인할 수 없는 id 입니다: " + id);
+        return (int) id;
+    }
+
+    record PostFeatures(RoaringBitmap skillIds, RoaringBitmap tokenIds) {
+        private void runOptimize() {
+            skillIds.runOptimize();
+            tokenIds.runOptimize();
+        }
+    }
+
+    private static class Features {
+        private final Map<Long, PostFeatures> byPostId = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> postsBySkillId = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> postsByTokenId = new HashMap<>();
+        // 토큰 번호는 다시 쓰지 않음
+        private final Map<String, Integer> tokenIds = new HashMap<>();
+
+        private int tokenIdOf(String token) {
+            return tokenIds.computeIfAbsent(token, t -> tokenIds.size());
+        }
+
+        private void add(long postId, PostFeatures post) {
+            int id = toInt(postId);
+            byPostId.put(postId, post);
+            post.skillIds.forEach((int skillId) -> postsBySkillId.computeIfAbsent(skillId, k -> new RoaringBitmap()).add(id));
+            post.tokenIds.forEach((int tokenId) -> postsByTokenId.computeIfAbsent(tokenId, k -> new RoaringBitmap()).add(id));
+        }
+
+        private PostFeatures remove(long postId) {
+            var post = byPostId.remove(postId);
+            if (post == null) return null;
+            int id = toInt(postId);
+            post.skillIds.forEach((int skillId) -> remove(postsBySkillId, skillId, id));
+            post.tokenIds.forEach((int tokenId) -> remove(postsByTokenId, tokenId, id));
+            return post;
+        }
+
+        private static void remove(Map<Integer, RoaringBitmap> postsByFeature, int feature, int postId) {
+            var posts = postsByFeature.get(feature);
+            if (posts == null) return;
+            posts.remove(postId);
+            if (posts.isEmpty()) postsByFeature.remove(feature);
+        }
+
+        // 스킬이나 토큰을 하나 이상 공유하는 채용공고
+        private RoaringBitmap candidates(PostFeatures post) {
+            List<RoaringBitmap> posts = new ArrayList<>();
+            post.skillIds.forEach((int skillId) -> addIfPresent(posts, postsBySkillId.get(skillId)));
+            post.tokenIds.forEach((int tokenId) -> addIfPresent(posts, postsByTokenId.get(tokenId)));
+            return posts.isEmpty() ? new RoaringBitmap() : FastAggregation.or(posts.iterator());
+        }
+
+        private static void addIfPresent(List<RoaringBitmap> posts, RoaringBitmap bitmap) {
+            if (bitmap != null) posts.add(bitmap);
+        }
+    }
+
+}
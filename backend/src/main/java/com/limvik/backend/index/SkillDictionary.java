@@ -0,0 +1,66 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.Skill;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 스킬 id 와 이름의 양방향 사전입니다. 본문에 언급된 스킬을 찾는 오토마톤도 함께 만듭니다.
+ * 생성 후에는 변경하지 않으며, 스킬이 바뀌면 새로 만들어 교체합니다.
+ */
+public class SkillDictionary {
+
+    private final Map<Long, String> namesById;
+    private final Map<String, Long> idsByNormalizedName;
+    private final SkillMatcher skillMatcher;
+
+    private SkillDictionary(Map<Long, String> namesById, Map<String, Long> idsByNormalizedName) {
+        this.namesById = namesById;
+        this.idsByNormalizedName = idsByNormalizedName;
+        this.skillMatcher = SkillMatcher.of(namesById);
+    }
+
+    public static SkillDictionary of(Collection<Skill> skills) {
+        Map<Long, String> namesById = new HashMap<>();
+        Map<String, Long> idsByNormalizedName = new HashMap<>();
+        for (var skill : skills) {
+            namesById.put(skill.getId(), skill.getName());
+            idsByNormalizedName.put(normalize(skill.getName()), skill.getId());
+        }
+        return new SkillDictionary(Map.copyOf(namesById), Map.copyOf(idsByNormalizedName));
+    }
+
+    public static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public Optional<Skill> findByName(String name) {
+        var id = idsByNormalizedName.get(normalize(name));
+        return id == null ? Optional.empty() : Optional.of(new Skill(id, namesById.get(id)));
+    }
+
+    public Optional<String> findNameById(Long id) {
+        return Optional.ofNullable(namesById.get(id));
+    }
+
+    /**
+     * text 에 언급된 스킬 id 를 반환합니다.
+     */
+    public Set<Long> findSkillIdsIn(CharSequence text) {
+        return skillMatcher.findSkillIds(text);
+    }
+
+    public Collection<String> getNames() {
+        return namesById.values();
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.limvik.backend.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 스킬 이름으로 만든 Aho–Corasick 오토마톤입니다. 본문을 한 번만 훑어 언급된 스킬을 모두 찾으므로,
+ * 본문 길이에 비례하는 시간이 걸리고 스킬 수와는 무관합니다. 대소문자는 구분하지 않습니다.
+ * 영문/숫자로 시작하거나 끝나는 이름은 그 앞뒤에 영문/숫자가 이어지면 언급으로 보지 않습니다(javascript 안의 java).
+ * 생성 후에는 변경하지 않으며, 스킬이 바뀌면 새로 만들어 교체합니다.
+ */
+public class SkillMatcher {
+
+    private static final int ROOT = 0;
+
+    // 상태 s 의 전이 문자는 labels[s] 에 정렬해 두고 이진 탐색, 다음 상태는 같은 위치의 targets[s]
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    // 상태에서 끝나는 이름의 번호. 실패 링크로 이어지는 상태에서 끝나는 이름도 포함
+    private final int[][] outputs;
+    private final long[] skillIds;
+    private final int[] lengths;
+    private final boolean[] wordStarts;
+    private final boolean[] wordEnds;
+
+    private SkillMatcher(List<TreeMap<Character, Integer>> transitions, List<List<Integer>> ownOutputs,
+                         long[] skillIds, int[] lengths, boolean[] wordStarts, boolean[] wordEnds) {
+        int size = transitions.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            var transition = transitions.get(state);
+            labels[state] = new char[transition.size()];
+            targets[state] = new int[transition.size()];
+            int i = 0;
+            for (var entry : transition.entrySet()) {
+                labels[state][i] = entry.getKey();
+                targets[state][i++] = entry.getValue();
+            }
+        }
+        this.failures = new int[size];
+        this.outputs = new int[size][];
+        this.skillIds = skillIds;
+        this.lengths = lengths;
+        this.wordStarts = wordStarts;
+        this.wordEnds = wordEnds;
+        link(ownOutputs);
+    }
+
+    /**
+     * 스킬 이름으로 오토마톤을 만듭니다. 대소문자만 다른 이름은 나중 스킬을 사용합니다.
+     */
+    public static SkillMatcher of(Map<Long, String> namesById) {
+        Map<String, Long> skillIdsByName = new LinkedHashMap<>();
+        namesById.forEach((skillId, name) -> {
+            var normalized = normalize(name);
+            if (!normalized.isEmpty()) skillIdsByName.put(normalized, skillId);
+        });
+
+        List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        List<List<Integer>> ownOutputs = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        ownOutputs.add(new ArrayList<>(0));
+        var skillIds = new long[skillIdsByName.size()];
+        var lengths = new int[skillIdsByName.size()];
+        var wordStarts = new boolean[skillIdsByName.size()];
+        var wordEnds = new boolean[skillIdsByName.size()];
+        int pattern = 0;
+        for (var entry : skillIdsByName.entrySet()) {
+            var name = entry.getKey();
+            int state = ROOT;
+            for (int i = 0; i < name.length(); i++) {
+                var next = transitions.get(state).get(name.charAt(i));
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(name.charAt(i), next);
+                    transitions.add(new TreeMap<>());
+                    ownOutputs.add(new ArrayList<>(0));
+                }
+                state = next;
+            }
+            ownOutputs.get(state).add(pattern);
+            skillIds[pattern] = entry.getValue();
+            lengths[pattern] = name.length();
+            wordStarts[pattern] = isWordChar(name.charAt(0));
+            wordEnds[pattern] = isWordChar(name.charAt(name.length() - 1));
+            pattern++;
+        }
+        return new SkillMatcher(transitions, ownOutputs, skillIds, lengths, wordStarts, wordEnds);
+    }
+
+    // 너비 우선으로 실패 링크를 계산하므로, 상태의 실패 링크 대상은 그 상태보다 먼저 출력이 완성됨
+    private void link(List<List<Integer>> ownOutputs) {
+        failures[ROOT] = ROOT;
+        outputs[ROOT] = new int[0];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (var child : targets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            var own = ownOutputs.get(state);
+            var inherited = outputs[failures[state]];
+            var merged = Arrays.copyOf(inherited, own.size() + inherited.length);
+            for (int i = 0; i < own.size(); i++)
+                merged[inherited.length + i] = own.get(i);
+            outputs[state] = merged;
+
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                failures[child] = transition(failures[state], labels[state][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * text 에 언급된 스킬 id 를 반환합니다.
+     */
+    public Set<Long> findSkillIds(CharSequence text) {
+        Set<Long> found = new HashSet<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = transition(state, Character.toLowerCase(text.charAt(i)));
+            for (var pattern : outputs[state]) {
+                if (isMention(text, i + 1 - lengths[pattern], i, pattern))
+                    found.add(skillIds[pattern]);
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return skillIds.length;
+    }
+
+    // 전이가 없으면 실패 링크를 따라가며, 루트에서도 없으면 루트에 머묾
+    private int transition(int state, char c) {
+        while (true) {
+            int i = Arrays.binarySearch(labels[state], c);
+            if (i >= 0) return targets[state][i];
+            if (state == ROOT) return ROOT;
+            state = failures[state];
+        }
+    }
+
+    private boolean isMention(CharSequence text, int start, int end, int pattern) {
+        if (wordStarts[pattern] && start > 0 && isWordChar(text.charAt(start - 1))) return false;
+        return !wordEnds[pattern] || end + 1 >= text.length() || !isWordChar(text.charAt(end + 1));
+    }
+
+    private static boolean isWordChar(char c) {
+        return c < 0x80 && Character.isLetterOrDigit(c);
+    }
+
+    private static String normalize(String name) {
+        var stripped = name.strip();
+        var normalized = new char[stripped.length()];
+        for (int i = 0; i < stripped.length(); i++)
+            normalized[i] = Character.toLowerCase(stripped.charAt(i));
+        return new String(normalized);
+    }
+
+}
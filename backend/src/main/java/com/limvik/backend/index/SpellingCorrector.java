@@ -0,0 +1,116 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 스킬 이름과 채용포지션 단어로 검색어의 오타를 교정합니다.
+ * 사전은 시작 시 만들고, 새 채용포지션 단어는 커밋 후 추가합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class SpellingCorrector {
+
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final PostRepository postRepository;
+    private final SkillService skillService;
+
+    private volatile SymSpell symSpell = new SymSpell();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var loaded = new SymSpell();
+        for (var skillName : skillService.getSkillNames())
+            loaded.add(normalize(skillName), 1);
+        for (var positionNameCount : postRepository.countByPositionName()) {
+            for (var word : words(positionNameCount.positionName()))
+                loaded.add(word, positionNameCount.count());
+        }
+        symSpell = loaded;
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        addPositionWords(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostModified(PostModifiedEvent event) {
+        addPositionWords(event.postId());
+    }
+
+    private void addPositionWords(Long postId) {
+        for (var document : postRepository.findDocumentsByIds(List.of(postId))) {
+            for (var word : words(document.positionName()))
+                symSpell.add(word, 1);
+        }
+    }
+
+    /**
+     * 사전에 없는 단어를 가장 가까운 단어로 바꾼 검색어를 반환합니다. 바꾼 단어가 없으면 빈 값을 반환합니다.
+     * 검색식으로 해석한 뒤 단어와 구문만 교정하고 다시 검색어로 만들므로 제외(-), '|', 따옴표, skill: 은 그대로 남습니다.
+     */
+    public Optional<String> correct(String keyword) {
+        var query = SearchQueryParser.parse(keyword);
+        var corrected = correct(query, symSpell);
+        return corrected.equals(query) ? Optional.empty() : Optional.of(corrected.toSearch());
+    }
+
+    private static SearchQuery correct(SearchQuery query, SymSpell dictionary) {
+        if (query instanceof SearchQuery.Text text)
+            return correct(text, dictionary);
+        if (query instanceof SearchQuery.And and)
+            return new SearchQuery.And(and.clauses().stream().map(clause -> correct(clause, dictionary)).toList());
+        if (query instanceof SearchQuery.Or or)
+            return new SearchQuery.Or(or.clauses().stream().map(clause -> correct(clause, dictionary)).toList());
+        if (query instanceof SearchQuery.Not not)
+            return new SearchQuery.Not(correct(not.clause(), dictionary));
+        return query;
+    }
+
+    private static SearchQuery.Text correct(SearchQuery.Text text, SymSpell dictionary) {
+        List<String> corrected = new ArrayList<>();
+        var changed = false;
+        for (var word : WHITESPACE.split(text.text())) {
+            if (word.isEmpty()) continue;
+            var normalized = normalize(word);
+            var suggestion = dictionary.lookup(normalized).orElse(normalized);
+            // 사전에 있는 단어는 입력한 그대로 둠
+            if (suggestion.equals(normalized)) {
+                corrected.add(word);
+            } else {
+                corrected.add(suggestion);
+                changed = true;
+            }
+        }
+        return changed ? new SearchQuery.Text(String.join(" ", corrected), text.phrase()) : text;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (var word : WORD_DELIMITER.split(normalize(text))) {
+            if (!word.isEmpty()) words.add(word);
+        }
+        return words;
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PositionSkillKey;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.index.SuggestionTrie.Suggestion;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 스킬 이름, 채용포지션, 회사 이름의 자동완성 후보를 채용공고 수를 가중치로 보관합니다.
+ * 시작 시 DB 에서 집계해 만들고, 이후에는 채용공고 등록/수정/삭제 이벤트로 가중치만 바꿉니다.
+ * 색인이 준비되기 전의 이벤트는 모아두었다가 준비된 후 반영합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class SuggestionIndex {
+
+    public static final String SKILL = "skill";
+    public static final String POSITION = "position";
+    public static final String COMPANY = "company";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // 회사 이름 앞뒤의 법인 표기는 접두어 검색에서 제외
+    private static final Pattern CORPORATION = Pattern.compile("\\(주\\)|㈜|주식회사");
+    private static final char TYPE_DELIMITER = '\u0000';
+
+    private final PostRepository postRepository;
+    private final PositionSkillRepository positionSkillRepository;
+    private final SkillService skillService;
+
+    private final Map<Long, String> companyNames = new ConcurrentHashMap<>();
+    private final List<Runnable> pendingUpdates = new ArrayList<>();
+    private volatile SuggestionTrie trie = new SuggestionTrie();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * prefix 로 시작하는 후보를 채용공고 수 내림차순으로 limit 개까지 반환합니다. DB 는 조회하지 않습니다.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        var normalized = normalize(prefix);
+        if (normalized.isEmpty()) return List.of();
+        return trie.top(normalized, limit);
+    }
+
+    public int size() {
+        return trie.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var loaded = new SuggestionTrie();
+        for (var positionNameCount : postRepository.countByPositionName())
+            add(loaded, POSITION, positionNameCount.positionName(), positionNameCount.count());
+        for (var companyPostCount : postRepository.countByCompany()) {
+            companyNames.put(companyPostCount.companyId(), companyPostCount.companyName());
+            add(loaded, COMPANY, companyPostCount.companyName(), companyPostCount.count());
+        }
+        for (var skillPostCount : positionSkillRepository.countBySkillId()) {
+            var count = skillPostCount.count();
+            skillService.getSkillName(skillPostCount.skillId()).ifPresent(name -> add(loaded, SKILL, name, count));
+        }
+
+        synchronized (this) {
+            trie = loaded;
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates.clear();
+            ready = true;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        update(() -> {
+            for (var document : postRepository.findDocumentsByIds(List.of(event.postId()))) {
+                companyNames.put(event.companyId(), document.companyName());
+                add(trie, POSITION, document.positionName(), 1);
+                add(trie, COMPANY, document.companyName(), 1);
+            }
+            addSkills(currentSkillIds(event.postId()), 1);
+        });
+    }
+
+    @TransactionalEventListener
+    public void onPostModified(PostModifiedEvent event) {
+        update(() -> {
+            add(trie, POSITION, event.previousPositionName(), -1);
+            for (var document : postRepository.findDocumentsByIds(List.of(event.postId())))
+                add(trie, POSITION, document.positionName(), 1);
+            addSkills(event.previousSkillIds(), -1);
+            addSkills(currentSkillIds(event.postId()), 1);
+        });
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        update(() -> {
+            add(trie, POSITION, event.positionName(), -1);
+            add(trie, COMPANY, companyNames.get(event.companyId()), -1);
+            addSkills(event.skillIds(), -1);
+        });
+    }
+
+    private synchronized void update(Runnable update) {
+        if (!ready) {
+            pendingUpdates.add(update);
+            return;
+        }
+        update.run();
+    }
+
+    private List<Long> currentSkillIds(Long postId) {
+        return positionSkillRepository.findIdsByPostIds(List.of(postId)).stream()
+                .map(PositionSkillKey::getSkillId)
+                .toList();
+    }
+
+    private void addSkills(Collection<Long> skillIds, long delta) {
+        for (var skillId : skillIds)
+            skillService.getSkillName(skillId).ifPresent(name -> add(trie, SKILL, name, delta));
+    }
+
+    private static void add(SuggestionTrie target, String type, String text, long delta) {
+        if (text == null || delta == 0) return;
+        var key = COMPANY.equals(type) ? CORPORATION.matcher(text).replaceAll(" ") : text;
+        key = normalize(key);
+        if (key.isEmpty()) return;
+        target.add(key + TYPE_DELIMITER + type, new Suggestion(text.strip(), type, 0), delta);
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(text.strip().toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.limvik.backend.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성 후보를 보관하는 압축 trie(radix tree) 입니다. 간선마다 문자열을 두어 한 글자씩 나누지 않습니다.
+ * 노드마다 하위 후보의 최대 가중치를 보관하므로, 접두어 노드에서 가중치가 큰 쪽부터 탐색해 상위 K 개만 방문합니다.
+ * 가중치가 0 이 된 후보는 반환하지 않으며 노드는 남겨둡니다.
+ */
+public class SuggestionTrie {
+
+    private static final Comparator<Candidate> ORDER = Comparator.comparingLong(Candidate::weight).reversed()
+            .thenComparing(Candidate::entry, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private int size = 0;
+
+    /**
+     * key 후보의 가중치에 delta 를 더합니다. 후보가 없으면 value 로 만듭니다.
+     */
+    public void add(String key, Suggestion value, long delta) {
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            var node = root;
+            path.add(node);
+            int i = 0;
+            while (i < key.length()) {
+                var child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    if (delta <= 0) return;
+                    child = new Node(key.substring(i));
+                    node.children.put(key.charAt(i), child);
+                    i = key.length();
+                } else {
+                    int common = commonPrefixLength(child.label, key, i);
+                    if (common < child.label.length()) {
+                        if (delta <= 0) return;
+                        child = split(node, child, common);
+                    }
+                    i += common;
+                }
+                node = child;
+                path.add(node);
+            }
+
+            var wasPresent = node.weight > 0;
+            node.weight = Math.max(0, node.weight + delta);
+            if (node.weight > 0 && node.value == null) node.value = value;
+            if (node.weight > 0 != wasPresent) size += wasPresent ? -1 : 1;
+            for (int j = path.size() - 1; j >= 0; j--)
+                path.get(j).updateMaxWeight();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 후보를 가중치 내림차순으로 limit 개까지 반환합니다.
+     */
+    public List<Suggestion> top(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            var node = find(prefix);
+            if (node == null || node.maxWeight == 0 || limit <= 0) return List.of();
+
+            List<Suggestion> suggestions = new ArrayList<>(limit);
+            PriorityQueue<Candidate> candidates = new PriorityQueue<>(ORDER);
+            candidates.add(new Candidate(node, node.maxWeight, false));
+            while (!candidates.isEmpty() && suggestions.size() < limit) {
+                var candidate = candidates.poll();
+                if (candidate.entry()) {
+                    suggestions.add(candidate.node().value.withWeight(candidate.weight()));
+                    continue;
+                }
+                var current = candidate.node();
+                if (current.weight > 0)
+                    candidates.add(new Candidate(current, current.weight, true));
+                for (var child : current.children.values()) {
+                    if (child.maxWeight > 0)
+                        candidates.add(new Candidate(child, child.maxWeight, false));
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // prefix 가 간선 중간에서 끝나면 그 간선의 아래 노드를 반환
+    private Node find(String prefix) {
+        var node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            var child = node.children.get(prefix.charAt(i));
+            if (child == null) return null;
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (i + common == prefix.length()) return child;
+            if (common < child.label.length()) return null;
+            node = child;
+            i += common;
+        }
+        return node;
+    }
+
+    private static Node split(Node parent, Node child, int length) {
+        var middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        middle.maxWeight = child.maxWeight;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i))
+            i++;
+        return i;
+    }
+
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(2);
+        private Suggestion value;
+        private long weight = 0;
+        private long maxWeight = 0;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void updateMaxWeight() {
+            long max = weight;
+            for (var child : children.values())
+                max = Math.max(max, child.maxWeight);
+            maxWeight = max;
+        }
+    }
+
+    // entry 가 true 면 노드의 후보 자체, false 면 노드의 하위 전체(가중치는 최대 가중치)
+    private record Candidate(Node node, long weight, boolean entry) {
+    }
+
+    public record Suggestion(
+            String text,
+            String type,
+            long weight
+    ) {
+        public Suggestion withWeight(long weight) {
+            return new Suggestion(text, type, weight);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.limvik.backend.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대칭 삭제(symmetric delete) 방식의 오타 교정 사전입니다.
+ * 단어를 추가할 때 글자를 최대 MAX_DISTANCE 개까지 지운 문자열을 미리 색인해두고,
+ * 조회 시에는 입력에서 지운 문자열로 후보를 찾은 뒤 실제 편집 거리(인접 글자 교환 포함)를 계산합니다.
+ */
+public class SymSpell {
+
+    private static final int MAX_DISTANCE = 2;
+    private static final String[] NO_TERMS = new String[0];
+
+    private final Map<String, Long> countsByTerm = new ConcurrentHashMap<>();
+    private final Map<String, String[]> termsByDelete = new ConcurrentHashMap<>();
+
+    public synchronized void add(String term, long count) {
+        if (term.isEmpty()) return;
+        var exists = countsByTerm.containsKey(term);
+        countsByTerm.merge(term, count, Long::sum);
+        if (exists) return;
+        for (var delete : deletes(term, MAX_DISTANCE)) {
+            termsByDelete.merge(delete, new String[]{term}, (terms, added) -> {
+                var merged = Arrays.copyOf(terms, terms.length + 1);
+                merged[terms.length] = term;
+                return merged;
+            });
+        }
+    }
+
+    public boolean contains(String term) {
+        return countsByTerm.containsKey(term);
+    }
+
+    public int size() {
+        return countsByTerm.size();
+    }
+
+    /**
+     * 편집 거리가 가장 가까운 단어를 찾습니다. 거리가 같으면 빈도가 높은 단어를 선택합니다.
+     * 짧은 단어일수록 다른 단어와 혼동되기 쉬우므로 길이에 따라 허용 거리를 줄입니다.
+     */
+    public Optional<String> lookup(String word) {
+        if (contains(word)) return Optional.of(word);
+        int maxDistance = maxDistanceOf(word);
+        if (maxDistance == 0) return Optional.empty();
+
+        String best = null;
+        int bestDistance = maxDistance + 1;
+        long bestCount = 0;
+        Set<String> checked = new HashSet<>();
+        for (var delete : deletes(word, maxDistance)) {
+            for (var term : termsByDelete.getOrDefault(delete, NO_TERMS)) {
+                if (!checked.add(term) || Math.abs(term.length() - word.length()) > maxDistance) continue;
+                int distance = distance(word, term, maxDistance);
+                long count = countsByTerm.getOrDefault(term, 0L);
+                if (distance < bestDistance || (distance == bestDistance && count > bestCount)) {
+                    best = term;
+                    bestDistance = distance;
+                    bestCount = count;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static int maxDistanceOf(String word) {
+        int length = word.length();
+        if (length <= 2) return 0;
+        if (length <= 5) return 1;
+        return MAX_DISTANCE;
+    }
+
+    // 원래 문자열을 포함해 글자를 maxDistance 개까지 지운 모든 문자열
+    private static Set<String> deletes(String word, int maxDistance) {
+        Set<String> deletes = new HashSet<>();
+        deletes.add(word);
+        List<String> current = List.of(word);
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            List<String> next = new ArrayList<>();
+            for (var candidate : current) {
+                if (candidate.length() <= 1) continue;
+                for (int i = 0; i < candidate.length(); i++) {
+                    var delete = candidate.substring(0, i) + candidate.substring(i + 1);
+                    if (deletes.add(delete)) next.add(delete);
+                }
+            }
+            current = next;
+        }
+        return deletes;
+    }
+
+    // 인접 글자 교환을 한 번의 편집으로 보는 편집 거리(optimal string alignment). maxDistance 를 넘으면 중단
+    static int distance(String source, String target, int maxDistance) {
+        var previousPrevious = new int[target.length() + 1];
+        var previous = new int[target.length() + 1];
+        var current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1))
+                    current[j] = Math.min(current[j], previousPrevious[j - 2] + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) return maxDistance + 1;
+            var rotated = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = rotated;
+        }
+        return previous[target.length()];
+    }
+
+}
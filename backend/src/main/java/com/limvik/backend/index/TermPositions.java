@@ -0,0 +1,87 @@
+package com.limvik.backend.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문서의 토큰별 위치(오름차순). 여러 토큰으로 나뉘는 단어와 구문이 문서에 이어져 있는지 확인할 때 사용합니다.
+ * 필드 사이는 위치를 하나 비워 두므로 구문이 필드를 넘어 이어지지 않습니다.
+ */
+public final class TermPositions {
+
+    private static final int[] NONE = new int[0];
+
+    private final Map<String, Positions> positionsByTerm = new HashMap<>();
+    private int next = 0;
+
+    public static TermPositions of(List<String> terms) {
+        var termPositions = new TermPositions();
+        termPositions.addField(terms);
+        return termPositions;
+    }
+
+    public void addField(List<String> terms) {
+        for (var term : terms)
+            positionsByTerm.computeIfAbsent(term, t -> new Positions()).add(next++);
+        next++;
+    }
+
+    public Set<String> terms() {
+        return positionsByTerm.keySet();
+    }
+
+    public boolean contains(String term) {
+        return positionsByTerm.containsKey(term);
+    }
+
+    int[] positions(String term) {
+        var positions = positionsByTerm.get(term);
+        return positions == null ? NONE : Arrays.copyOf(positions.values, positions.size);
+    }
+
+    /**
+     * terms 가 문서에 순서대로 이어져 있는지 확인합니다.
+     */
+    public boolean containsSequence(List<String> terms) {
+        int[][] positions = new int[terms.size()][];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = positions(terms.get(i));
+            if (positions[i].length == 0) return false;
+        }
+        return isSequence(positions);
+    }
+
+    /**
+     * i 번째 배열에 start + i 가 모두 있는 start 가 있는지 확인합니다. 위치가 가장 적은 토큰을 기준으로 찾습니다.
+     */
+    static boolean isSequence(int[][] positions) {
+        int pivot = 0;
+        for (int i = 1; i < positions.length; i++) {
+            if (positions[i].length < positions[pivot].length) pivot = i;
+        }
+        for (var position : positions[pivot]) {
+            int start = position - pivot;
+            if (start < 0) continue;
+            int i = 0;
+            while (i < positions.length && Arrays.binarySearch(positions[i], start + i) >= 0)
+                i++;
+            if (i == positions.length) return true;
+        }
+        return false;
+    }
+
+    private static class Positions {
+        private int[] values = new int[2];
+        private int size = 0;
+
+        private void add(int position) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = position;
+        }
+    }
+
+}
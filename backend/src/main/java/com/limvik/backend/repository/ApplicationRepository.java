@@ -4,6 +4,6 @@ import com.limvik.backend.domain.Application;
 import com.limvik.backend.domain.ApplicationKey;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ApplicationRepository extends JpaRepository<Application, ApplicationKey> {
+public interface ApplicationRepository extends JpaRepository<Application, ApplicationKey>, ApplicationScanRepository {
 
 }
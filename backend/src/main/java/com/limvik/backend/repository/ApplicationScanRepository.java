@@ -0,0 +1,15 @@
+package com.limvik.backend.repository;
+
+public interface ApplicationScanRepository {
+
+    /**
+     * 사용자와 채용공고가 모두 남아있는 지원 관계를 하나씩 전달합니다. 엔티티를 만들지 않습니다.
+     */
+    void forEachUserPostId(UserPostIdConsumer consumer);
+
+    @FunctionalInterface
+    interface UserPostIdConsumer {
+        void accept(long userId, long postId);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.limvik.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+
+/**
+ * 추천 계산에 필요한 (user_id, post_id) 만 JDBC 로 읽습니다. 지원 엔티티는 상태, 사용자, 채용공고를 즉시 로딩하므로 사용하지 않습니다.
+ */
+@RequiredArgsConstructor
+class ApplicationScanRepositoryImpl implements ApplicationScanRepository {
+
+    private static final String SELECT = "SELECT user_id, post_id FROM applications " +
+            "WHERE user_id IS NOT NULL AND post_id IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 받아 옴. 아니면 전체를 메모리에 담음
+    @Override
+    public void forEachUserPostId(UserPostIdConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getLong(1), resultSet.getLong(2)));
+    }
+
+}
@@ -2,10 +2,13 @@ package com.limvik.backend.repository;
 
 import com.limvik.backend.domain.PositionSkill;
 import com.limvik.backend.domain.PositionSkillKey;
+import com.limvik.backend.domain.SkillPostCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 public interface PositionSkillRepository extends JpaRepository<PositionSkill, PositionSkillKey> {
@@ -16,5 +19,12 @@ public interface PositionSkillRepository extends JpaRepository<PositionSkill, Po
     @Query("SELECT p.ids.skillId FROM PositionSkill p WHERE p.ids.postId = :id")
     Set<Long> findSkillIdByPostId(@Param("id") Long id);
 
+    @Query("SELECT p.ids FROM PositionSkill p WHERE p.ids.postId IN :ids")
+    List<PositionSkillKey> findIdsByPostIds(@Param("ids") Collection<Long> ids);
+
     Set<PositionSkill> findAllByPostId(Long postId);
+
+    @Query("SELECT new com.limvik.backend.domain.SkillPostCount(p.ids.skillId, COUNT(p)) FROM PositionSkill p " +
+            "GROUP BY p.ids.skillId")
+    List<SkillPostCount> countBySkillId();
 }
@@ -0,0 +1,10 @@
+package com.limvik.backend.repository;
+
+public interface PostCacheRepository {
+
+    /**
+     * id 채용공고가 2차 캐시에 있으면 true 를 반환합니다. DB 를 조회하지 않습니다.
+     */
+    boolean isCached(Long id);
+
+}
@@ -0,0 +1,17 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.Post;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class PostCacheRepositoryImpl implements PostCacheRepository {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public boolean isCached(Long id) {
+        return entityManagerFactory.getCache().contains(Post.class, id);
+    }
+
+}
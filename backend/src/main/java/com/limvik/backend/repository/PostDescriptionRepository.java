@@ -0,0 +1,24 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.PostDescription;
+import com.limvik.backend.domain.PostDescriptionPage;
+
+import java.util.Optional;
+
+public interface PostDescriptionRepository {
+
+    Optional<PostDescription> findDescriptionById(Long postId);
+
+    /**
+     * 채용내용과 같은 회사의 다른 채용공고 id 를 after 다음부터 limit 개 한 문장으로 읽습니다.
+     */
+    PostDescriptionPage findDescriptionWithOtherPostIds(Long postId, Long companyId, long after, int limit);
+
+    void upsertDescription(Long postId, PostDescription description);
+
+    /**
+     * 전문 검색 색인과 스니펫에 쓰는 채용포지션과 채용내용 원문을 post_search_texts 에 저장합니다.
+     */
+    void upsertSearchText(Long postId, String positionName, String jobDescription);
+
+}
@@ -0,0 +1,67 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.PostDescription;
+import com.limvik.backend.domain.PostDescriptionPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채용내용은 posts 밖에 JDBC 로 읽고 씁니다. 응답용 압축본은 post_descriptions, 검색용 원문은 post_search_texts 에 있습니다.
+ * 채용공고를 바꾸는 트랜잭션의 연결을 함께 사용합니다.
+ */
+@RequiredArgsConstructor
+class PostDescriptionRepositoryImpl implements PostDescriptionRepository {
+
+    private static final String SELECT = "SELECT codec, content FROM post_descriptions WHERE post_id = ?";
+    // 채용내용은 codec 이 있는 행에, 다른 채용공고 id 는 나머지 행에 있음. UNION 결과의 순서는 보장되지 않으므로 id 는 읽은 뒤 정렬
+    private static final String SELECT_WITH_OTHER_POST_IDS =
+            "(SELECT codec, content, NULL AS id FROM post_descriptions WHERE post_id = ?) UNION ALL " +
+            "(SELECT NULL, NULL, id FROM posts WHERE company_id = ? AND id > ? AND id <> ? ORDER BY id LIMIT ?)";
+    private static final String UPSERT = "INSERT INTO post_descriptions(post_id, codec, content) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE codec = VALUES(codec), content = VALUES(content)";
+    private static final String UPSERT_SEARCH_TEXT = "INSERT INTO post_search_texts" +
+            "(post_id, position_name, job_description) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE " +
+            "position_name = VALUES(position_name), job_description = VALUES(job_description)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<PostDescription> findDescriptionById(Long postId) {
+        return jdbcTemplate.query(SELECT, (resultSet, rowNum) ->
+                        new PostDescription(resultSet.getInt(1), resultSet.getBytes(2)), postId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public PostDescriptionPage findDescriptionWithOtherPostIds(Long postId, Long companyId, long after, int limit) {
+        return jdbcTemplate.query(SELECT_WITH_OTHER_POST_IDS, resultSet -> {
+            PostDescription description = null;
+            List<Long> otherPostIds = new ArrayList<>(limit);
+            while (resultSet.next()) {
+                var codec = resultSet.getInt(1);
+                if (resultSet.wasNull())
+                    otherPostIds.add(resultSet.getLong(3));
+                else
+                    description = new PostDescription(codec, resultSet.getBytes(2));
+            }
+            Collections.sort(otherPostIds);
+            return new PostDescriptionPage(description, otherPostIds);
+        }, postId, companyId, after, postId, limit);
+    }
+
+    @Override
+    public void upsertDescription(Long postId, PostDescription description) {
+        jdbcTemplate.update(UPSERT, postId, description.codec(), description.content());
+    }
+
+    @Override
+    public void upsertSearchText(Long postId, String positionName, String jobDescription) {
+        jdbcTemplate.update(UPSERT_SEARCH_TEXT, postId, positionName, jobDescription);
+    }
+
+}
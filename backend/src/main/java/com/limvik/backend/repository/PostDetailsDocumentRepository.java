@@ -0,0 +1,32 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.PostDetailsDocument;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PostDetailsDocumentRepository {
+
+    /**
+     * 기본 키로 문서를 읽습니다. 채용내용은 읽지 않으며 엔티티를 만들지 않습니다.
+     */
+    Optional<PostDetailsDocument> findDocumentById(Long postId);
+
+    void upsertDocument(PostDetailsDocument document);
+
+    /**
+     * 문서가 없을 때만 추가합니다. 먼저 저장된 문서는 더 최신이므로 덮어쓰지 않습니다.
+     */
+    void insertDocumentIfAbsent(PostDetailsDocument document);
+
+    /**
+     * 회사의 모든 문서의 앞쪽 채용공고 id 를 바꿉니다.
+     */
+    void updateCompanyPostIds(Long companyId, long[] companyPostIds);
+
+    /**
+     * 문서가 없는 채용공고 id 를 after 다음부터 limit 개 반환합니다.
+     */
+    List<Long> findIdsWithoutDocument(long after, int limit);
+
+}
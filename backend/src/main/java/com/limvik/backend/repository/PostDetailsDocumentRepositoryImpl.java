@@ -0,0 +1,68 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.PostDetailsDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상세 응답 문서는 엔티티로 매핑하지 않고 JDBC 로 읽고 씁니다. 채용공고를 바꾸는 트랜잭션의 연결을 함께 사용합니다.
+ */
+@RequiredArgsConstructor
+class PostDetailsDocumentRepositoryImpl implements PostDetailsDocumentRepository {
+
+    // 채용내용은 읽지 않음. 조건부 요청이 304 로 끝나면 채용내용이 필요 없으므로 본문을 보낼 때 따로 읽음
+    private static final String SELECT = "SELECT post_id, company_id, version, document, company_post_ids " +
+            "FROM post_documents WHERE post_id = ?";
+    private static final String INSERT = "INSERT INTO post_documents" +
+            "(post_id, company_id, version, document, company_post_ids) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPSERT = INSERT + " ON DUPLICATE KEY UPDATE company_id = VALUES(company_id), " +
+            "version = VALUES(version), document = VALUES(document), company_post_ids = VALUES(company_post_ids)";
+    private static final String INSERT_IGNORE = INSERT.replaceFirst("INSERT", "INSERT IGNORE");
+    private static final String UPDATE_COMPANY_POST_IDS = "UPDATE post_documents SET company_post_ids = ? " +
+            "WHERE company_id = ?";
+    private static final String SELECT_IDS_WITHOUT_DOCUMENT = "SELECT p.id FROM posts p " +
+            "LEFT JOIN post_documents d ON d.post_id = p.id " +
+            "WHERE d.post_id IS NULL AND p.id > ? ORDER BY p.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<PostDetailsDocument> findDocumentById(Long postId) {
+        return jdbcTemplate.query(SELECT, (resultSet, rowNum) -> new PostDetailsDocument(
+                        resultSet.getLong(1),
+                        resultSet.getLong(2),
+                        resultSet.getLong(3),
+                        resultSet.getBytes(4),
+                        PostDetailsDocument.toIds(resultSet.getBytes(5))), postId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public void upsertDocument(PostDetailsDocument document) {
+        update(UPSERT, document);
+    }
+
+    @Override
+    public void insertDocumentIfAbsent(PostDetailsDocument document) {
+        update(INSERT_IGNORE, document);
+    }
+
+    private void update(String sql, PostDetailsDocument document) {
+        jdbcTemplate.update(sql, document.postId(), document.companyId(), document.version(), document.document(),
+                PostDetailsDocument.toBytes(document.companyPostIds()));
+    }
+
+    @Override
+    public void updateCompanyPostIds(Long companyId, long[] companyPostIds) {
+        jdbcTemplate.update(UPDATE_COMPANY_POST_IDS, PostDetailsDocument.toBytes(companyPostIds), companyId);
+    }
+
+    @Override
+    public List<Long> findIdsWithoutDocument(long after, int limit) {
+        return jdbcTemplate.queryForList(SELECT_IDS_WITHOUT_DOCUMENT, Long.class, after, limit);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.PostListFilter;
+import com.limvik.backend.domain.PostSearchHit;
+import com.limvik.backend.domain.PostSnippet;
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.index.SearchQuery;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostQueryRepository {
+
+    /**
+     * 검색식을 만족하는 채용공고를 SQL 한 문장으로 찾아 (점수, 채용공고 id) 내림차순으로 (afterScore, afterId) 다음 limit 개를 반환합니다.
+     */
+    List<PostSearchHit> searchByQuery(SearchQuery query, double afterScore, long afterId, int limit);
+
+    /**
+     * 조건을 만족하는 채용공고를 filter 의 정렬 순서대로 (afterReward, afterId) 다음 limit 개 반환합니다.
+     * 최신순이면 afterReward 는 사용하지 않습니다. 정렬은 색인 순서를 그대로 사용하며 애플리케이션에서 다시 정렬하지 않습니다.
+     */
+    List<PostSummary> findFilteredPage(PostListFilter filter, long afterReward, long afterId, int limit);
+
+    /**
+     * 채용내용에서 terms 중 가장 앞에서 일치하는 곳 주변의 length 글자만 읽어 반환합니다. 일치하지 않는 채용공고는 제외합니다.
+     * 채용내용 전체는 DB 밖으로 읽지 않습니다.
+     */
+    List<PostSnippet> findSnippets(Collection<Long> ids, List<String> terms, int length);
+
+}
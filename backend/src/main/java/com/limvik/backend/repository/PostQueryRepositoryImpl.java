@@ -0,0 +1,121 @@
+package com.limvik.backend.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.limvik.backend.domain.PostListFilter;
+import com.limvik.backend.domain.PostSearchHit;
+import com.limvik.backend.domain.PostSnippet;
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.index.SearchQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검색식을 FULLTEXT(boolean mode) 조건과 스킬 조건으로 이루어진 SQL 한 문장으로 바꿔 실행합니다.
+ * 검색어는 모두 바인딩 파라미터이므로 SQL 은 검색식의 모양(shape)에만 의존합니다.
+ * 모양별로 만든 SQL 을 보관해 다시 만들지 않으며, 같은 SQL 은 드라이버의 prepared statement 캐시에서도 재사용됩니다.
+ * 정렬/범위 조건이 있는 목록도 주어진 조건만 WHERE 에 넣어, 색인을 사용할 수 있는 SQL 로 조회합니다.
+ */
+@RequiredArgsConstructor
+class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    private static final int MAX_CACHED_SHAPES = 1_000;
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+    // 일치한 곳 앞쪽에 둘 글자 수는 전체의 1/4
+    private static final int SNIPPET_LEADING_RATIO = 4;
+    private static final String FILTERED_PAGE_SELECT = "SELECT p.id, c.id AS company_id, c.name AS company_name, " +
+            "a.street, a.city, a.state, p.position_name, p.reward, p.version FROM posts p JOIN companies c ON c.id = p.company_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, String> statementsByShape = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SHAPES)
+            .build();
+
+    @Override
+    public List<PostSearchHit> searchByQuery(SearchQuery query, double afterScore, long afterId, int limit) {
+        var sql = statementsByShape.get(SearchQueryStatement.shapeOf(query),
+                shape -> SearchQueryStatement.compile(query).sql());
+        var parameters = new ArrayList<>(SearchQueryStatement.bind(query));
+        parameters.addAll(List.of(afterScore, afterScore, afterId, limit));
+        return jdbcTemplate.query(sql, (resultSet, rowNum) ->
+                new Hit(resultSet.getLong("id"), resultSet.getDouble("score")), parameters.toArray());
+    }
+
+    @Override
+    public List<PostSummary> findFilteredPage(PostListFilter filter, long afterReward, long afterId, int limit) {
+        var rewardSort = filter.sort() == PostListFilter.Sort.REWARD;
+        var sql = new StringBuilder(FILTERED_PAGE_SELECT);
+        List<Object> parameters = new ArrayList<>();
+        sql.append(filter.city() == null ? "LEFT JOIN" : "JOIN").append(" addresses a ON a.post_id = p.id WHERE ");
+        if (filter.city() != null) {
+            sql.append("a.city = ? AND ");
+            parameters.add(filter.city());
+        }
+        if (filter.minReward() != null) {
+            sql.append("p.reward >= ? AND ");
+            parameters.add(filter.minReward());
+        }
+        if (filter.maxReward() != null) {
+            sql.append("p.reward <= ? AND ");
+            parameters.add(filter.maxReward());
+        }
+        if (rewardSort) {
+            // reward <= ? 로 (reward, id) 색인의 범위를 정하고 같은 보상금 안에서만 id 를 비교
+            sql.append("p.reward <= ? AND (p.reward < ? OR p.id < ?) ORDER BY p.reward DESC, p.id DESC LIMIT ?");
+            parameters.addAll(List.of(afterReward, afterReward, afterId, limit));
+        } else {
+            sql.append("p.id < ? ORDER BY p.id DESC LIMIT ?");
+            parameters.addAll(List.of(afterId, limit));
+        }
+        return jdbcTemplate.query(sql.toString(), (resultSet, rowNum) -> new PostSummary(
+                resultSet.getLong("id"),
+                resultSet.getLong("company_id"),
+                resultSet.getString("company_name"),
+                resultSet.getString("street"),
+                resultSet.getString("city"),
+                resultSet.getString("state"),
+                resultSet.getString("position_name"),
+                resultSet.getLong("reward"),
+                resultSet.getLong("version")), parameters.toArray());
+    }
+
+    @Override
+    public List<PostSnippet> findSnippets(Collection<Long> ids, List<String> terms, int length) {
+        if (ids.isEmpty() || terms.isEmpty()) return List.of();
+        // 일치하지 않으면 LOCATE 가 0 이므로 가장 큰 값으로 바꿔 LEAST 에서 제외
+        var location = "COALESCE(NULLIF(LOCATE(?, job_description), 0), " + NOT_FOUND + ")";
+        var position = terms.size() == 1
+                ? location
+                : "LEAST(" + String.join(", ", Collections.nCopies(terms.size(), location)) + ")";
+        var sql = "SELECT t.id, SUBSTRING(s.job_description, GREATEST(1, t.position - ?), ?) AS snippet " +
+                "FROM (SELECT post_id AS id, " + position + " AS position FROM post_search_texts WHERE post_id IN (" +
+                String.join(", ", Collections.nCopies(ids.size(), "?")) + ")) t " +
+                "JOIN post_search_texts s ON s.post_id = t.id WHERE t.position < " + NOT_FOUND;
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(length / SNIPPET_LEADING_RATIO);
+        parameters.add(length);
+        parameters.addAll(terms);
+        parameters.addAll(ids);
+        return jdbcTemplate.query(sql, (resultSet, rowNum) ->
+                PostSnippet.of(resultSet.getLong("id"), resultSet.getString("snippet"), terms), parameters.toArray());
+    }
+
+    private record Hit(Long id, Double score) implements PostSearchHit {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Double getScore() {
+            return score;
+        }
+    }
+
+}
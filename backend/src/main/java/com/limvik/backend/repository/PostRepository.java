@@ -1,18 +1,146 @@
 package com.limvik.backend.repository;
 
+import com.limvik.backend.domain.CompanyPostCount;
+import com.limvik.backend.domain.CompanyPostId;
+import com.limvik.backend.domain.PositionNameCount;
 import com.limvik.backend.domain.Post;
+import com.limvik.backend.domain.PostDocument;
+import com.limvik.backend.domain.PostFacetRow;
+import com.limvik.backend.domain.PostPositionName;
+import com.limvik.backend.domain.PostSearchHit;
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.domain.PostVersion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepository, PostCacheRepository,
+        PostDetailsDocumentRepository, PostDescriptionRepository {
 
-    @Query("SELECT p FROM Post p WHERE p.positionName LIKE %:keyword% OR p.jobDescription LIKE %:keyword%")
-    List<Post> search(@Param("keyword") String keyword);
+    String SUMMARY_SELECT = "SELECT new com.limvik.backend.domain.PostSummary(" +
+            "p.id, c.id, c.name, a.street, a.city, a.state, p.positionName, p.reward, p.version) " +
+            "FROM Post p JOIN p.company c LEFT JOIN p.address a ";
 
-    @Query("SELECT p.id FROM Post p WHERE p.company.id = :companyId")
-    List<Long> findAllIdByCompanyId(Long companyId);
+    @Query(SUMMARY_SELECT + "WHERE p.id < :after ORDER BY p.id DESC")
+    Slice<PostSummary> findPage(@Param("after") Long after, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "JOIN PostSearchText t ON t.postId = p.id WHERE p.id < :after AND " +
+            "(p.positionName LIKE %:keyword% OR t.jobDescription LIKE %:keyword% OR " +
+            "p.id IN (SELECT ps.ids.postId FROM PositionSkill ps WHERE ps.ids.skillId = :skillId)) " +
+            "ORDER BY p.id DESC")
+    Slice<PostSummary> search(@Param("keyword") String keyword,
+                              @Param("skillId") Long skillId,
+                              @Param("after") Long after,
+                              Pageable pageable);
+
+    // required 가 스킬 수면 모든 스킬, 1 이면 하나 이상의 스킬을 요구
+    @Query(SUMMARY_SELECT + "WHERE p.id < :after AND p.id IN (" +
+            "SELECT ps.ids.postId FROM PositionSkill ps WHERE ps.ids.skillId IN :skillIds " +
+            "GROUP BY ps.ids.postId HAVING COUNT(ps) >= :required) " +
+            "ORDER BY p.id DESC")
+    Slice<PostSummary> findPageBySkillIds(@Param("skillIds") Collection<Long> skillIds,
+                                          @Param("required") long required,
+                                          @Param("after") Long after,
+                                          Pageable pageable);
+
+    @Query(value = "SELECT m.id AS id, MAX(m.score) AS score FROM (" +
+            "SELECT t.post_id AS id, " +
+            "MATCH(t.position_name, t.job_description) AGAINST(:query IN BOOLEAN MODE) AS score " +
+            "FROM post_search_texts t " +
+            "WHERE MATCH(t.position_name, t.job_description) AGAINST(:query IN BOOLEAN MODE) " +
+            "UNION ALL " +
+            "SELECT ps.post_id, 0 FROM position_skills ps WHERE ps.skill_id = :skillId" +
+            ") m GROUP BY m.id " +
+            "HAVING score < :afterScore OR (score = :afterScore AND m.id < :afterId) " +
+            "ORDER BY score DESC, m.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<PostSearchHit> fullTextSearch(@Param("query") String query,
+                                       @Param("skillId") Long skillId,
+                                       @Param("afterScore") Double afterScore,
+                                       @Param("afterId") Long afterId,
+                                       @Param("limit") int limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // 상세 조회에 필요한 회사, 주소, 스킬을 한 문장으로 함께 읽음. 스킬은 컬렉션 하나뿐이므로 행이 곱해지지 않음
+    @Query("SELECT p FROM Post p JOIN FETCH p.company LEFT JOIN FETCH p.address " +
+            "LEFT JOIN FETCH p.positionSkills ps LEFT JOIN FETCH ps.skill WHERE p.id = :id")
+    Optional<Post> findDetailsById(@Param("id") Long id);
+
+    // 수정할 채용공고를 행 잠금(SELECT ... FOR UPDATE)으로 읽으면서 버전을 바로 증가시킴.
+    // 동시에 수정하면 뒤의 요청은 앞의 요청이 끝날 때까지 기다렸다가 증가한 버전에서 다시 증가시키고, 스킬만 바뀌어도 증가함
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findForUpdateById(@Param("id") Long id);
+
+    // 조건부 요청(If-None-Match)은 채용공고를 읽지 않고 버전만 비교. 결과는 posts 가 바뀔 때까지 쿼리 캐시에 보관
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.limvik.backend.domain.PostVersion(p.id, p.company.id, p.version) FROM Post p " +
+            "WHERE p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    // company_id 외래 키 인덱스에는 기본 키(id)가 함께 있으므로 테이블을 읽지 않고 인덱스만으로 찾음
+    @Query("SELECT p.id FROM Post p WHERE p.company.id = :companyId AND p.id > :after AND p.id <> :excludedId " +
+            "ORDER BY p.id")
+    List<Long> findIdsByCompanyId(@Param("companyId") Long companyId,
+                                  @Param("excludedId") Long excludedId,
+                                  @Param("after") Long after,
+                                  Pageable pageable);
+
+    @Query("SELECT new com.limvik.backend.domain.CompanyPostId(p.company.id, p.id) FROM Post p " +
+            "WHERE p.id > :after ORDER BY p.id")
+    Slice<CompanyPostId> findCompanyPostIds(@Param("after") Long after, Pageable pageable);
+
+    String DOCUMENT_SELECT = "SELECT new com.limvik.backend.domain.PostDocument(" +
+            "p.id, c.name, p.positionName, t.jobDescription) FROM Post p JOIN p.company c " +
+            "JOIN PostSearchText t ON t.postId = p.id ";
+
+    @Query(DOCUMENT_SELECT + "WHERE p.id > :after ORDER BY p.id")
+    Slice<PostDocument> findDocuments(@Param("after") Long after, Pageable pageable);
+
+    @Query(DOCUMENT_SELECT + "WHERE p.id IN :ids")
+    List<PostDocument> findDocumentsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(DOCUMENT_SELECT + "WHERE p.id > :after " +
+            "AND NOT EXISTS (SELECT s.postId FROM PostSignature s WHERE s.postId = p.id) ORDER BY p.id")
+    Slice<PostDocument> findDocumentsWithoutSignature(@Param("after") Long after, Pageable pageable);
+
+    String FACET_SELECT = "SELECT new com.limvik.backend.domain.PostFacetRow(p.id, a.city, a.state, p.reward) " +
+            "FROM Post p LEFT JOIN p.address a ";
+
+    @Query(FACET_SELECT + "WHERE p.id > :after ORDER BY p.id")
+    Slice<PostFacetRow> findFacetRows(@Param("after") Long after, Pageable pageable);
+
+    @Query(FACET_SELECT + "WHERE p.id IN :ids")
+    List<PostFacetRow> findFacetRowsByIds(@Param("ids") Collection<Long> ids);
+
+    String POSITION_NAME_SELECT = "SELECT new com.limvik.backend.domain.PostPositionName(p.id, p.positionName) " +
+            "FROM Post p ";
+
+    @Query(POSITION_NAME_SELECT + "WHERE p.id > :after ORDER BY p.id")
+    Slice<PostPositionName> findPositionNames(@Param("after") Long after, Pageable pageable);
+
+    @Query(POSITION_NAME_SELECT + "WHERE p.id IN :ids")
+    List<PostPositionName> findPositionNamesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.limvik.backend.domain.PositionNameCount(p.positionName, COUNT(p)) FROM Post p " +
+            "GROUP BY p.positionName")
+    List<PositionNameCount> countByPositionName();
+
+    @Query("SELECT new com.limvik.backend.domain.CompanyPostCount(c.id, c.name, COUNT(p)) FROM Post p JOIN p.company c " +
+            "GROUP BY c.id, c.name")
+    List<CompanyPostCount> countByCompany();
 
 }
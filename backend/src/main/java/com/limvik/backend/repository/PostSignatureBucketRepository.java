@@ -0,0 +1,17 @@
+package com.limvik.backend.repository;
+
+import java.util.List;
+
+public interface PostSignatureBucketRepository {
+
+    /**
+     * postId 채용공고의 bucket 을 buckets 로 바꿉니다.
+     */
+    void replaceBuckets(long postId, long[] buckets);
+
+    /**
+     * buckets 중 하나 이상에 속한 채용공고 id 를 반환합니다.
+     */
+    List<Long> findPostIdsByBuckets(long[] buckets);
+
+}
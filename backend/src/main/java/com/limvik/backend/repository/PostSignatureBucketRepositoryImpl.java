@@ -0,0 +1,42 @@
+package com.limvik.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * bucket 은 채용공고마다 band 수만큼 있으므로 엔티티로 다루지 않고 JDBC batch 로 추가합니다.
+ */
+@RequiredArgsConstructor
+class PostSignatureBucketRepositoryImpl implements PostSignatureBucketRepository {
+
+    private static final String DELETE = "DELETE FROM post_signature_buckets WHERE post_id = ?";
+    private static final String INSERT = "INSERT IGNORE INTO post_signature_buckets(bucket, post_id) VALUES (?, ?)";
+    private static final String SELECT = "SELECT DISTINCT post_id FROM post_signature_buckets WHERE bucket IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    @Override
+    public void replaceBuckets(long postId, long[] buckets) {
+        jdbcTemplate.update(DELETE, postId);
+        var values = Arrays.stream(buckets).boxed().toList();
+        jdbcTemplate.batchUpdate(INSERT, values, values.size(), (statement, bucket) -> {
+            statement.setLong(1, bucket);
+            statement.setLong(2, postId);
+        });
+    }
+
+    @Override
+    public List<Long> findPostIdsByBuckets(long[] buckets) {
+        if (buckets.length == 0) return List.of();
+        var placeholders = String.join(", ", Collections.nCopies(buckets.length, "?"));
+        return jdbcTemplate.queryForList(SELECT.formatted(placeholders), Long.class,
+                Arrays.stream(buckets).boxed().toArray());
+    }
+
+}
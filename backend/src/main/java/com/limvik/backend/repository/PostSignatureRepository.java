@@ -0,0 +1,15 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.PostSignature;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostSignatureRepository extends JpaRepository<PostSignature, Long>, PostSignatureBucketRepository {
+
+    @Query("SELECT s FROM PostSignature s WHERE s.postId > :after ORDER BY s.postId")
+    Slice<PostSignature> findPage(@Param("after") Long after, Pageable pageable);
+
+}
@@ -0,0 +1,17 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.SavedSearch;
+import com.limvik.backend.domain.SavedSearchQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    @Query("SELECT new com.limvik.backend.domain.SavedSearchQuery(s.id, s.search) FROM SavedSearch s " +
+            "WHERE s.id > :after ORDER BY s.id")
+    Slice<SavedSearchQuery> findQueries(@Param("after") Long after, Pageable pageable);
+
+}
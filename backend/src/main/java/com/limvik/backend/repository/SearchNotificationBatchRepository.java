@@ -0,0 +1,12 @@
+package com.limvik.backend.repository;
+
+import java.util.Collection;
+
+public interface SearchNotificationBatchRepository {
+
+    /**
+     * postId 채용공고와 일치한 저장 검색식마다 알림을 추가합니다. 이미 있는 알림은 건너뜁니다.
+     */
+    void insertAll(long postId, Collection<Long> savedSearchIds);
+
+}
@@ -0,0 +1,30 @@
+package com.limvik.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+
+/**
+ * 알림을 JDBC batch 로 추가합니다. IDENTITY 키를 쓰는 엔티티는 Hibernate 가 한 건씩 INSERT 하므로 사용하지 않습니다.
+ * 드라이버의 rewriteBatchedStatements 설정으로 batch 하나가 여러 행을 넣는 INSERT 한 문장이 됩니다.
+ */
+@RequiredArgsConstructor
+class SearchNotificationBatchRepositoryImpl implements SearchNotificationBatchRepository {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT =
+            "INSERT IGNORE INTO search_notifications(saved_search_id, post_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(long postId, Collection<Long> savedSearchIds) {
+        if (savedSearchIds.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT, savedSearchIds, BATCH_SIZE, (statement, savedSearchId) -> {
+            statement.setLong(1, savedSearchId);
+            statement.setLong(2, postId);
+        });
+    }
+
+}
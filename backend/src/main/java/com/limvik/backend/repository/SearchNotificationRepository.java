@@ -0,0 +1,20 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.SearchNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SearchNotificationRepository extends JpaRepository<SearchNotification, Long>,
+        SearchNotificationBatchRepository {
+
+    @Query("SELECT n FROM SearchNotification n WHERE n.savedSearchId = :savedSearchId AND n.id < :after " +
+            "ORDER BY n.id DESC")
+    List<SearchNotification> findPage(@Param("savedSearchId") Long savedSearchId,
+                                      @Param("after") Long after,
+                                      Pageable pageable);
+
+}
@@ -0,0 +1,165 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.index.SearchQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색식으로 SQL 과 바인딩 파라미터를 만듭니다. SQL 을 만들 때와 파라미터만 모을 때 같은 순서로 검색식을 순회합니다.
+ * 같은 AND/OR 안의 단어는 MATCH 하나로 합쳐(+"a" +"b" -"c", "a" "b") FULLTEXT 색인을 한 번만 사용합니다.
+ * 점수는 제외하지 않는 모든 단어를 OR 로 묶은 MATCH 의 관련도이며, 단어 없이 스킬 필터만 있으면 0 입니다.
+ */
+final class SearchQueryStatement {
+
+    private static final String MATCH = "MATCH(t.position_name, t.job_description) AGAINST(? IN BOOLEAN MODE)";
+    private static final String SKILL = "EXISTS (SELECT 1 FROM position_skills ps JOIN skills s ON s.id = ps.skill_id " +
+            "WHERE ps.post_id = t.post_id AND s.name = ?)";
+
+    private final StringBuilder sql;
+    private final List<Object> parameters = new ArrayList<>();
+
+    private SearchQueryStatement(boolean buildSql) {
+        this.sql = buildSql ? new StringBuilder() : null;
+    }
+
+    /**
+     * 검색어를 뺀 검색식의 구조. 모양이 같으면 SQL 도 같습니다.
+     */
+    static String shapeOf(SearchQuery query) {
+        if (query instanceof SearchQuery.Text) return "T";
+        if (query instanceof SearchQuery.SkillFilter) return "K";
+        if (query instanceof SearchQuery.Not not) return "-" + shapeOf(not.clause());
+        var clauses = query instanceof SearchQuery.And and ? and.clauses() : ((SearchQuery.Or) query).clauses();
+        var shape = new StringBuilder(query instanceof SearchQuery.And ? "&(" : "|(");
+        for (var clause : clauses)
+            shape.append(shapeOf(clause)).append(',');
+        return shape.append(')').toString();
+    }
+
+    static SearchQueryStatement compile(SearchQuery query) {
+        var statement = new SearchQueryStatement(true);
+        statement.build(query);
+        return statement;
+    }
+
+    static List<Object> bind(SearchQuery query) {
+        var statement = new SearchQueryStatement(false);
+        statement.build(query);
+        return statement.parameters;
+    }
+
+    /**
+     * (afterScore, afterScore, afterId, limit) 를 검색식의 파라미터 뒤에 바인딩합니다.
+     */
+    String sql() {
+        return sql.toString();
+    }
+
+    private void build(SearchQuery query) {
+        List<String> scoredTexts = new ArrayList<>();
+        collectScoredTexts(query, scoredTexts);
+        append("SELECT m.id, m.score FROM (SELECT t.post_id AS id, ");
+        if (scoredTexts.isEmpty()) {
+            append("0");
+        } else {
+            append(MATCH);
+            parameters.add(String.join(" ", scoredTexts));
+        }
+        append(" AS score FROM post_search_texts t WHERE ");
+        condition(query);
+        append(") m WHERE m.score < ? OR (m.score = ? AND m.id < ?) ORDER BY m.score DESC, m.id DESC LIMIT ?");
+    }
+
+    private void condition(SearchQuery query) {
+        if (query instanceof SearchQuery.Text text) {
+            append(MATCH);
+            parameters.add(quote(text));
+        } else if (query instanceof SearchQuery.SkillFilter skill) {
+            append(SKILL);
+            parameters.add(skill.name());
+        } else if (query instanceof SearchQuery.Not not) {
+            append("NOT ");
+            condition(not.clause());
+        } else if (query instanceof SearchQuery.And and) {
+            conjunction(and.clauses());
+        } else {
+            disjunction(((SearchQuery.Or) query).clauses());
+        }
+    }
+
+    private void conjunction(List<SearchQuery> clauses) {
+        List<String> required = new ArrayList<>();
+        List<String> excluded = new ArrayList<>();
+        List<SearchQuery> others = new ArrayList<>();
+        for (var clause : clauses) {
+            if (clause instanceof SearchQuery.Text text) required.add("+" + quote(text));
+            else if (clause instanceof SearchQuery.Not not && not.clause() instanceof SearchQuery.Text text)
+                excluded.add(quote(text));
+            else others.add(clause);
+        }
+        List<Runnable> conditions = new ArrayList<>();
+        if (!required.isEmpty()) {
+            // boolean mode 의 '-' 는 '+' 단어와 함께 있어야 동작
+            excluded.replaceAll(text -> "-" + text);
+            required.addAll(excluded);
+            conditions.add(() -> {
+                append(MATCH);
+                parameters.add(String.join(" ", required));
+            });
+        } else if (!excluded.isEmpty()) {
+            conditions.add(() -> {
+                append("NOT " + MATCH);
+                parameters.add(String.join(" ", excluded));
+            });
+        }
+        for (var clause : others)
+            conditions.add(() -> condition(clause));
+        join(conditions, " AND ");
+    }
+
+    private void disjunction(List<SearchQuery> clauses) {
+        List<String> texts = new ArrayList<>();
+        List<Runnable> conditions = new ArrayList<>();
+        for (var clause : clauses) {
+            if (clause instanceof SearchQuery.Text text) texts.add(quote(text));
+            else conditions.add(() -> condition(clause));
+        }
+        if (!texts.isEmpty()) {
+            conditions.add(0, () -> {
+                append(MATCH);
+                parameters.add(String.join(" ", texts));
+            });
+        }
+        join(conditions, " OR ");
+    }
+
+    private void join(List<Runnable> conditions, String operator) {
+        append("(");
+        for (int i = 0; i < conditions.size(); i++) {
+            if (i > 0) append(operator);
+            conditions.get(i).run();
+        }
+        append(")");
+    }
+
+    private static void collectScoredTexts(SearchQuery query, List<String> texts) {
+        if (query instanceof SearchQuery.Text text) {
+            texts.add(quote(text));
+        } else if (query instanceof SearchQuery.And and) {
+            and.clauses().forEach(clause -> collectScoredTexts(clause, texts));
+        } else if (query instanceof SearchQuery.Or or) {
+            or.clauses().forEach(clause -> collectScoredTexts(clause, texts));
+        }
+    }
+
+    // 파서가 따옴표를 검색어에서 제외하므로 그대로 감싸면 boolean mode 연산자도 일반 글자로 취급됨
+    private static String quote(SearchQuery.Text text) {
+        return "\"" + text.text() + "\"";
+    }
+
+    private void append(String fragment) {
+        if (sql != null) sql.append(fragment);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.UserRecommendation;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UserRecommendationBatchRepository {
+
+    /**
+     * 사용자별 추천 채용공고를 추가하거나, 이미 있으면 바꿉니다.
+     */
+    void upsertAll(List<UserRecommendation> recommendations);
+
+    /**
+     * computedAt 전에 계산된 추천을 지웁니다. 다시 계산할 때 추천이 없어진 사용자의 이전 추천입니다.
+     */
+    int deleteComputedBefore(Instant computedAt);
+
+}
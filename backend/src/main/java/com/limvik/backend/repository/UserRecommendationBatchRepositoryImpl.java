@@ -0,0 +1,39 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.UserRecommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 추천은 사용자 수만큼 한꺼번에 다시 쓰므로 엔티티로 하나씩 저장하지 않고 JDBC batch 로 추가하거나 바꿉니다.
+ */
+@RequiredArgsConstructor
+class UserRecommendationBatchRepositoryImpl implements UserRecommendationBatchRepository {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String UPSERT = "INSERT INTO user_recommendations(user_id, post_ids, computed_at) " +
+            "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE post_ids = VALUES(post_ids), computed_at = VALUES(computed_at)";
+    private static final String DELETE = "DELETE FROM user_recommendations WHERE computed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<UserRecommendation> recommendations) {
+        if (recommendations.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPSERT, recommendations, BATCH_SIZE, (statement, recommendation) -> {
+            statement.setLong(1, recommendation.getUserId());
+            statement.setBytes(2, recommendation.getPostIds());
+            statement.setTimestamp(3, Timestamp.from(recommendation.getComputedAt()));
+        });
+    }
+
+    @Override
+    public int deleteComputedBefore(Instant computedAt) {
+        return jdbcTemplate.update(DELETE, Timestamp.from(computedAt));
+    }
+
+}
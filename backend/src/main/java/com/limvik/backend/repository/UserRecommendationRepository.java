@@ -0,0 +1,9 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.UserRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserRecommendationRepository extends JpaRepository<UserRecommendation, Long>,
+        UserRecommendationBatchRepository {
+
+}
@@ -0,0 +1,8 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.domain.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+
+}
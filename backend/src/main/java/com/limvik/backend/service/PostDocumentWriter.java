@@ -0,0 +1,124 @@
+package com.limvik.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limvik.backend.domain.Post;
+import com.limvik.backend.domain.PostDetailsDocument;
+import com.limvik.backend.dto.AddressView;
+import com.limvik.backend.dto.CompanyView;
+import com.limvik.backend.dto.PostView;
+import com.limvik.backend.dto.SkillView;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.exception.PostNotFoundException;
+import com.limvik.backend.repository.CompanyRepository;
+import com.limvik.backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 채용공고 상세 응답 문서(post_documents)를 만들어 저장합니다. 이벤트를 발행한 PostService 의 트랜잭션 안에서
+ * 바로 실행되므로 채용공고와 문서는 함께 커밋되거나 함께 롤백됩니다.
+ * 다른 채용공고 목록은 회사의 앞쪽 채용공고가 바뀔 때만 달라지므로, 그때만 회사의 문서를 한 문장으로 고칩니다.
+ * 채용내용은 post_descriptions 에 따로 있으므로 문서에 넣지 않습니다. 시작 시 문서가 없는 채용공고의 문서를 만듭니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PostDocumentWriter {
+
+    private static final int BACKFILL_BATCH_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final CompanyRepository companyRepository;
+    private final SkillService skillService;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        var companyPostIds = findCompanyPostIds(event.companyId());
+        postRepository.upsertDocument(render(findPost(event.postId()), companyPostIds));
+        // 새 채용공고의 id 가 가장 크므로 회사의 채용공고가 적을 때만 앞쪽에 들어감
+        if (contains(companyPostIds, event.postId()))
+            postRepository.updateCompanyPostIds(event.companyId(), companyPostIds);
+    }
+
+    @EventListener
+    public void onPostModified(PostModifiedEvent event) {
+        var post = findPost(event.postId());
+        postRepository.upsertDocument(render(post, findCompanyPostIds(post.getCompany().getId())));
+    }
+
+    @EventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        // 조회하기 전에 삭제가 반영되고, 삭제한 채용공고의 문서는 외래 키로 함께 삭제됨
+        var companyPostIds = findCompanyPostIds(event.companyId());
+        int size = companyPostIds.length;
+        if (size < PostDetailsDocument.COMPANY_POST_IDS_SIZE || event.postId() < companyPostIds[size - 1])
+            postRepository.updateCompanyPostIds(event.companyId(), companyPostIds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long after = 0L;
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findIdsWithoutDocument(after, BACKFILL_BATCH_SIZE);
+            for (var postId : postIds) {
+                postRepository.findDetailsById(postId).ifPresent(post -> postRepository.insertDocumentIfAbsent(
+                        render(post, findCompanyPostIds(post.getCompany().getId()))));
+            }
+            if (!postIds.isEmpty())
+                after = postIds.get(postIds.size() - 1);
+        } while (postIds.size() == BACKFILL_BATCH_SIZE);
+    }
+
+    private Post findPost(Long postId) {
+        return postRepository.findDetailsById(postId).orElseThrow(() -> new PostNotFoundException(postId));
+    }
+
+    private long[] findCompanyPostIds(Long companyId) {
+        return postRepository.findIdsByCompanyId(companyId, 0L, 0L,
+                        PageRequest.ofSize(PostDetailsDocument.COMPANY_POST_IDS_SIZE)).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (var each : ids) {
+            if (each == id) return true;
+        }
+        return false;
+    }
+
+    private PostDetailsDocument render(Post post, long[] companyPostIds) {
+        // 등록 요청으로 만든 채용공고에는 회사 id 만 있으므로 회사는 따로 읽음
+        var company = companyRepository.findById(post.getCompany().getId()).orElseThrow();
+        var address = post.getAddress();
+        var skills = skillService.getSkillsByPosition(post.getPositionSkills()).stream()
+                .map(skill -> new SkillView(skill.getName()))
+                .toArray(SkillView[]::new);
+        var postView = new PostView(
+                post.getId(),
+                new CompanyView(company.getId(), company.getName()),
+                address == null ? null : new AddressView(address.getStreet(), address.getCity(), address.getState()),
+                post.getPositionName(),
+                post.getReward(),
+                skills,
+                null,
+                null);
+        try {
+            return new PostDetailsDocument(post.getId(), company.getId(), post.getVersion(),
+                    objectMapper.writeValueAsBytes(postView), companyPostIds);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -1,18 +1,44 @@
 package com.limvik.backend.service;
 
 import com.limvik.backend.domain.*;
+import com.limvik.backend.dto.PostCursor;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.exception.FacetsNotReadyException;
+import com.limvik.backend.exception.PostDuplicatedException;
 import com.limvik.backend.exception.PostNotFoundException;
+import com.limvik.backend.exception.SimilarPostsNotReadyException;
+import com.limvik.backend.index.CompanyPostIndex;
+import com.limvik.backend.index.DuplicatePostIndex;
+import com.limvik.backend.index.FacetIndex;
+import com.limvik.backend.index.PostSearchIndex;
+import com.limvik.backend.index.SearchQuery;
+import com.limvik.backend.index.SearchQueryParser;
+import com.limvik.backend.index.SimilarPostIndex;
 import com.limvik.backend.repository.AddressRepository;
 import com.limvik.backend.repository.PositionSkillRepository;
 import com.limvik.backend.repository.PostRepository;
-import com.limvik.backend.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -20,46 +46,226 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final PositionSkillRepository positionSkillRepository;
-    private final SkillRepository skillRepository;
+    private final SkillService skillService;
     private final AddressRepository addressRepository;
+    private final CompanyPostIndex companyPostIndex;
+    private final PostSearchIndex postSearchIndex;
+    private final FacetIndex facetIndex;
+    private final DuplicatePostIndex duplicatePostIndex;
+    private final SimilarPostIndex similarPostIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
+    private static final long FIRST_PAGE = Long.MAX_VALUE;
+    private static final double FIRST_PAGE_SCORE = Double.MAX_VALUE;
+    // ngram_token_size(기본값 2)보다 짧은 검색어는 FULLTEXT 색인과 검색 색인(bigram)으로 찾을 수 없음
+    private static final int MIN_FULLTEXT_KEYWORD_LENGTH = 2;
+    private static final int SNIPPET_LENGTH = 160;
+
+    @Transactional(readOnly = true)
+    public Slice<PostSummary> getPosts(Long after, int size) {
+        return postRepository.findPage(getPageStart(after), PageRequest.ofSize(size));
+    }
+
+    /**
+     * 정렬/범위 조건을 만족하는 채용공고를 반환합니다. 보상금 순이면 after 에 마지막 공고의 보상금이 있어야 합니다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<PostSummary> getPosts(PostListFilter filter, PostCursor after, int size) {
+        var afterReward = after == null || after.reward() == null ? FIRST_PAGE : after.reward();
+        var afterId = after == null ? FIRST_PAGE : after.id();
+        var posts = postRepository.findFilteredPage(filter, afterReward, afterId, size + 1);
+        var hasNext = posts.size() > size;
+        return new SliceImpl<>(hasNext ? posts.subList(0, size) : posts, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * 검색어로 채용공고를 찾고, 채용내용에서 검색어와 일치한 곳이 있으면 그 주변의 일부(snippet)를 함께 반환합니다.
+     */
     @Transactional(readOnly = true)
-    public List<Post> getPosts() {
-        return postRepository.findAll().stream().sorted((o1, o2) -> Long.compare(o2.getId(), o1.getId())).toList();
+    public Slice<PostSummary> getPostsByKeyword(String keyword, PostCursor after, int size) {
+        var query = SearchQueryParser.parse(keyword);
+        return withSnippets(searchPosts(query, after, size), query);
+    }
+
+    private Slice<PostSummary> searchPosts(SearchQuery query, PostCursor after, int size) {
+        if (query instanceof SearchQuery.Text text &&
+                text.text().codePointCount(0, text.text().length()) < MIN_FULLTEXT_KEYWORD_LENGTH)
+            return postRepository.search(text.text(), getSkillIdByName(text.text()),
+                    getPageStart(after == null ? null : after.id()), PageRequest.ofSize(size));
+
+        var afterScore = after == null || after.score() == null ? FIRST_PAGE_SCORE : after.score();
+        var afterId = after == null ? FIRST_PAGE : after.id();
+        List<PostSearchHit> hits;
+        if (postSearchIndex.isReady())
+            hits = postSearchIndex.search(query, afterScore, afterId, size + 1);
+        else if (query instanceof SearchQuery.Text text)
+            hits = postRepository.fullTextSearch("\"" + text.text() + "\"", getSkillIdByName(text.text()),
+                    afterScore, afterId, size + 1);
+        else
+            hits = postRepository.searchByQuery(query, afterScore, afterId, size + 1);
+        return getPostsByHits(hits, size);
+    }
+
+    private Slice<PostSummary> withSnippets(Slice<PostSummary> posts, SearchQuery query) {
+        List<String> terms = new ArrayList<>();
+        collectHighlightTerms(query, terms);
+        if (!posts.hasContent() || terms.isEmpty())
+            return posts;
+        Map<Long, PostSnippet> snippets = postRepository.findSnippets(
+                        posts.getContent().stream().map(PostSummary::id).toList(), terms, SNIPPET_LENGTH).stream()
+                .collect(Collectors.toMap(PostSnippet::id, Function.identity()));
+        return posts.map(post -> post.withSnippet(snippets.get(post.id())));
+    }
+
+    // 제외(-)한 단어는 채용내용에 없으므로 강조하지 않음
+    private static void collectHighlightTerms(SearchQuery query, List<String> terms) {
+        if (query instanceof SearchQuery.Text text && !terms.contains(text.text()))
+            terms.add(text.text());
+        else if (query instanceof SearchQuery.And and)
+            and.clauses().forEach(clause -> collectHighlightTerms(clause, terms));
+        else if (query instanceof SearchQuery.Or or)
+            or.clauses().forEach(clause -> collectHighlightTerms(clause, terms));
     }
 
+    /**
+     * skillNames 를 모두(matchAll) 또는 하나 이상 요구하는 채용공고를 최신순으로 반환합니다.
+     * 색인이 준비되면 스킬별 비트맵으로, 준비 전에는 DB 로 조회합니다.
+     */
     @Transactional(readOnly = true)
-    public List<Post> getPostsByKeyword(String keyword) {
-        Set<Post> posts = getPostsBySkillName(keyword);
-        posts.addAll(postRepository.search(keyword));
-        return posts.stream().sorted((o1, o2) -> Long.compare(o2.getId(), o1.getId())).toList();
-    }
-
-    private Set<Post> getPostsBySkillName(String name) {
-        var skill = skillRepository.findByName(name);
-        Set<Post> posts = new HashSet<>();
-        if (skill.isPresent()) {
-            var postIds = positionSkillRepository.findPostIdsBySkillId(skill.get().getId());
-            posts.addAll(postRepository.findAllById(postIds));
+    public Slice<PostSummary> getPostsBySkills(Collection<String> skillNames, boolean matchAll, Long after, int size) {
+        Set<Long> skillIds = new LinkedHashSet<>();
+        for (var skillName : skillNames) {
+            if (skillName.isBlank()) continue;
+            var skillId = getSkillIdByName(skillName.strip());
+            if (skillId != null) skillIds.add(skillId);
+            else if (matchAll) return emptySlice(size);
         }
-        return posts;
+        if (skillIds.isEmpty())
+            return emptySlice(size);
+
+        if (!facetIndex.isReady())
+            return postRepository.findPageBySkillIds(skillIds, matchAll ? skillIds.size() : 1,
+                    getPageStart(after), PageRequest.ofSize(size));
+
+        var postIds = facetIndex.findPostIdsBySkillIds(skillIds, matchAll, getPageStart(after), size + 1);
+        var hasNext = postIds.length > size;
+        List<Long> pagePostIds = Arrays.stream(postIds).limit(size).boxed().toList();
+        if (pagePostIds.isEmpty())
+            return emptySlice(size);
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIds(pagePostIds).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        var posts = pagePostIds.stream().map(summaries::get).filter(Objects::nonNull).toList();
+        return new SliceImpl<>(posts, PageRequest.ofSize(size), hasNext);
     }
 
+    /**
+     * 검색 결과(검색어가 없으면 전체 채용공고)의 스킬, 지역, 보상금 구간별 채용공고 수를 색인으로 계산합니다.
+     */
+    public PostFacets getFacets(String keyword, int size) {
+        if (!facetIndex.isReady())
+            throw new FacetsNotReadyException();
+        if (keyword == null || keyword.isBlank())
+            return facetIndex.count(size);
+
+        var query = SearchQueryParser.parse(keyword);
+        if (!postSearchIndex.isReady())
+            throw new FacetsNotReadyException();
+        return facetIndex.count(postSearchIndex.findPostIds(query), size);
+    }
+
+    /**
+     * 스킬과 포지션 이름이 비슷한 채용공고를 비슷한 순서로 반환합니다. 유사도는 score 로 반환합니다.
+     */
     @Transactional(readOnly = true)
-    public List<Long> getPostIdsByCompanyId(Long companyId) {
-        return postRepository.findAllIdByCompanyId(companyId);
+    public List<PostSummary> getSimilarPosts(Long id, int size) {
+        if (!similarPostIndex.isReady())
+            throw new SimilarPostsNotReadyException();
+        var similarPosts = similarPostIndex.findSimilar(id, size);
+        if (similarPosts == null) {
+            // 방금 등록되어 아직 색인에 반영되지 않은 채용공고
+            if (!postRepository.existsById(id)) throw new PostNotFoundException(id);
+            return List.of();
+        }
+        if (similarPosts.isEmpty())
+            return List.of();
+
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIds(
+                        similarPosts.stream().map(SimilarPost::id).toList()).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        return similarPosts.stream()
+                .map(similarPost -> {
+                    var summary = summaries.get(similarPost.id());
+                    return summary == null ? null : summary.withScore(similarPost.score());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Slice<PostSummary> getPostsByHits(List<PostSearchHit> hits, int size) {
+        var hasNext = hits.size() > size;
+        if (hasNext)
+            hits = hits.subList(0, size);
+        if (hits.isEmpty())
+            return emptySlice(size);
+
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIds(
+                        hits.stream().map(PostSearchHit::getId).toList()).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        var posts = hits.stream()
+                .map(hit -> {
+                    var summary = summaries.get(hit.getId());
+                    return summary == null ? null : summary.withScore(hit.getScore());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        return new SliceImpl<>(posts, PageRequest.ofSize(size), hasNext);
+    }
+
+    private Slice<PostSummary> emptySlice(int size) {
+        return new SliceImpl<>(List.of(), PageRequest.ofSize(size), false);
+    }
+
+    private Long getSkillIdByName(String name) {
+        return skillService.findSkillByName(name).map(Skill::getId).orElse(null);
     }
 
+    private long getPageStart(Long after) {
+        return after == null ? FIRST_PAGE : after;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getOtherPostIdsByCompanyId(Long companyId, Long postId, Long after, int size) {
+        long start = after == null ? 0L : after;
+        if (companyPostIndex.isReady())
+            return companyPostIndex.getPostIds(companyId, postId, start, size);
+        return postRepository.findIdsByCompanyId(companyId, postId, start, PageRequest.ofSize(size));
+    }
+
+    /**
+     * 채용공고를 등록합니다. 비슷한 채용공고가 있으면 설정에 따라 거부하거나, 등록하고 그 채용공고를 기록합니다.
+     */
     @Transactional
     public Post createPost(Post post, List<Skill> skills) {
-        return savePost(post, skills);
+        var signature = DuplicatePostIndex.signatureOf(post.getPositionName(), post.getJobDescription());
+        var duplicateOf = duplicatePostIndex.findDuplicate(signature);
+        if (duplicateOf != null && duplicatePostIndex.rejectsDuplicates())
+            throw new PostDuplicatedException(duplicateOf);
+        var savedPost = savePost(post, skills);
+        duplicatePostIndex.saveSignature(savedPost.getId(), signature, duplicateOf);
+        savedPost.setDuplicateOf(duplicateOf);
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), savedPost.getCompany().getId()));
+        return savedPost;
     }
 
     private Post savePost(Post post, List<Skill> skills) {
         var address = post.getAddress();
         var savedPost = savePost(post);
+        saveDescription(savedPost);
         savedPost.setAddress(saveAddress(savedPost, address));
-        savedPost.setPositionSkills(savePositionSkills(savedPost, skills));
+        var positionSkills = savePositionSkills(savedPost, skills);
+        positionSkills.addAll(saveInferredSkills(savedPost,
+                skillService.findSkillIdsIn(savedPost.getJobDescription()), getSkillIds(skills)));
+        savedPost.setPositionSkills(positionSkills);
         return savedPost;
     }
 
@@ -68,6 +274,12 @@ public class PostService {
         return postRepository.save(post);
     }
 
+    // 채용내용은 posts 에 두지 않음. 검색에는 post_search_texts 의 원문을, 응답에는 post_descriptions 의 압축본을 씀
+    private void saveDescription(Post post) {
+        postRepository.upsertSearchText(post.getId(), post.getPositionName(), post.getJobDescription());
+        postRepository.upsertDescription(post.getId(), PostDescription.of(post.getJobDescription()));
+    }
+
     private Address saveAddress(Post savedPost, Address address) {
         address.setPost(savedPost);
         return addressRepository.save(address);
@@ -83,18 +295,68 @@ public class PostService {
 
     @Transactional
     public Post modifyPost(Post post, List<Skill> skills) {
-        findPostById(post.getId());
+        var previousPost = postRepository.findForUpdateById(post.getId())
+                .orElseThrow(() -> new PostNotFoundException(post.getId()));
+        var previousPositionName = previousPost.getPositionName();
+        var previousSkillIds = getSkillIds(previousPost);
         var positionSkills = getPositionSkills(post, skills);
-        var existSkillIds = positionSkillRepository.findSkillIdByPostId(post.getId());
-        positionSkills.removeIf(positionSkill ->
-                existSkillIds.contains(positionSkill.getSkill().getId()));
+        Map<Long, PositionSkill> existSkills = positionSkillRepository.findAllByPostId(post.getId()).stream()
+                .collect(Collectors.toMap(positionSkill -> positionSkill.getSkill().getId(), Function.identity()));
+        // 회사가 입력한 스킬이 이미 추정 스킬로 있으면 입력한 스킬로 바꿈
+        positionSkills.removeIf(positionSkill -> {
+            var existSkill = existSkills.get(positionSkill.getSkill().getId());
+            if (existSkill == null) return false;
+            existSkill.setInferred(false);
+            return true;
+        });
         post.setPositionSkills(positionSkills);
         post.getAddress().setPostId(post.getId());
+        // 요청으로 만든 채용공고에는 버전이 없으므로 잠그면서 증가시킨 버전을 그대로 씀. 내용이 바뀌면 저장할 때 한 번 더 증가
+        post.setVersion(previousPost.getVersion());
         var modifiedPost = postRepository.save(post);
+        // 채용내용은 저장되는 속성이 아니므로 병합한 채용공고에 옮김
+        modifiedPost.setJobDescription(post.getJobDescription());
+        saveDescription(modifiedPost);
+        var mentionedSkillIds = skillService.findSkillIdsIn(modifiedPost.getJobDescription());
+        deleteStaleInferredSkills(existSkills.values(), mentionedSkillIds);
+        var skillIds = new HashSet<>(existSkills.keySet());
+        skillIds.addAll(getSkillIds(skills));
+        saveInferredSkills(modifiedPost, mentionedSkillIds, skillIds);
+        duplicatePostIndex.updateSignature(modifiedPost.getId(),
+                DuplicatePostIndex.signatureOf(modifiedPost.getPositionName(), modifiedPost.getJobDescription()));
         modifiedPost.setPositionSkills(positionSkillRepository.findAllByPostId(modifiedPost.getId()));
+        eventPublisher.publishEvent(
+                new PostModifiedEvent(modifiedPost.getId(), previousPositionName, previousSkillIds));
         return modifiedPost;
     }
 
+    /**
+     * 채용내용에 언급되었지만(mentionedSkillIds) 채용공고에 없는(skillIds) 스킬을 추정 스킬로 저장합니다.
+     */
+    private List<PositionSkill> saveInferredSkills(Post post, Set<Long> mentionedSkillIds, Set<Long> skillIds) {
+        List<PositionSkill> inferredSkills = new ArrayList<>();
+        for (var skillId : mentionedSkillIds) {
+            if (!skillIds.contains(skillId))
+                inferredSkills.add(new PositionSkill(post, new Skill(skillId, null), true));
+        }
+        if (inferredSkills.isEmpty()) return inferredSkills;
+        return positionSkillRepository.saveAll(inferredSkills);
+    }
+
+    // 수정한 채용내용에 더 이상 언급되지 않는 추정 스킬을 삭제
+    private void deleteStaleInferredSkills(Collection<PositionSkill> existSkills, Set<Long> mentionedSkillIds) {
+        var staleSkills = existSkills.stream()
+                .filter(positionSkill -> positionSkill.isInferred() &&
+                        !mentionedSkillIds.contains(positionSkill.getSkill().getId()))
+                .toList();
+        if (!staleSkills.isEmpty())
+            positionSkillRepository.deleteAll(staleSkills);
+    }
+
+    private static Set<Long> getSkillIds(List<Skill> skills) {
+        return skills.stream().map(Skill::getId).collect(Collectors.toSet());
+    }
+
     private Set<PositionSkill> getPositionSkills(Post post, List<Skill> skills) {
         Set<PositionSkill> positionSkills = new HashSet<>();
         for (var skill : skills) {
@@ -105,15 +367,58 @@ public class PostService {
 
     @Transactional
     public void deletePost(Long id) {
-        findPostById(id);
+        var post = findPostById(id);
         postRepository.deleteById(id);
+        eventPublisher.publishEvent(
+                new PostDeletedEvent(id, post.getCompany().getId(), post.getPositionName(), getSkillIds(post)));
+    }
+
+    private Set<Long> getSkillIds(Post post) {
+        if (post.getPositionSkills() == null) return Set.of();
+        return post.getPositionSkills().stream()
+                .map(positionSkill -> positionSkill.getSkill().getId())
+                .collect(Collectors.toUnmodifiableSet());
     }
 
+    /**
+     * 채용공고를 회사, 주소, 스킬과 함께 한 번의 조회로 가져옵니다.
+     */
     @Transactional(readOnly = true)
     public Post getPost(Long id) {
-        var post = findPostById(id);
-        post.setPositionSkills(positionSkillRepository.findAllByPostId(id));
-        return post;
+        // 2차 캐시에 있으면 캐시에서 읽고, 없으면 회사, 주소, 스킬과 함께 한 문장으로 읽어 캐시에 넣음
+        var post = postRepository.isCached(id) ? postRepository.findById(id) : postRepository.findDetailsById(id);
+        return post.orElseThrow(() -> new PostNotFoundException(id));
+    }
+
+    /**
+     * 미리 만들어 둔 상세 응답 문서를 기본 키로 읽습니다. 아직 만들지 않았으면 비어 있습니다.
+     */
+    public Optional<PostDetailsDocument> getPostDocument(Long id) {
+        return postRepository.findDocumentById(id);
+    }
+
+    /**
+     * 압축해서 저장한 채용내용을 읽습니다. 풀지 않은 채로 반환합니다.
+     */
+    public PostDescription getPostDescription(Long id) {
+        return postRepository.findDescriptionById(id).orElseThrow(() -> new PostNotFoundException(id));
+    }
+
+    /**
+     * 같은 회사의 다른 채용공고 id 를 색인에서 읽습니다. 색인이 준비되지 않았으면 비어 있습니다.
+     */
+    public Optional<List<Long>> getIndexedOtherPostIds(Long companyId, Long postId, Long after, int size) {
+        if (!companyPostIndex.isReady()) return Optional.empty();
+        return Optional.of(companyPostIndex.getPostIds(companyId, postId, after == null ? 0L : after, size));
+    }
+
+    /**
+     * 채용내용과 같은 회사의 다른 채용공고 id 를 한 문장으로 함께 읽습니다. 색인이 준비되기 전에 사용합니다.
+     */
+    public PostDescriptionPage getPostDescriptionPage(Long id, Long companyId, Long after, int size) {
+        var page = postRepository.findDescriptionWithOtherPostIds(id, companyId, after == null ? 0L : after, size);
+        if (page.description() == null) throw new PostNotFoundException(id);
+        return page;
     }
 
     private Post findPostById(Long id) {
@@ -0,0 +1,51 @@
+package com.limvik.backend.service;
+
+import com.limvik.backend.repository.PositionSkillRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.*;
+
+/**
+ * 한 요청 안에서 조회한 채용공고들의 스킬 id 를 모아서 한 번의 IN 쿼리로 가져오고, 이름은 스킬 사전에서 찾습니다.
+ * prime() 으로 페이지의 채용공고 id를 먼저 등록해두면, 첫 getSkillNames() 호출 시 등록된 id 전체를 함께 조회합니다.
+ */
+@RequiredArgsConstructor
+@RequestScope
+@Component
+public class PostSkillLoader {
+
+    private final PositionSkillRepository positionSkillRepository;
+    private final SkillService skillService;
+
+    private final Set<Long> pendingPostIds = new LinkedHashSet<>();
+    private final Map<Long, List<String>> skillNamesByPostId = new HashMap<>();
+
+    public void prime(Collection<Long> postIds) {
+        for (var postId : postIds) {
+            if (!skillNamesByPostId.containsKey(postId))
+                pendingPostIds.add(postId);
+        }
+    }
+
+    public List<String> getSkillNames(Long postId) {
+        if (!skillNamesByPostId.containsKey(postId)) {
+            pendingPostIds.add(postId);
+            dispatch();
+        }
+        return skillNamesByPostId.get(postId);
+    }
+
+    private void dispatch() {
+        for (var ids : positionSkillRepository.findIdsByPostIds(pendingPostIds)) {
+            var skillNames = skillNamesByPostId.computeIfAbsent(ids.getPostId(), id -> new ArrayList<>());
+            skillService.getSkillName(ids.getSkillId()).ifPresent(skillNames::add);
+        }
+        for (var postId : pendingPostIds) {
+            skillNamesByPostId.putIfAbsent(postId, List.of());
+        }
+        pendingPostIds.clear();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.limvik.backend.service;
+
+import com.limvik.backend.config.RecommendationProperties;
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.domain.UserRecommendation;
+import com.limvik.backend.exception.UserNotFoundException;
+import com.limvik.backend.index.CoApplicationMatrix;
+import com.limvik.backend.repository.ApplicationRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.repository.UserRecommendationRepository;
+import com.limvik.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "이 채용공고에 지원한 사용자가 지원한 다른 채용공고" 로 사용자별 추천 채용공고를 계산해 user_recommendations 에 저장하고,
+ * 조회할 때는 사용자 id 로 한 행만 읽습니다. 계산은 백그라운드에서 주기적으로 전체를 다시 합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class RecommendationService {
+
+    // 이 수의 사용자씩 계산해서 저장하므로, 전체 사용자의 추천을 한꺼번에 메모리에 두지 않음
+    private static final int WRITE_BATCH_SIZE = 10_000;
+
+    private final ApplicationRepository applicationRepository;
+    private final UserRecommendationRepository userRecommendationRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final RecommendationProperties properties;
+
+    /**
+     * userId 사용자의 추천 채용공고를 추천 순서로 size 개까지 반환합니다. 아직 계산되지 않았으면 빈 목록입니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummary> getRecommendedPosts(Long userId, int size) {
+        var recommendation = userRecommendationRepository.findById(userId).orElse(null);
+        if (recommendation == null) {
+            if (!userRepository.existsById(userId)) throw new UserNotFoundException(userId);
+            return List.of();
+        }
+        // 계산한 뒤 삭제된 채용공고는 건너뛰므로 size 보다 적을 수 있음
+        var postIds = Arrays.stream(recommendation.getPostIdArray()).limit(size).boxed().toList();
+        if (postIds.isEmpty()) return List.of();
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIds(postIds).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        return postIds.stream().map(summaries::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 전체 지원 이력으로 추천을 다시 계산합니다. 이전 계산이 끝난 뒤 refresh-delay 만큼 지나면 다시 실행합니다.
+     */
+    @Scheduled(initialDelayString = "${recommendation.refresh-delay:PT1H}",
+            fixedDelayString = "${recommendation.refresh-delay:PT1H}")
+    public void refresh() {
+        // computed_at 의 정밀도(마이크로초)에 맞춰 저장한 값과 비교한 값이 같도록 함
+        var computedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        var builder = CoApplicationMatrix.builder();
+        applicationRepository.forEachUserPostId(builder::add);
+        var matrix = builder.build();
+
+        var pool = properties.parallelism() > 0 ? new ForkJoinPool(properties.parallelism()) : new ForkJoinPool();
+        try {
+            matrix.computeNeighbors(pool, properties.neighbors());
+            int size = Math.min(properties.size(), UserRecommendation.MAX_POSTS);
+            for (int from = 0; from < matrix.userCount(); from += WRITE_BATCH_SIZE) {
+                int to = Math.min(from + WRITE_BATCH_SIZE, matrix.userCount());
+                var postIds = matrix.recommend(pool, from, to, size);
+                List<UserRecommendation> recommendations = new ArrayList<>(postIds.length);
+                for (int user = from; user < to; user++) {
+                    recommendations.add(new UserRecommendation(matrix.userId(user),
+                            UserRecommendation.toBytes(postIds[user - from]), computedAt));
+                }
+                userRecommendationRepository.upsertAll(recommendations);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        // 지원 이력이 모두 없어진 사용자의 이전 추천
+        userRecommendationRepository.deleteComputedBefore(computedAt);
+    }
+
+}
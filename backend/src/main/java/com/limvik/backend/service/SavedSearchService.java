@@ -0,0 +1,69 @@
+package com.limvik.backend.service;
+
+import com.limvik.backend.domain.SavedSearch;
+import com.limvik.backend.domain.SearchNotification;
+import com.limvik.backend.domain.User;
+import com.limvik.backend.event.SavedSearchCreatedEvent;
+import com.limvik.backend.event.SavedSearchDeletedEvent;
+import com.limvik.backend.exception.SavedSearchNotFoundException;
+import com.limvik.backend.exception.SearchQueryNotValidException;
+import com.limvik.backend.index.SearchQueryParser;
+import com.limvik.backend.repository.SavedSearchRepository;
+import com.limvik.backend.repository.SearchNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SearchNotificationRepository searchNotificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_SEARCH_LENGTH = 255;
+
+    /**
+     * 검색식을 저장합니다. 이후 등록/수정되는 채용공고가 검색식과 일치하면 알림이 추가됩니다.
+     */
+    @Transactional
+    public SavedSearch createSavedSearch(Long userId, String search) {
+        var normalized = search == null ? "" : search.strip();
+        if (normalized.length() > MAX_SEARCH_LENGTH)
+            throw new SearchQueryNotValidException(search, "검색식은 %d자 이하로 입력해 주세요.".formatted(MAX_SEARCH_LENGTH));
+        SearchQueryParser.parse(normalized);
+        var savedSearch = savedSearchRepository.save(SavedSearch.builder()
+                .user(User.builder().id(userId).build())
+                .search(normalized)
+                .build());
+        eventPublisher.publishEvent(new SavedSearchCreatedEvent(savedSearch.getId(), savedSearch.getSearch()));
+        return savedSearch;
+    }
+
+    @Transactional
+    public void deleteSavedSearch(Long id) {
+        validateSavedSearch(id);
+        savedSearchRepository.deleteById(id);
+        eventPublisher.publishEvent(new SavedSearchDeletedEvent(id));
+    }
+
+    /**
+     * 저장 검색식의 알림을 최신순으로 after 다음부터 size 개 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<SearchNotification> getNotifications(Long savedSearchId, Long after, int size) {
+        validateSavedSearch(savedSearchId);
+        return searchNotificationRepository.findPage(savedSearchId, after == null ? Long.MAX_VALUE : after,
+                PageRequest.ofSize(size));
+    }
+
+    private void validateSavedSearch(Long id) {
+        if (!savedSearchRepository.existsById(id)) throw new SavedSearchNotFoundException(id);
+    }
+
+}
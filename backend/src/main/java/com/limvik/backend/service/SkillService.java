@@ -2,13 +2,19 @@ package com.limvik.backend.service;
 
 import com.limvik.backend.domain.PositionSkill;
 import com.limvik.backend.domain.Skill;
+import com.limvik.backend.index.SkillDictionary;
 import com.limvik.backend.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 @RequiredArgsConstructor
 @Service
@@ -16,16 +22,85 @@ public class SkillService {
 
     private final SkillRepository skillRepository;
 
+    private volatile SkillDictionary skillDictionary;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSkills() {
+        skillDictionary = SkillDictionary.of(skillRepository.findAll());
+    }
+
     public List<Skill> getSkillsByPosition(Set<PositionSkill> positionSkills) {
-        List<Long> skillIds = new ArrayList<>();
+        List<Skill> skills = new ArrayList<>();
+        List<Long> missingSkillIds = new ArrayList<>();
         for (var positionSkillInfo : positionSkills) {
-            skillIds.add(positionSkillInfo.getSkill().getId());
+            var skillId = positionSkillInfo.getSkill().getId();
+            getSkillName(skillId).ifPresentOrElse(
+                    name -> skills.add(new Skill(skillId, name)),
+                    () -> missingSkillIds.add(skillId));
+        }
+        if (!missingSkillIds.isEmpty())
+            skills.addAll(skillRepository.findAllById(missingSkillIds));
+        return skills;
+    }
+
+    public Optional<String> getSkillName(Long id) {
+        var dictionary = skillDictionary;
+        if (dictionary == null) {
+            missCount.increment();
+            return skillRepository.findById(id).map(Skill::getName);
         }
-        return skillRepository.findAllById(skillIds);
+        return count(dictionary.findNameById(id));
+    }
+
+    public Optional<Skill> findSkillByName(String name) {
+        var dictionary = skillDictionary;
+        if (dictionary == null) {
+            missCount.increment();
+            return skillRepository.findByName(name);
+        }
+        return count(dictionary.findByName(name));
+    }
+
+    /**
+     * text 에 언급된 스킬 id 를 반환합니다. 스킬 사전을 불러오기 전이면 DB 의 스킬로 사전을 만들어 찾습니다.
+     */
+    public Set<Long> findSkillIdsIn(String text) {
+        var dictionary = skillDictionary;
+        if (dictionary == null)
+            dictionary = SkillDictionary.of(skillRepository.findAll());
+        return dictionary.findSkillIdsIn(text);
+    }
+
+    public Collection<String> getSkillNames() {
+        var dictionary = skillDictionary;
+        if (dictionary == null)
+            return skillRepository.findAll().stream().map(Skill::getName).toList();
+        return dictionary.getNames();
     }
 
     public Skill getSkillByName(String name) {
-        return skillRepository.findByName(name).get();
+        return findSkillByName(name).orElseThrow();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int getDictionarySize() {
+        var dictionary = skillDictionary;
+        return dictionary == null ? 0 : dictionary.size();
+    }
+
+    private <T> Optional<T> count(Optional<T> result) {
+        if (result.isPresent()) hitCount.increment();
+        else missCount.increment();
+        return result;
     }
 
 }
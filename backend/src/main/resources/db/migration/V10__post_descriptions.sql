@@ -0,0 +1,15 @@
+-- 응답에 쓰는 채용내용을 posts 밖에 압축해 저장. posts.job_description 은 전문 검색 색인과 스니펫을 위해 그대로 둠
+-- codec 0 은 UTF-8 원문, 1 은 COMPRESS() 형식(원문 길이 4바이트 + zlib)
+CREATE TABLE IF NOT EXISTS `post_descriptions` (
+    `post_id` BIGINT NOT NULL,
+    `codec` TINYINT NOT NULL,
+    `content` LONGBLOB NOT NULL,
+    PRIMARY KEY(post_id),
+    FOREIGN KEY(post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+INSERT INTO post_descriptions(post_id, codec, content)
+SELECT id, 1, COMPRESS(job_description) FROM posts;
+
+-- 채용내용을 뺀 문서로 시작 시 다시 만듦
+DELETE FROM post_documents;
@@ -0,0 +1,23 @@
+-- 검색(전문 검색 색인, 스니펫)에 쓰는 채용내용을 posts 밖으로 옮겨 posts 행에 채용내용이 남지 않도록 함
+-- 전문 검색 색인은 채용포지션과 채용내용을 함께 색인하므로 채용포지션도 함께 둠
+CREATE TABLE IF NOT EXISTS `post_search_texts` (
+    `post_id` BIGINT NOT NULL,
+    `position_name` VARCHAR(255) NOT NULL,
+    `job_description` LONGTEXT NOT NULL,
+    PRIMARY KEY(post_id),
+    FOREIGN KEY(post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+INSERT INTO post_search_texts(post_id, position_name, job_description)
+SELECT id, position_name, job_description FROM posts;
+
+-- ngram 파서는 불용어가 포함된 토큰을 색인하지 않으므로 색인 생성 시 불용어를 사용하지 않음 (V2 참고)
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+CREATE FULLTEXT INDEX `ft_post_search_texts_position_name_job_description`
+    ON `post_search_texts` (`position_name`, `job_description`) WITH PARSER ngram;
+
+SET SESSION innodb_ft_enable_stopword = ON;
+
+DROP INDEX `ft_posts_position_name_job_description` ON `posts`;
+ALTER TABLE `posts` DROP COLUMN `job_description`;
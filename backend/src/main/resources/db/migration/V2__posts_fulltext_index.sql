@@ -0,0 +1,7 @@
+-- ngram 파서는 불용어가 포함된 토큰을 색인하지 않으므로 ('a' 가 포함된 'ja', 'va' 등) 색인 생성 시 불용어를 사용하지 않음
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+CREATE FULLTEXT INDEX `ft_posts_position_name_job_description`
+    ON `posts` (`position_name`, `job_description`) WITH PARSER ngram;
+
+SET SESSION innodb_ft_enable_stopword = ON;
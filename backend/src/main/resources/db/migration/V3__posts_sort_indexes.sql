@@ -0,0 +1,5 @@
+-- 보상금 순 목록: (reward, id) 순서대로 읽어 (reward, id) 커서 다음부터 정렬 없이 LIMIT 만큼만 읽음
+CREATE INDEX `idx_posts_reward_id` ON `posts` (`reward`, `id`);
+
+-- 지역 필터: 지역의 채용공고를 post_id 순서대로 읽음
+CREATE INDEX `idx_addresses_city_post_id` ON `addresses` (`city`, `post_id`);
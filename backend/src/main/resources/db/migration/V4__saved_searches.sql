@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS `saved_searches` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,
+    `user_id` BIGINT NOT NULL,
+    `search` VARCHAR(255) NOT NULL,
+    `created_at` DATETIME DEFAULT now(),
+    PRIMARY KEY(id),
+    FOREIGN KEY(user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- 같은 채용공고가 수정되어 다시 일치해도 알림은 한 번만 남김
+CREATE TABLE IF NOT EXISTS `search_notifications` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,
+    `saved_search_id` BIGINT NOT NULL,
+    `post_id` BIGINT NOT NULL,
+    `created_at` DATETIME DEFAULT now(),
+    PRIMARY KEY(id),
+    UNIQUE KEY `uk_search_notifications_saved_search_id_post_id` (`saved_search_id`, `post_id`),
+    FOREIGN KEY(saved_search_id) REFERENCES saved_searches(id) ON DELETE CASCADE,
+    FOREIGN KEY(post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
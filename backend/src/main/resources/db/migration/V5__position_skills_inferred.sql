@@ -0,0 +1,2 @@
+-- 채용내용에서 찾아 자동으로 추가한 스킬. 회사가 입력한 스킬은 FALSE
+ALTER TABLE `position_skills` ADD COLUMN `inferred` BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,17 @@
+-- 중복 채용공고 검사용 MinHash 서명(int 128개). duplicate_of 는 등록할 때 찾은 가장 비슷한 채용공고
+CREATE TABLE IF NOT EXISTS `post_signatures` (
+    `post_id` BIGINT NOT NULL,
+    `signature` VARBINARY(512) NOT NULL,
+    `duplicate_of` BIGINT,
+    PRIMARY KEY(post_id),
+    FOREIGN KEY(post_id) REFERENCES posts(id) ON DELETE CASCADE,
+    FOREIGN KEY(duplicate_of) REFERENCES posts(id) ON DELETE SET NULL
+);
+
+-- 서명의 LSH band 별 bucket. bucket 으로 후보 채용공고를 찾으며 서명이 바뀌면 post_id 로 지우고 다시 추가
+CREATE TABLE IF NOT EXISTS `post_signature_buckets` (
+    `bucket` BIGINT NOT NULL,
+    `post_id` BIGINT NOT NULL,
+    PRIMARY KEY(bucket, post_id),
+    FOREIGN KEY(post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
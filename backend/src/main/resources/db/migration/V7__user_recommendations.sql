@@ -0,0 +1,9 @@
+-- 사용자별 추천 채용공고 id 목록(BIGINT 를 순서대로 이어 붙인 값). 백그라운드 작업이 주기적으로 다시 계산
+CREATE TABLE IF NOT EXISTS `user_recommendations` (
+    `user_id` BIGINT NOT NULL,
+    `post_ids` VARBINARY(800) NOT NULL,
+    `computed_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY(user_id),
+    KEY `idx_user_recommendations_computed_at` (`computed_at`),
+    FOREIGN KEY(user_id) REFERENCES users(id) ON DELETE CASCADE
+);
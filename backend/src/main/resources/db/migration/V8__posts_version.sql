@@ -0,0 +1,4 @@
+-- 채용공고 응답의 ETag 를 만드는 버전. 채용공고를 수정하면(스킬 변경 포함) 1 씩 증가
+ALTER TABLE `posts`
+    ADD COLUMN `version` BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN `updated_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
@@ -0,0 +1,12 @@
+-- 채용공고 상세 응답(JSON)을 미리 만들어 둔 읽기 모델. 채용공고를 등록/수정/삭제하는 트랜잭션에서 함께 갱신
+-- company_post_ids 는 같은 회사의 채용공고 중 id 가 작은 21개(BIGINT 를 순서대로 이어 붙인 값)로, 회사의 모든 문서가 같은 값을 가짐
+CREATE TABLE IF NOT EXISTS `post_documents` (
+    `post_id` BIGINT NOT NULL,
+    `company_id` BIGINT NOT NULL,
+    `version` BIGINT NOT NULL,
+    `document` LONGBLOB NOT NULL,
+    `company_post_ids` VARBINARY(168) NOT NULL,
+    PRIMARY KEY(post_id),
+    KEY `idx_post_documents_company_id` (`company_id`),
+    FOREIGN KEY(post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
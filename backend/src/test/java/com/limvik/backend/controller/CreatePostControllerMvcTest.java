@@ -1,7 +1,10 @@
 package com.limvik.backend.controller;
 
 import com.limvik.backend.domain.*;
+import com.limvik.backend.exception.PostDuplicatedException;
+import com.limvik.backend.index.SpellingCorrector;
 import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
 import com.limvik.backend.service.SkillService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +33,12 @@ public class CreatePostControllerMvcTest {
     @MockBean
     SkillService skillService;
 
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @MockBean
+    SpellingCorrector spellingCorrector;
+
     @Test
     void requestCreatePostAndReturnSavedPost() throws Exception {
 
@@ -69,14 +78,11 @@ public class CreatePostControllerMvcTest {
                 .positionSkills(Set.of(new PositionSkill(Post.builder().id(5L).build(), skill)))
                 .build();
 
-        List<Long> otherPosts = new ArrayList<>();
-        otherPosts.add(1L);
-        otherPosts.add(2L);
-        otherPosts.add(5L);
+        List<Long> otherPosts = List.of(1L, 2L);
 
         given(skillService.getSkillByName(any())).willReturn(skill);
         given(postService.createPost(savePost, List.of(skill))).willReturn(returnedPost);
-        given(postService.getPostIdsByCompanyId(1L)).willReturn(otherPosts);
+        given(postService.getOtherPostIdsByCompanyId(1L, 5L, null, 20)).willReturn(otherPosts);
 
 
         mockMvc.perform(post("/api/v1/posts")
@@ -90,6 +96,56 @@ public class CreatePostControllerMvcTest {
 
     }
 
+    @Test
+    void requestCreateDuplicatedPostAndReturnDuplicateOfHeader() throws Exception {
+        var body = """
+                {
+                   "address": {"street": "올림픽로 300", "city": "송파구", "state": "서울특별시"},
+                   "positionName": "백엔드 주니어 개발자",
+                   "reward": 1500000,
+                   "skills": [],
+                   "jobDescription": "원티드랩에서 백엔드 주니어 개발자를 채용합니다."
+                }
+                """;
+        var returnedPost = Post.builder()
+                .id(5L)
+                .company(Company.builder().id(1L).name("(주)원티드랩").build())
+                .address(Address.builder().street("올림픽로 300").city("송파구").state("서울특별시").build())
+                .positionName("백엔드 주니어 개발자")
+                .jobDescription("원티드랩에서 백엔드 주니어 개발자를 채용합니다.")
+                .reward(1500000L)
+                .positionSkills(Set.of())
+                .duplicateOf(1L)
+                .build();
+        given(postService.createPost(any(), any())).willReturn(returnedPost);
+
+        mockMvc.perform(post("/api/v1/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Duplicate-Of", "1"));
+    }
+
+    @Test
+    void requestCreateDuplicatedPostAndReturn409() throws Exception {
+        var body = """
+                {
+                   "address": {"street": "올림픽로 300", "city": "송파구", "state": "서울특별시"},
+                   "positionName": "백엔드 주니어 개발자",
+                   "reward": 1500000,
+                   "skills": [],
+                   "jobDescription": "원티드랩에서 백엔드 주니어 개발자를 채용합니다."
+                }
+                """;
+        given(postService.createPost(any(), any())).willThrow(new PostDuplicatedException(1L));
+
+        mockMvc.perform(post("/api/v1/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("중복된 채용공고"));
+    }
+
     @Test
     void requestCreatePostAndReturn422() throws Exception {
 
@@ -1,7 +1,9 @@
 package com.limvik.backend.controller;
 
 import com.limvik.backend.exception.PostNotFoundException;
+import com.limvik.backend.index.SpellingCorrector;
 import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
 import com.limvik.backend.service.SkillService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +29,12 @@ public class DeletePostControllerMvcTest {
     @MockBean
     SkillService skillService;
 
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @MockBean
+    SpellingCorrector spellingCorrector;
+
     @Test
     void requestDeletePostAndReturn204WithNothing() throws Exception {
 
@@ -1,22 +1,30 @@
 package com.limvik.backend.controller;
 
-import com.limvik.backend.domain.*;
+import com.limvik.backend.domain.PostFacets;
+import com.limvik.backend.domain.PostListFilter;
+import com.limvik.backend.domain.PostSnippet;
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.dto.PostCursor;
+import com.limvik.backend.index.SpellingCorrector;
 import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
 import com.limvik.backend.service.SkillService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = PostController.class)
 public class GetPostControllerMvcTest {
@@ -30,53 +38,79 @@ public class GetPostControllerMvcTest {
     @MockBean
     SkillService skillService;
 
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @MockBean
+    SpellingCorrector spellingCorrector;
+
     @Test
     void returnAllPosts() throws Exception {
 
-        var post1 = Post.builder()
-                .id(1L)
-                .company(Company.builder().name("(주)원티드랩").build())
-                .address(Address.builder().street("올림픽로 300, 롯데월드타워 35층").city("송파구").state("서울특별시").build())
-                .build();
+        var post1 = new PostSummary(1L, 1L, "(주)원티드랩",
+                "올림픽로 300, 롯데월드타워 35층", "송파구", "서울특별시", null, null);
 
-        var post2 = Post.builder()
-                .id(2L)
-                .company(Company.builder().name("(주)사람인에이치알").build())
-                .address(Address.builder().street("디지털로 34길 43 14층 (구로동, 코오롱싸이언스밸리1차)").city("구로구").state("서울특별시").build())
-                .build();
+        var post2 = new PostSummary(2L, 2L, "(주)사람인에이치알",
+                "디지털로 34길 43 14층 (구로동, 코오롱싸이언스밸리1차)", "구로구", "서울특별시", null, null);
 
-        given(postService.getPosts())
-                .willReturn(List.of(post1, post2));
+        given(postService.getPosts(null, 20))
+                .willReturn(new SliceImpl<>(List.of(post1, post2)));
 
         mockMvc.perform(get("/api/v1/posts"))
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString("(주)원티드랩")))
                 .andExpect(content().string(containsString("송파구")))
                 .andExpect(content().string(containsString("(주)사람인에이치알")))
-                .andExpect(content().string(containsString("구로구")));
+                .andExpect(content().string(containsString("구로구")))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+
+    }
+
+    @Test
+    void returnPostPageWithNextLink() throws Exception {
+
+        var post3 = new PostSummary(3L, 1L, "(주)원티드랩", null, null, null, "프론트 주니어 개발자", 1500000L);
+
+        var nextCursor = new PostCursor(3L).encode();
+
+        given(postService.getPosts(null, 1))
+                .willReturn(new SliceImpl<>(List.of(post3), PageRequest.ofSize(1), true));
+
+        mockMvc.perform(get("/api/v1/posts?size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].address").isEmpty())
+                .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + nextCursor)))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")));
+
+        given(postService.getPosts(3L, 1))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(1), false));
+
+        mockMvc.perform(get("/api/v1/posts?size=1&after=" + nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+
+    }
+
+    @Test
+    void returnAllPostsWithInvalidCursorAndReturn400() throws Exception {
+
+        mockMvc.perform(get("/api/v1/posts?after=not-a-cursor"))
+                .andExpect(status().isBadRequest());
 
     }
 
     @Test
     void returnAllPostsByKeyword() throws Exception {
 
-        var post1 = Post.builder()
-                .id(1L)
-                .company(Company.builder().name("(주)원티드랩").build())
-                .address(Address.builder().street("올림픽로 300, 롯데월드타워 35층").city("송파구").state("서울특별시").build())
-                .positionName("주니어 백엔드 개발자")
-                .positionSkills(Set.of(new PositionSkill(new Post(), new Skill("java"))))
-                .build();
+        var post1 = new PostSummary(1L, 1L, "(주)원티드랩",
+                "올림픽로 300, 롯데월드타워 35층", "송파구", "서울특별시", "주니어 백엔드 개발자", 1500000L);
 
-        var post2 = Post.builder()
-                .id(2L)
-                .company(Company.builder().name("(주)사람인에이치알").build())
-                .address(Address.builder().street("디지털로 34길 43 14층 (구로동, 코오롱싸이언스밸리1차)").city("구로구").state("서울특별시").build())
-                .jobDescription("주니어 프론트엔드 개발자를 모집합니다.")
-                .build();
+        var post2 = new PostSummary(2L, 2L, "(주)사람인에이치알",
+                "디지털로 34길 43 14층 (구로동, 코오롱싸이언스밸리1차)", "구로구", "서울특별시", "프론트엔드 개발자", 1000000L);
 
-        given(postService.getPostsByKeyword("주니어"))
-                .willReturn(List.of(post1, post2));
+        given(postService.getPostsByKeyword("주니어", null, 20))
+                .willReturn(new SliceImpl<>(List.of(post1, post2)));
 
         mockMvc.perform(get("/api/v1/posts?search=주니어"))
                 .andExpect(status().isOk())
@@ -85,13 +119,132 @@ public class GetPostControllerMvcTest {
                 .andExpect(content().string(containsString("(주)사람인에이치알")))
                 .andExpect(content().string(containsString("구로구")));
 
-        given(postService.getPostsByKeyword("java"))
-                .willReturn(List.of(post1));
+        given(postService.getPostsByKeyword("java", null, 20))
+                .willReturn(new SliceImpl<>(List.of(post1)));
+        given(postSkillLoader.getSkillNames(1L)).willReturn(List.of("java"));
 
         mockMvc.perform(get("/api/v1/posts?search=java"))
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString("(주)원티드랩")))
-                .andExpect(content().string(containsString("송파구")));
+                .andExpect(content().string(containsString("송파구")))
+                .andExpect(jsonPath("$[0].skills[0].name").value("java"));
+
+    }
+
+    @Test
+    void returnAllPostsByKeywordWithSnippet() throws Exception {
+
+        var post1 = new PostSummary(1L, 1L, "(주)원티드랩", null, null, null, "백엔드 주니어 개발자", 1500000L)
+                .withSnippet(PostSnippet.of(1L, "서 백엔드 주니", List.of("백엔드")));
+
+        given(postService.getPostsByKeyword("백엔드", null, 20))
+                .willReturn(new SliceImpl<>(List.of(post1)));
+
+        mockMvc.perform(get("/api/v1/posts?search=백엔드"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].snippet.text").value("서 백엔드 주니"))
+                .andExpect(jsonPath("$[0].snippet.highlights[0].start").value(2))
+                .andExpect(jsonPath("$[0].snippet.highlights[0].end").value(5))
+                .andExpect(jsonPath("$[0].jobDescription").doesNotExist());
 
     }
+
+    @Test
+    void returnAllPostsByCorrectedKeywordWhenNothingFound() throws Exception {
+
+        var post = new PostSummary(1L, 1L, "(주)원티드랩",
+                "올림픽로 300, 롯데월드타워 35층", "송파구", "서울특별시", "백엔드 주니어 개발자", 1500000L, 2.5);
+
+        given(postService.getPostsByKeyword("sprng", null, 1)).willReturn(new SliceImpl<>(List.of()));
+        given(spellingCorrector.correct("sprng")).willReturn(Optional.of("spring"));
+        given(postService.getPostsByKeyword("spring", null, 1))
+                .willReturn(new SliceImpl<>(List.of(post), PageRequest.ofSize(1), true));
+
+        mockMvc.perform(get("/api/v1/posts?search=sprng&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("(주)원티드랩")))
+                .andExpect(header().string("X-Corrected-Search", "spring"))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("search=spring")))
+                .andExpect(header().string(HttpHeaders.LINK,
+                        containsString("after=" + new PostCursor(1L, 2.5).encode())));
+
+    }
+
+    @Test
+    void returnAllPostsBySkills() throws Exception {
+
+        var post1 = new PostSummary(1L, 1L, "(주)원티드랩", null, null, null, "백엔드 주니어 개발자", 1500000L);
+
+        given(postService.getPostsBySkills(List.of("java", "spring"), false, null, 1))
+                .willReturn(new SliceImpl<>(List.of(post1), PageRequest.ofSize(1), true));
+
+        mockMvc.perform(get("/api/v1/posts?skills=java,spring&match=any&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("skills=java,spring")))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + new PostCursor(1L).encode())));
+
+    }
+
+    @Test
+    void returnAllPostsBySkillsWithInvalidFilterAndReturn400() throws Exception {
+
+        mockMvc.perform(get("/api/v1/posts?skills=java&match=some"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/posts?skills=java&search=백엔드"))
+                .andExpect(status().isBadRequest());
+
+    }
+
+    @Test
+    void returnFilteredPostsSortedByReward() throws Exception {
+
+        var post3 = new PostSummary(3L, 1L, "(주)원티드랩", null, null, null, "프론트 주니어 개발자", 1500000L);
+        var filter = new PostListFilter(PostListFilter.Sort.REWARD, 1000000L, null, "송파구");
+
+        given(postService.getPosts(filter, null, 1))
+                .willReturn(new SliceImpl<>(List.of(post3), PageRequest.ofSize(1), true));
+
+        mockMvc.perform(get("/api/v1/posts?sort=reward&minReward=1000000&city=송파구&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(header().string(HttpHeaders.LINK,
+                        containsString("after=" + new PostCursor(3L, null, 1500000L).encode())));
+
+    }
+
+    @Test
+    void returnFilteredPostsWithInvalidFilterAndReturn400() throws Exception {
+
+        mockMvc.perform(get("/api/v1/posts?sort=popular"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/posts?minReward=2000000&maxReward=1000000"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/posts?sort=reward&search=백엔드"))
+                .andExpect(status().isBadRequest());
+        // 보상금이 없는 커서
+        mockMvc.perform(get("/api/v1/posts?sort=reward&after=" + new PostCursor(3L).encode()))
+                .andExpect(status().isBadRequest());
+
+    }
+
+    @Test
+    void returnPostFacets() throws Exception {
+
+        given(postService.getFacets("java", 20)).willReturn(new PostFacets(2,
+                List.of(new PostFacets.FacetCount("java", 2), new PostFacets.FacetCount("spring", 1)),
+                List.of(new PostFacets.FacetCount("송파구", 2)),
+                List.of(new PostFacets.FacetCount("서울특별시", 2)),
+                List.of(new PostFacets.FacetCount("1000000-2000000", 2))));
+
+        mockMvc.perform(get("/api/v1/posts/facets?search=java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.skills.java").value(2))
+                .andExpect(jsonPath("$.skills.spring").value(1))
+                .andExpect(jsonPath("$.cities['송파구']").value(2))
+                .andExpect(jsonPath("$.rewards['1000000-2000000']").value(2));
+
+    }
+
 }
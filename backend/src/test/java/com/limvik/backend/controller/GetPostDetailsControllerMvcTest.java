@@ -2,7 +2,9 @@ package com.limvik.backend.controller;
 
 import com.limvik.backend.domain.*;
 import com.limvik.backend.exception.PostNotFoundException;
+import com.limvik.backend.index.SpellingCorrector;
 import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
 import com.limvik.backend.service.SkillService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +12,6 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -32,6 +33,12 @@ public class GetPostDetailsControllerMvcTest {
     @MockBean
     SkillService skillService;
 
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @MockBean
+    SpellingCorrector spellingCorrector;
+
     @Test
     void requestPostDetailsAndReturn200WithPostDetails() throws Exception {
 
@@ -58,19 +65,16 @@ public class GetPostDetailsControllerMvcTest {
                 .company(company)
                 .address(address)
                 .positionName(positionName)
-                .jobDescription(jobDescription)
                 .reward(reward)
                 .positionSkills(skills)
                 .build();
 
-        List<Long> otherPosts = new ArrayList<>();
-        otherPosts.add(1L);
-        otherPosts.add(2L);
-        otherPosts.add(5L);
+        List<Long> otherPosts = List.of(2L, 5L);
 
         given(postService.getPost(targetPostId)).willReturn(returnedPost);
         given(skillService.getSkillsByPosition(returnedPost.getPositionSkills())).willReturn(List.of(skill1, skill2));
-        given(postService.getPostIdsByCompanyId(targetCompanyId)).willReturn(otherPosts);
+        given(postService.getPostDescriptionPage(targetPostId, targetCompanyId, null, 20))
+                .willReturn(new PostDescriptionPage(PostDescription.of(jobDescription), otherPosts));
 
         mockMvc.perform(get("/api/v1/posts/" + targetPostId))
                 .andExpect(status().isOk())
@@ -78,9 +82,18 @@ public class GetPostDetailsControllerMvcTest {
                 .andExpect(jsonPath("$.['positionName']").value(positionName))
                 .andExpect(jsonPath("$.['address']['street']").value(streetAddress))
                 .andExpect(jsonPath("$.['skills'].length()").value(2))
+                .andExpect(jsonPath("$.['jobDescription']").value(jobDescription))
                 .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(2))
                 .andExpect(jsonPath("$.['otherPostsByCompany'][1]").value(5));
 
+        given(postService.getPostDescriptionPage(targetPostId, targetCompanyId, 2L, 20))
+                .willReturn(new PostDescriptionPage(PostDescription.of(jobDescription), List.of(5L)));
+
+        mockMvc.perform(get("/api/v1/posts/" + targetPostId + "?otherPostsAfter=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['otherPostsByCompany'].length()").value(1))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(5));
+
     }
 
     @Test
@@ -0,0 +1,205 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.index.CompanyPostIndex;
+import com.limvik.backend.repository.PostRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 상세 조회 API 를 끝까지 수행하면서 DB 에 보낸 문장 수를 셉니다.
+ * JdbcTemplate 으로 보내는 문장도 세도록 DataSource 에서 받은 연결을 감싸고, 요청을 처리하는 스레드의 문장만 셉니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+public class GetPostDetailsStatementCountTest {
+
+    private static final StatementCounter STATEMENT_COUNTER = new StatementCounter();
+    // 어떤 버전과도 맞지 않는 ETag
+    private static final String STALE_ETAG = ETags.of("1:-1:[]");
+    private static final String JOB_DESCRIPTION = "원티드랩에서 백엔드 주니어 개발자를 채용합니다.";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @SpyBean
+    CompanyPostIndex companyPostIndex;
+
+    @Test
+    void statementCountOfStoredDocumentIsAtMostTwo() throws Exception {
+        assertThat(postRepository.findDocumentById(1L)).isPresent();
+
+        var eTag = perform(get("/api/v1/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['company']['name']").value("원티드랩"))
+                .andExpect(jsonPath("$.['jobDescription']").value(startsWith(JOB_DESCRIPTION)))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(3))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(STATEMENT_COUNTER.count()).isLessThanOrEqualTo(2);
+
+        // 바뀌지 않았으면 문서만 읽고 채용내용은 읽지 않음
+        perform(get("/api/v1/posts/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        assertThat(STATEMENT_COUNTER.count()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void statementCountOfNextPageOfOtherPostsIsAtMostTwo() throws Exception {
+        perform(get("/api/v1/posts/1?otherPostsAfter=0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['address']['city']").value("송파구"))
+                .andExpect(jsonPath("$.['skills'][0]['name']").value("spring"))
+                .andExpect(jsonPath("$.['jobDescription']").value(startsWith(JOB_DESCRIPTION)))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(3));
+        assertThat(STATEMENT_COUNTER.count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void statementCountOfNextPageBeforeIndexIsReadyIsAtMostTwo() throws Exception {
+        // 같은 회사의 다른 채용공고를 색인 대신 DB 에서 찾음
+        doReturn(false).when(companyPostIndex).isReady();
+
+        perform(get("/api/v1/posts/1?otherPostsAfter=0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['jobDescription']").value(startsWith(JOB_DESCRIPTION)))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(3));
+        assertThat(STATEMENT_COUNTER.count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void statementCountOfConditionalNextPageWithStaleETagIsAtMostTwo() throws Exception {
+        assertThat(companyPostIndex.isReady()).isTrue();
+
+        perform(get("/api/v1/posts/1?otherPostsAfter=0").header(HttpHeaders.IF_NONE_MATCH, STALE_ETAG))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['jobDescription']").value(startsWith(JOB_DESCRIPTION)))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(3));
+        assertThat(STATEMENT_COUNTER.count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void statementCountOfConditionalNextPageWithStaleETagBeforeIndexIsReadyIsAtMostTwo() throws Exception {
+        doReturn(false).when(companyPostIndex).isReady();
+
+        perform(get("/api/v1/posts/1?otherPostsAfter=0").header(HttpHeaders.IF_NONE_MATCH, STALE_ETAG))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['jobDescription']").value(startsWith(JOB_DESCRIPTION)))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(3));
+        assertThat(STATEMENT_COUNTER.count()).isLessThanOrEqualTo(2);
+    }
+
+    // 2차 캐시에 남은 채용공고 없이 요청 하나를 처리하는 동안의 문장을 셈
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        STATEMENT_COUNTER.start();
+        try {
+            return mockMvc.perform(request);
+        } finally {
+            STATEMENT_COUNTER.stop();
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)
+                            ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    static class StatementCounter {
+
+        private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile Thread countingThread;
+
+        void start() {
+            count.set(0);
+            countingThread = Thread.currentThread();
+        }
+
+        void stop() {
+            countingThread = null;
+        }
+
+        int count() {
+            return count.get();
+        }
+
+        private void record(String methodName) {
+            if (Thread.currentThread() == countingThread && STATEMENT_METHODS.contains(methodName))
+                count.incrementAndGet();
+        }
+    }
+
+    static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        STATEMENT_COUNTER.record(method.getName());
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+
+}
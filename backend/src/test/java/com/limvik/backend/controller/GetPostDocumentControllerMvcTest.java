@@ -0,0 +1,141 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.domain.*;
+import com.limvik.backend.index.SpellingCorrector;
+import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = PostController.class)
+public class GetPostDocumentControllerMvcTest {
+
+    private static final String DOCUMENT = "{\"id\":1,\"company\":{\"id\":1,\"name\":\"원티드랩\"}," +
+            "\"address\":{\"street\":\"올림픽로 300\",\"city\":\"송파구\",\"state\":\"서울특별시\"}," +
+            "\"positionName\":\"백엔드 주니어 개발자\",\"reward\":1500000,\"skills\":[{\"name\":\"spring\"}]}";
+    private static final String JOB_DESCRIPTION = "원티드랩에서 \"백엔드\" 주니어 개발자를 채용합니다.\n".repeat(20);
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    PostService postService;
+
+    @MockBean
+    SkillService skillService;
+
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @MockBean
+    SpellingCorrector spellingCorrector;
+
+    @Test
+    void returnStoredDocumentWithOtherPostsOfCompany() throws Exception {
+
+        var document = new PostDetailsDocument(1L, 1L, 2L, DOCUMENT.getBytes(StandardCharsets.UTF_8),
+                new long[]{1L, 3L});
+        given(postService.getPostDocument(1L)).willReturn(Optional.of(document));
+        given(postService.getPostDescription(1L)).willReturn(PostDescription.of(JOB_DESCRIPTION));
+
+        mockMvc.perform(get("/api/v1/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.of("1:2:[3]")))
+                .andExpect(jsonPath("$.['company']['name']").value("원티드랩"))
+                .andExpect(jsonPath("$.['skills'][0]['name']").value("spring"))
+                .andExpect(jsonPath("$.['jobDescription']").value(JOB_DESCRIPTION))
+                .andExpect(jsonPath("$.['otherPostsByCompany'].length()").value(1))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(3));
+        verify(postService, never()).getPost(any());
+    }
+
+    @Test
+    void returnStoredDocumentWithoutOtherPostsAndAnswer304() throws Exception {
+
+        var document = new PostDetailsDocument(1L, 1L, 0L, DOCUMENT.getBytes(StandardCharsets.UTF_8),
+                new long[]{1L});
+        given(postService.getPostDocument(1L)).willReturn(Optional.of(document));
+        given(postService.getPostDescription(1L)).willReturn(PostDescription.of("짧은 채용내용"));
+
+        mockMvc.perform(get("/api/v1/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(DOCUMENT.replaceFirst("}$", ",\"jobDescription\":\"짧은 채용내용\"}")));
+
+        mockMvc.perform(get("/api/v1/posts/1").header(HttpHeaders.IF_NONE_MATCH, ETags.of("1:0:[]")))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(postService, never()).getPost(any());
+        // 304 는 채용내용을 읽지 않음
+        verify(postService, times(1)).getPostDescription(1L);
+    }
+
+    @Test
+    void answerFromPostWhenDocumentIsNotStored() throws Exception {
+
+        given(postService.getPostDocument(1L)).willReturn(Optional.empty());
+        given(postService.getPost(1L)).willReturn(Post.builder()
+                .id(1L)
+                .company(Company.builder().id(1L).name("원티드랩").build())
+                .address(Address.builder().postId(1L).street("올림픽로 300").city("송파구").state("서울특별시").build())
+                .positionName("백엔드 주니어 개발자")
+                .reward(1500000L)
+                .version(2L)
+                .positionSkills(Set.of())
+                .build());
+        given(postService.getPostDescriptionPage(1L, 1L, null, 20)).willReturn(
+                new PostDescriptionPage(PostDescription.of(JOB_DESCRIPTION), List.of(3L)));
+
+        mockMvc.perform(get("/api/v1/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.of("1:2:[3]")))
+                .andExpect(jsonPath("$.['company']['name']").value("원티드랩"))
+                .andExpect(jsonPath("$.['jobDescription']").value(JOB_DESCRIPTION))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(3));
+        verify(postService, never()).getOtherPostIdsByCompanyId(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void buildNextPageOfOtherPostsWithoutDocument() throws Exception {
+
+        var post = Post.builder()
+                .id(1L)
+                .company(Company.builder().id(1L).name("원티드랩").build())
+                .address(Address.builder().postId(1L).street("올림픽로 300").city("송파구").state("서울특별시").build())
+                .positionName("백엔드 주니어 개발자")
+                .reward(1500000L)
+                .positionSkills(Set.of())
+                .build();
+        given(postService.getPost(1L)).willReturn(post);
+        given(postService.getPostDescriptionPage(1L, 1L, 3L, 20)).willReturn(
+                new PostDescriptionPage(PostDescription.of("원티드랩에서 백엔드 주니어 개발자를 채용합니다."), List.of(5L)));
+
+        mockMvc.perform(get("/api/v1/posts/1?otherPostsAfter=3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['jobDescription']").value("원티드랩에서 백엔드 주니어 개발자를 채용합니다."))
+                .andExpect(jsonPath("$.['otherPostsByCompany'][0]").value(5));
+        verify(postService, never()).getPostDocument(any());
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.exception.UserNotFoundException;
+import com.limvik.backend.service.PostSkillLoader;
+import com.limvik.backend.service.RecommendationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = UserController.class)
+public class GetRecommendedPostsControllerMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    RecommendationService recommendationService;
+
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @Test
+    void requestRecommendedPostsAndReturnPostList() throws Exception {
+        given(recommendationService.getRecommendedPosts(1L, 20)).willReturn(List.of(
+                new PostSummary(3L, 1L, "(주)원티드랩", null, null, null, "프론트 주니어 개발자", 1_500_000L),
+                new PostSummary(2L, 2L, "(주)사람인에이치알", "디지털로 34길 43", "구로구", "서울특별시",
+                        "프론트 주니어 개발자", 1_000_000L)));
+        given(postSkillLoader.getSkillNames(3L)).willReturn(List.of());
+        given(postSkillLoader.getSkillNames(2L)).willReturn(List.of("javascript"));
+
+        mockMvc.perform(get("/api/v1/users/1/recommended-posts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[1].company.name").value("(주)사람인에이치알"))
+                .andExpect(jsonPath("$[1].skills[0].name").value("javascript"));
+    }
+
+    @Test
+    void requestRecommendedPostsOfUnknownUserAndReturn404() throws Exception {
+        given(recommendationService.getRecommendedPosts(99L, 50)).willThrow(new UserNotFoundException(99L));
+
+        mockMvc.perform(get("/api/v1/users/99/recommended-posts").param("size", "1000"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("찾을 수 없는 사용자"));
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.exception.PostNotFoundException;
+import com.limvik.backend.exception.SimilarPostsNotReadyException;
+import com.limvik.backend.index.SpellingCorrector;
+import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = PostController.class)
+public class GetSimilarPostsControllerMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    PostService postService;
+
+    @MockBean
+    SkillService skillService;
+
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @MockBean
+    SpellingCorrector spellingCorrector;
+
+    @Test
+    void requestSimilarPostsAndReturnPostList() throws Exception {
+        var similarPost = new PostSummary(3L, 1L, "(주)원티드랩", "올림픽로 300", "송파구", "서울특별시",
+                "백엔드 시니어 개발자", 1_000_000L, 0.75);
+        given(postService.getSimilarPosts(1L, 50)).willReturn(List.of(similarPost));
+        given(postSkillLoader.getSkillNames(3L)).willReturn(List.of("java", "spring"));
+
+        mockMvc.perform(get("/api/v1/posts/1/similar").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].positionName").value("백엔드 시니어 개발자"))
+                .andExpect(jsonPath("$[1]").doesNotExist());
+    }
+
+    @Test
+    void requestSimilarPostsOfUnknownPostAndReturn404() throws Exception {
+        given(postService.getSimilarPosts(99L, 10)).willThrow(new PostNotFoundException(99L));
+
+        mockMvc.perform(get("/api/v1/posts/99/similar"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void requestSimilarPostsBeforeIndexReadyAndReturn503() throws Exception {
+        given(postService.getSimilarPosts(1L, 10)).willThrow(new SimilarPostsNotReadyException());
+
+        mockMvc.perform(get("/api/v1/posts/1/similar"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.title").value("유사 채용공고 준비 중"));
+    }
+
+}
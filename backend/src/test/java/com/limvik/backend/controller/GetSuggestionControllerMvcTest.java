@@ -0,0 +1,49 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.index.SuggestionIndex;
+import com.limvik.backend.index.SuggestionTrie.Suggestion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SuggestController.class)
+public class GetSuggestionControllerMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    SuggestionIndex suggestionIndex;
+
+    @Test
+    void returnSuggestionsByPrefix() throws Exception {
+        given(suggestionIndex.suggest("ja", 10)).willReturn(List.of(
+                new Suggestion("java", SuggestionIndex.SKILL, 12),
+                new Suggestion("javascript", SuggestionIndex.SKILL, 3)));
+
+        mockMvc.perform(get("/api/v1/suggest").param("prefix", "ja"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].text").value("java"))
+                .andExpect(jsonPath("$[0].type").value("skill"))
+                .andExpect(jsonPath("$[0].count").value(12))
+                .andExpect(jsonPath("$[1].text").value("javascript"));
+    }
+
+    @Test
+    void limitSuggestionSize() throws Exception {
+        given(suggestionIndex.suggest("ja", 20)).willReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/suggest").param("prefix", "ja").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+}
@@ -2,7 +2,9 @@ package com.limvik.backend.controller;
 
 import com.limvik.backend.domain.*;
 import com.limvik.backend.exception.PostNotFoundException;
+import com.limvik.backend.index.SpellingCorrector;
 import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
 import com.limvik.backend.service.SkillService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +14,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -35,6 +36,12 @@ public class ModifyPostControllerMvcTest {
     @MockBean
     SkillService skillService;
 
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @MockBean
+    SpellingCorrector spellingCorrector;
+
     String body;
 
     @BeforeEach
@@ -101,16 +108,13 @@ public class ModifyPostControllerMvcTest {
                 .positionSkills(modifiedSkills)
                 .build();
 
-        List<Long> otherPosts = new ArrayList<>();
-        otherPosts.add(1L);
-        otherPosts.add(2L);
-        otherPosts.add(5L);
+        List<Long> otherPosts = List.of(2L, 5L);
 
         given(skillService.getSkillByName(skill1.getName())).willReturn(skill1);
         given(skillService.getSkillByName(skill2.getName())).willReturn(skill2);
         given(postService.modifyPost(modifyPost, List.of(skill1, skill2))).willReturn(returnedPost);
         given(skillService.getSkillsByPosition(returnedPost.getPositionSkills())).willReturn(List.of(skill1, skill2));
-        given(postService.getPostIdsByCompanyId(targetCompanyId)).willReturn(otherPosts);
+        given(postService.getOtherPostIdsByCompanyId(targetCompanyId, targetPostId, null, 20)).willReturn(otherPosts);
 
         mockMvc.perform(patch("/api/v1/posts/" + targetPostId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,172 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.domain.*;
+import com.limvik.backend.index.SpellingCorrector;
+import com.limvik.backend.service.PostService;
+import com.limvik.backend.service.PostSkillLoader;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = PostController.class)
+public class PostETagControllerMvcTest {
+
+    private static final String JOB_DESCRIPTION = "원티드랩에서 백엔드 주니어 개발자를 채용합니다.";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    PostService postService;
+
+    @MockBean
+    SkillService skillService;
+
+    @MockBean
+    PostSkillLoader postSkillLoader;
+
+    @MockBean
+    SpellingCorrector spellingCorrector;
+
+    @Test
+    void returnPostDetailsWithETagAnd304WithoutReadingDescription() throws Exception {
+
+        var targetPostId = 1L;
+        var company = Company.builder().id(1L).name("(주)원티드랩").build();
+        var post = Post.builder()
+                .id(targetPostId)
+                .company(company)
+                .address(Address.builder().postId(targetPostId).street("올림픽로 300").city("송파구").state("서울특별시").build())
+                .positionName("백엔드 주니어 개발자")
+                .reward(1500000L)
+                .positionSkills(Set.of())
+                .version(3L)
+                .build();
+
+        given(postService.getPost(targetPostId)).willReturn(post);
+        given(postService.getIndexedOtherPostIds(1L, targetPostId, null, 20)).willReturn(Optional.of(List.of(3L)));
+        given(postService.getPostDescription(targetPostId)).willReturn(PostDescription.of(JOB_DESCRIPTION));
+
+        var eTag = mockMvc.perform(get("/api/v1/posts/" + targetPostId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+
+        mockMvc.perform(get("/api/v1/posts/" + targetPostId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        // 304 는 채용내용을 읽지 않음
+        verify(postService, times(1)).getPostDescription(targetPostId);
+
+        // 같은 회사에 채용공고가 추가되면 응답이 바뀌므로 ETag 도 바뀜
+        given(postService.getIndexedOtherPostIds(1L, targetPostId, null, 20)).willReturn(Optional.of(List.of(3L, 4L)));
+
+        mockMvc.perform(get("/api/v1/posts/" + targetPostId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['otherPostsByCompany'].length()").value(2))
+                .andExpect(jsonPath("$.['jobDescription']").value(JOB_DESCRIPTION));
+        verify(postService, never()).getPostDescriptionPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void returnModifiedPostDetailsWhenVersionChanged() throws Exception {
+
+        var targetPostId = 1L;
+        var post = Post.builder()
+                .id(targetPostId)
+                .company(Company.builder().id(1L).name("(주)원티드랩").build())
+                .address(Address.builder().postId(targetPostId).street("올림픽로 300").city("송파구").state("서울특별시").build())
+                .positionName("백엔드 주니어 개발자")
+                .reward(1500000L)
+                .positionSkills(Set.of())
+                .version(4L)
+                .build();
+        var staleETag = ETags.of(targetPostId + ":3:[]");
+
+        given(postService.getPost(targetPostId)).willReturn(post);
+        given(postService.getPostDescriptionPage(targetPostId, 1L, 2L, 20))
+                .willReturn(new PostDescriptionPage(PostDescription.of(JOB_DESCRIPTION), List.of()));
+
+        // 색인이 준비되지 않았으면 채용내용과 다른 채용공고 id 를 함께 읽고, 채용내용을 다시 읽지 않음
+        mockMvc.perform(get("/api/v1/posts/" + targetPostId + "?otherPostsAfter=2")
+                        .header(HttpHeaders.IF_NONE_MATCH, staleETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.of(targetPostId + ":4:[]")))
+                .andExpect(jsonPath("$.['positionName']").value("백엔드 주니어 개발자"))
+                .andExpect(jsonPath("$.['jobDescription']").value(JOB_DESCRIPTION));
+        verify(postService, never()).getPostDescription(any());
+    }
+
+    @Test
+    void returnPostListWithETagAnd304WithoutLoadingSkills() throws Exception {
+
+        var post1 = new PostSummary(1L, 1L, "(주)원티드랩", null, null, null, "백엔드 주니어 개발자", 1500000L, 0L);
+        var post2 = new PostSummary(2L, 2L, "(주)사람인에이치알", null, null, null, "프론트 주니어 개발자", 1000000L, 1L);
+
+        given(postService.getPosts(null, 20)).willReturn(new SliceImpl<>(List.of(post1, post2)));
+
+        var eTag = mockMvc.perform(get("/api/v1/posts"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/posts").header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(postSkillLoader).prime(any());
+
+        // 목록의 채용공고 하나가 수정되면 ETag 가 바뀜
+        var modifiedPost2 = new PostSummary(2L, 2L, "(주)사람인에이치알", null, null, null, "프론트 주니어 개발자", 1000000L, 2L);
+        given(postService.getPosts(null, 20)).willReturn(new SliceImpl<>(List.of(post1, modifiedPost2)));
+
+        mockMvc.perform(get("/api/v1/posts").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    void returnPostDetailsBeforeIndexIsReadyReadsDescriptionOnce() throws Exception {
+
+        var targetPostId = 1L;
+        var post = Post.builder()
+                .id(targetPostId)
+                .company(Company.builder().id(1L).name("(주)원티드랩").build())
+                .address(Address.builder().postId(targetPostId).street("올림픽로 300").city("송파구").state("서울특별시").build())
+                .positionName("백엔드 주니어 개발자")
+                .reward(1500000L)
+                .positionSkills(Set.of())
+                .build();
+
+        given(postService.getPost(targetPostId)).willReturn(post);
+        given(postService.getPostDescriptionPage(targetPostId, 1L, null, 20))
+                .willReturn(new PostDescriptionPage(PostDescription.of(JOB_DESCRIPTION), List.of()));
+
+        mockMvc.perform(get("/api/v1/posts/" + targetPostId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.['jobDescription']").value(JOB_DESCRIPTION));
+        verify(postService, never()).getPostDescription(any());
+    }
+
+}
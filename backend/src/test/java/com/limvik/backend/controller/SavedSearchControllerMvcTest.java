@@ -0,0 +1,89 @@
+package com.limvik.backend.controller;
+
+import com.limvik.backend.domain.SavedSearch;
+import com.limvik.backend.domain.SearchNotification;
+import com.limvik.backend.exception.SavedSearchNotFoundException;
+import com.limvik.backend.exception.SearchQueryNotValidException;
+import com.limvik.backend.service.SavedSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SavedSearchController.class)
+public class SavedSearchControllerMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    SavedSearchService savedSearchService;
+
+    @Test
+    void requestCreateSavedSearchAndReturnSavedSearch() throws Exception {
+
+        var now = Instant.now();
+        given(savedSearchService.createSavedSearch(1L, "백엔드 skill:java"))
+                .willReturn(SavedSearch.builder().id(7L).search("백엔드 skill:java").createdAt(now).build());
+
+        mockMvc.perform(post("/api/v1/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "userId": 1,
+                                  "search": "백엔드 skill:java"
+                                }
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/v1/saved-searches/7"))
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.createdAt").value(now.toString()));
+    }
+
+    @Test
+    void requestCreateSavedSearchWithInvalidSearchAndReturn400() throws Exception {
+
+        given(savedSearchService.createSavedSearch(1L, "-시니어"))
+                .willThrow(new SearchQueryNotValidException("-시니어", "제외(-)하지 않는 단어가 하나 이상 있어야 합니다."));
+
+        mockMvc.perform(post("/api/v1/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "userId": 1,
+                                  "search": "-시니어"
+                                }
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void returnNotificationsAndReturn404WhenDeleted() throws Exception {
+
+        given(savedSearchService.getNotifications(7L, null, 20)).willReturn(List.of(
+                SearchNotification.builder().id(3L).savedSearchId(7L).postId(12L).createdAt(Instant.now()).build()));
+
+        mockMvc.perform(get("/api/v1/saved-searches/7/notifications"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].postId").value(12));
+
+        willThrow(new SavedSearchNotFoundException(8L)).given(savedSearchService).deleteSavedSearch(8L);
+
+        mockMvc.perform(delete("/api/v1/saved-searches/8"))
+                .andExpect(status().isNotFound());
+    }
+
+}
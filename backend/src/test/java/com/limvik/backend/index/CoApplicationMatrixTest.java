@@ -0,0 +1,59 @@
+package com.limvik.backend.index;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoApplicationMatrixTest {
+
+    ForkJoinPool pool;
+
+    CoApplicationMatrix matrix;
+
+    @BeforeEach
+    void build() {
+        pool = new ForkJoinPool(2);
+        // 사용자 1, 2 는 채용공고 10, 20 에 함께 지원. 사용자 3 은 10, 30 에, 사용자 4 는 40 에만 지원
+        matrix = CoApplicationMatrix.builder()
+                .add(1L, 10L).add(1L, 20L)
+                .add(2L, 10L).add(2L, 20L)
+                .add(3L, 10L).add(3L, 30L).add(3L, 30L)
+                .add(4L, 40L)
+                .add(5L, 10L)
+                .build();
+        matrix.computeNeighbors(pool, 10);
+    }
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void rankNeighborsByCoApplications() {
+        assertThat(matrix.userCount()).isEqualTo(5);
+        assertThat(matrix.postCount()).isEqualTo(4);
+        // 10 과 함께 지원한 사용자는 20 이 2명(2/√(4·2)), 30 이 1명(1/√(4·1))
+        assertThat(matrix.neighborPostIds(10L)).containsExactly(20L, 30L);
+        assertThat(matrix.neighborPostIds(30L)).containsExactly(10L);
+        assertThat(matrix.neighborPostIds(40L)).isEmpty();
+        assertThat(matrix.neighborPostIds(99L)).isEmpty();
+    }
+
+    @Test
+    void recommendPostsNotAppliedYet() {
+        var recommendations = matrix.recommend(pool, 0, matrix.userCount(), 10);
+
+        // 사용자 번호는 id 순서
+        assertThat(recommendations[0]).containsExactly(30L);
+        assertThat(recommendations[2]).containsExactly(20L);
+        assertThat(recommendations[3]).isEmpty();
+        assertThat(recommendations[4]).containsExactly(20L, 30L);
+        assertThat(matrix.recommend(pool, 4, 5, 1)[0]).containsExactly(20L);
+    }
+
+}
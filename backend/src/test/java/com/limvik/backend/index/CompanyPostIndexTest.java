@@ -0,0 +1,83 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.CompanyPostId;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CompanyPostIndexTest {
+
+    @Mock
+    PostRepository postRepository;
+
+    @InjectMocks
+    CompanyPostIndex companyPostIndex;
+
+    @BeforeEach
+    void load() {
+        var pageable = PageRequest.ofSize(10_000);
+        when(postRepository.findCompanyPostIds(eq(0L), any())).thenReturn(new SliceImpl<>(List.of(
+                new CompanyPostId(1L, 1L),
+                new CompanyPostId(2L, 2L),
+                new CompanyPostId(1L, 3L),
+                new CompanyPostId(1L, 5L),
+                new CompanyPostId(1L, 8L)), pageable, false));
+        companyPostIndex.load();
+    }
+
+    @Test
+    void getPostIdsExceptRequestedPost() {
+        assertThat(companyPostIndex.isReady()).isTrue();
+        assertThat(companyPostIndex.getPostIds(1L, 3L, 0L, 20)).containsExactly(1L, 5L, 8L);
+        assertThat(companyPostIndex.getPostIds(2L, 2L, 0L, 20)).isEmpty();
+        assertThat(companyPostIndex.getPostIds(99L, 1L, 0L, 20)).isEmpty();
+    }
+
+    @Test
+    void getPostIdsWithCursorAndLimit() {
+        assertThat(companyPostIndex.getPostIds(1L, 1L, 0L, 2)).containsExactly(3L, 5L);
+        assertThat(companyPostIndex.getPostIds(1L, 1L, 5L, 2)).containsExactly(8L);
+        assertThat(companyPostIndex.getPostIds(1L, 1L, 4L, 20)).containsExactly(5L, 8L);
+    }
+
+    @Test
+    void applyCreatedAndDeletedPosts() {
+        companyPostIndex.onPostCreated(new PostCreatedEvent(9L, 2L));
+        companyPostIndex.onPostCreated(new PostCreatedEvent(4L, 1L));
+        companyPostIndex.onPostDeleted(new PostDeletedEvent(3L, 1L));
+        companyPostIndex.onPostDeleted(new PostDeletedEvent(2L, 2L));
+
+        assertThat(companyPostIndex.getPostIds(1L, 0L, 0L, 20)).containsExactly(1L, 4L, 5L, 8L);
+        assertThat(companyPostIndex.getPostIds(2L, 0L, 0L, 20)).containsExactly(9L);
+    }
+
+    @Test
+    void keepPostsCreatedAndDeletedWhileLoading() {
+        when(postRepository.findCompanyPostIds(eq(0L), any())).thenAnswer(invocation -> {
+            companyPostIndex.onPostCreated(new PostCreatedEvent(9L, 1L));
+            companyPostIndex.onPostDeleted(new PostDeletedEvent(3L, 1L));
+            return new SliceImpl<>(List.of(new CompanyPostId(1L, 1L), new CompanyPostId(1L, 3L)),
+                    PageRequest.ofSize(10_000), false);
+        });
+        companyPostIndex.load();
+
+        assertThat(companyPostIndex.getPostIds(1L, 0L, 0L, 20)).containsExactly(1L, 5L, 8L, 9L);
+    }
+
+}
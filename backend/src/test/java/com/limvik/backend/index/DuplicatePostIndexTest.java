@@ -0,0 +1,108 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.config.DuplicatePostProperties;
+import com.limvik.backend.domain.PostDocument;
+import com.limvik.backend.domain.PostSignature;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.repository.PostSignatureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DuplicatePostIndexTest {
+
+    private static final String POSITION_NAME = "백엔드 주니어 개발자";
+    private static final String JOB_DESCRIPTION = "원티드랩에서 백엔드 주니어 개발자를 채용합니다. " +
+            "주요업무는 채용 서비스의 API 설계와 개발, 검색 기능 개선입니다. " +
+            "자격요건은 java, spring 을 사용한 웹 서비스 개발 경험 1년 이상이며, " +
+            "MySQL 등 관계형 데이터베이스를 다뤄본 분을 찾습니다. 우대사항은 대용량 트래픽 처리 경험입니다.";
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PostSignatureRepository postSignatureRepository;
+
+    DuplicatePostIndex duplicatePostIndex;
+
+    // 저장된 서명. findAllById 는 여기서 찾음
+    final Map<Long, PostSignature> signatures = new HashMap<>();
+
+    @BeforeEach
+    void load() {
+        duplicatePostIndex = new DuplicatePostIndex(postRepository, postSignatureRepository,
+                new DuplicatePostProperties(DuplicatePostProperties.Policy.FLAG, 0.8));
+        signatures.put(1L, signatureOf(1L, POSITION_NAME, JOB_DESCRIPTION));
+        when(postSignatureRepository.findPage(eq(0L), any())).thenReturn(
+                new SliceImpl<>(List.of(signatures.get(1L)), PageRequest.ofSize(1_000), false));
+        when(postRepository.findDocumentsWithoutSignature(eq(0L), any())).thenReturn(new SliceImpl<>(List.of(
+                new PostDocument(2L, "(주)사람인에이치알", "프론트엔드 개발자",
+                        "사람인에서 프론트엔드 개발자를 채용합니다. react, javascript 경험자를 우대합니다.")),
+                PageRequest.ofSize(1_000), false));
+        lenient().when(postSignatureRepository.findAllById(any())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .filter(signatures::containsKey)
+                        .map(signatures::get)
+                        .toList());
+        duplicatePostIndex.load();
+    }
+
+    @Test
+    void backfillSignaturesOfPostsWithoutSignature() {
+        assertThat(duplicatePostIndex.isReady()).isTrue();
+        verify(postSignatureRepository).save(any(PostSignature.class));
+        verify(postSignatureRepository).replaceBuckets(eq(2L), any());
+        // 서로 다른 채용공고 2개는 bucket 을 공유하지 않음
+        assertThat(duplicatePostIndex.size()).isEqualTo(2 * MinHash.BANDS);
+    }
+
+    @Test
+    void findSlightlyEditedPostAsDuplicate() {
+        var edited = JOB_DESCRIPTION.replace("1년 이상", "2년 이상").replace("찾습니다", "모십니다");
+
+        assertThat(duplicatePostIndex.findDuplicate(DuplicatePostIndex.signatureOf(POSITION_NAME, edited)))
+                .isEqualTo(1L);
+        assertThat(duplicatePostIndex.findDuplicate(
+                DuplicatePostIndex.signatureOf("데이터 엔지니어", "데이터 파이프라인을 운영할 분을 찾습니다.")))
+                .isNull();
+        verify(postSignatureRepository, never()).findPostIdsByBuckets(any());
+    }
+
+    @Test
+    void removeStaleBucketsOfModifiedPost() {
+        int size = duplicatePostIndex.size();
+        signatures.put(1L, signatureOf(1L, "데이터 엔지니어", "데이터 파이프라인을 운영할 분을 찾습니다."));
+        duplicatePostIndex.onPostModified(new PostModifiedEvent(1L, POSITION_NAME, Set.of()));
+
+        // 예전 bucket 으로 후보가 되지만 현재 서명과 비슷하지 않으므로 중복이 아니며, 예전 bucket 은 지움
+        assertThat(duplicatePostIndex.findDuplicate(DuplicatePostIndex.signatureOf(POSITION_NAME, JOB_DESCRIPTION)))
+                .isNull();
+        assertThat(duplicatePostIndex.size()).isEqualTo(size);
+    }
+
+    private static PostSignature signatureOf(Long postId, String positionName, String jobDescription) {
+        return new PostSignature(postId,
+                MinHash.toBytes(DuplicatePostIndex.signatureOf(positionName, jobDescription)), null);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PositionSkillKey;
+import com.limvik.backend.domain.PostFacetRow;
+import com.limvik.backend.domain.PostFacets.FacetCount;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FacetIndexTest {
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PositionSkillRepository positionSkillRepository;
+
+    @Mock
+    SkillService skillService;
+
+    @InjectMocks
+    FacetIndex facetIndex;
+
+    @BeforeEach
+    void load() {
+        when(postRepository.findFacetRows(eq(0L), any())).thenReturn(new SliceImpl<>(List.of(
+                new PostFacetRow(1L, "송파구", "서울특별시", 1_500_000L),
+                new PostFacetRow(2L, "구로구", "서울특별시", 1_000_000L),
+                new PostFacetRow(3L, null, null, 300_000L)),
+                PageRequest.ofSize(10_000), false));
+        when(positionSkillRepository.findIdsByPostIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new PositionSkillKey(1L, 2L), new PositionSkillKey(2L, 4L), new PositionSkillKey(3L, 4L)));
+        lenient().when(skillService.getSkillName(2L)).thenReturn(Optional.of("spring"));
+        lenient().when(skillService.getSkillName(4L)).thenReturn(Optional.of("javascript"));
+        facetIndex.load();
+    }
+
+    @Test
+    void countAllPosts() {
+        assertThat(facetIndex.isReady()).isTrue();
+        var facets = facetIndex.count(20);
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.skills()).containsExactly(
+                new FacetCount("javascript", 2), new FacetCount("spring", 1));
+        assertThat(facets.states()).containsExactly(new FacetCount("서울특별시", 2));
+        assertThat(facets.rewards()).containsExactly(
+                new FacetCount("0-500000", 1), new FacetCount("1000000-2000000", 2));
+        assertThat(facetIndex.count(1).cities()).hasSize(1);
+    }
+
+    @Test
+    void countIntersectionWithResult() {
+        // 색인에 없는 id 는 집계하지 않음
+        var facets = facetIndex.count(new long[]{1L, 3L, 99L}, 20);
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.skills()).containsExactly(
+                new FacetCount("javascript", 1), new FacetCount("spring", 1));
+        assertThat(facets.cities()).containsExactly(new FacetCount("송파구", 1));
+    }
+
+    @Test
+    void findPostIdsBySkillIdsInDescendingPages() {
+        assertThat(facetIndex.findPostIdsBySkillIds(List.of(2L, 4L), false, Long.MAX_VALUE, 20))
+                .containsExactly(3L, 2L, 1L);
+        assertThat(facetIndex.findPostIdsBySkillIds(List.of(2L, 4L), false, 3L, 1)).containsExactly(2L);
+        assertThat(facetIndex.findPostIdsBySkillIds(List.of(4L), true, Long.MAX_VALUE, 20)).containsExactly(3L, 2L);
+        assertThat(facetIndex.findPostIdsBySkillIds(List.of(2L, 4L), true, Long.MAX_VALUE, 20)).isEmpty();
+        // 어떤 채용공고에도 없는 스킬
+        assertThat(facetIndex.findPostIdsBySkillIds(List.of(4L, 99L), true, Long.MAX_VALUE, 20)).isEmpty();
+        assertThat(facetIndex.findPostIdsBySkillIds(List.of(4L, 99L), false, 2L, 20)).isEmpty();
+    }
+
+    @Test
+    void updateFromPostEvents() {
+        when(postRepository.findFacetRowsByIds(List.of(2L))).thenReturn(List.of(
+                new PostFacetRow(2L, "강릉시", "강원특별자치도", 3_000_000L)));
+        when(positionSkillRepository.findIdsByPostIds(List.of(2L))).thenReturn(List.of(
+                new PositionSkillKey(2L, 2L)));
+        facetIndex.onPostModified(new PostModifiedEvent(2L));
+
+        when(postRepository.findFacetRowsByIds(List.of(3L))).thenReturn(List.of());
+        facetIndex.onPostDeleted(new PostDeletedEvent(3L, 1L));
+
+        var facets = facetIndex.count(20);
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.skills()).containsExactly(new FacetCount("spring", 2));
+        assertThat(facets.cities()).containsExactly(new FacetCount("강릉시", 1), new FacetCount("송파구", 1));
+        assertThat(facets.rewards()).containsExactly(
+                new FacetCount("1000000-2000000", 1), new FacetCount("2000000-", 1));
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.limvik.backend.index;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1백만 건을 색인한 역색인의 검색 시간 측정. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class InvertedIndexBenchmarkTest {
+
+    private static final int DOCUMENT_COUNT = 1_000_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] POSITIONS = {"백엔드", "프론트엔드", "데이터", "안드로이드", "iOS"};
+    private static final String[] LEVELS = {"주니어", "시니어", "리드"};
+    private static final String[] SKILLS = {"java", "kotlin", "react", "python", "go", "rust", "typescript"};
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @BeforeAll
+    void index() {
+        for (int n = 0; n < DOCUMENT_COUNT; n++) {
+            var text = POSITIONS[n % POSITIONS.length] + " " + LEVELS[n % LEVELS.length] + " 개발자 공고번호 " + n +
+                    " 자격요건은 " + SKILLS[n % SKILLS.length] + " 경험입니다. 함께 성장할 동료를 찾습니다.";
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            var terms = KoreanBigramAnalyzer.analyze(text);
+            terms.forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+            index.add(n + 1, termFrequencies, TermPositions.of(terms), terms.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"kotlin", "시니어 개발자", "백엔드 kotlin", "공고번호 777777", "블록체인", "개발자"})
+    void search(String keyword) {
+        var terms = new LinkedHashSet<>(KoreanBigramAnalyzer.analyze(keyword));
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+            index.search(terms, Double.MAX_VALUE, Long.MAX_VALUE, PAGE_SIZE + 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++)
+            index.search(terms, Double.MAX_VALUE, Long.MAX_VALUE, PAGE_SIZE + 1);
+        var millis = (System.nanoTime() - start) / 1_000_000.0 / MEASUREMENT_ITERATIONS;
+        System.out.printf("[%s] inverted index: %.2f ms%n", keyword, millis);
+
+        assertThat(index.size()).isEqualTo(DOCUMENT_COUNT);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PostSearchHit;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvertedIndexTest {
+
+    @Test
+    void compactDeletedDocumentsWhileModifyingPosts() {
+        var index = new InvertedIndex();
+        for (long postId = 1; postId <= 2000; postId++)
+            index.add(postId, Map.of("java", 1, postId % 2 == 0 ? "spring" : "react", 1),
+                    TermPositions.of(List.of("java", postId % 2 == 0 ? "spring" : "react")), 10);
+
+        // 수정할 때마다 이전 문서가 삭제 표시되지만 일정 비율을 넘으면 정리됨
+        for (int round = 0; round < 5; round++) {
+            for (long postId = 1; postId <= 2000; postId++)
+                index.add(postId, Map.of("java", 1, postId % 2 == 0 ? "spring" : "react", 1),
+                    TermPositions.of(List.of("java", postId % 2 == 0 ? "spring" : "react")), 10);
+            assertThat(index.deletedSize()).isLessThan(2000);
+        }
+
+        assertThat(index.size()).isEqualTo(2000);
+        assertThat(index.search(List.of("java", "spring"), Double.MAX_VALUE, Long.MAX_VALUE, 3))
+                .extracting(PostSearchHit::getId)
+                .containsExactly(2000L, 1998L, 1996L);
+    }
+
+    @Test
+    void keepDocumentOrderAfterCompaction() {
+        var index = new InvertedIndex();
+        for (long postId = 1; postId <= 3000; postId++)
+            index.add(postId, Map.of("java", 1), TermPositions.of(List.of("java")), 10);
+        for (long postId = 1; postId <= 2900; postId += 2)
+            index.remove(postId);
+
+        assertThat(index.deletedSize()).isLessThan(1450);
+        assertThat(index.size()).isEqualTo(1550);
+        var hits = index.search(List.of("java"), Double.MAX_VALUE, Long.MAX_VALUE, 2000);
+        assertThat(hits).hasSize(1550);
+        assertThat(hits.get(0).getId()).isEqualTo(3000L);
+        assertThat(hits).extracting(PostSearchHit::getId).doesNotContain(1L, 2899L);
+    }
+
+    @Test
+    void matchPhraseOnlyWhenTermsAreAdjacent() {
+        var index = new InvertedIndex();
+        add(index, 1L, "백엔드 개발자");
+        // 구문의 bigram 은 모두 있지만 이어져 있지 않음
+        add(index, 2L, "개발자 백엔드");
+        add(index, 3L, "백엔드 신입 개발자");
+
+        var phrase = SearchQueryParser.parse("\"백엔드 개발자\"");
+        assertThat(index.search(phrase, Double.MAX_VALUE, Long.MAX_VALUE, 10))
+                .extracting(PostSearchHit::getId)
+                .containsExactly(1L);
+        assertThat(index.findPostIds(phrase)).containsExactly(1L);
+
+        // OR 이 있어 절마다 평가하는 경우에도 같은 결과
+        var phraseOrSkill = SearchQueryParser.parse("\"백엔드 개발자\" | skill:kotlin");
+        assertThat(index.search(phraseOrSkill, Double.MAX_VALUE, Long.MAX_VALUE, 10))
+                .extracting(PostSearchHit::getId)
+                .containsExactly(1L);
+        assertThat(index.findPostIds(phraseOrSkill)).containsExactly(1L);
+    }
+
+    private static void add(InvertedIndex index, long postId, String text) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        var terms = KoreanBigramAnalyzer.analyze(text);
+        terms.forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        index.add(postId, termFrequencies, TermPositions.of(terms), terms.size());
+    }
+
+}
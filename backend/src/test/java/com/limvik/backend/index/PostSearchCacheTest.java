@@ -0,0 +1,63 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PostSearchHit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostSearchCacheTest {
+
+    PostSearchCache postSearchCache = new PostSearchCache();
+
+    @Test
+    void cacheOnlyCompleteResults() {
+        var query = SearchQueryParser.parse("java");
+        List<PostSearchHit> hits = new ArrayList<>();
+        for (long id = PostSearchCache.CACHED_HITS + 1; id > 0; id--)
+            hits.add(new Hit(id, 1.0));
+
+        postSearchCache.put(query, hits, postSearchCache.getGeneration());
+        assertThat(postSearchCache.getPage(query, Double.MAX_VALUE, Long.MAX_VALUE, 10)).isNull();
+
+        postSearchCache.put(query, hits.subList(1, hits.size()), postSearchCache.getGeneration());
+        var lastPage = postSearchCache.getPage(query, 1.0, 3L, 10);
+        assertThat(lastPage).extracting(PostSearchHit::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void invalidateOnlyEntriesContainingPostOrMatchingDocument() {
+        var java = SearchQueryParser.parse("java -spring");
+        var react = SearchQueryParser.parse("react");
+        var kotlin = SearchQueryParser.parse("kotlin");
+        postSearchCache.put(java, List.of(new Hit(1L, 1.0)), postSearchCache.getGeneration());
+        postSearchCache.put(react, List.of(new Hit(2L, 1.0)), postSearchCache.getGeneration());
+        postSearchCache.put(kotlin, List.of(new Hit(3L, 1.0)), postSearchCache.getGeneration());
+
+        // 2번은 react 결과에 있고, 새 문서 4번은 java 를 포함하지만 spring 도 포함하므로 java -spring 은 그대로 둠
+        postSearchCache.invalidate(List.of(2L, 4L), List.of(TermPositions.of(List.of("java", "spring"))));
+
+        assertThat(postSearchCache.getPage(java, Double.MAX_VALUE, Long.MAX_VALUE, 10)).hasSize(1);
+        assertThat(postSearchCache.getPage(react, Double.MAX_VALUE, Long.MAX_VALUE, 10)).isNull();
+        assertThat(postSearchCache.getPage(kotlin, Double.MAX_VALUE, Long.MAX_VALUE, 10)).hasSize(1);
+
+        postSearchCache.invalidate(List.of(5L), List.of(TermPositions.of(List.of("kotlin"))));
+        assertThat(postSearchCache.getPage(kotlin, Double.MAX_VALUE, Long.MAX_VALUE, 10)).isNull();
+    }
+
+    private record Hit(Long id, Double score) implements PostSearchHit {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Double getScore() {
+            return score;
+        }
+    }
+
+}
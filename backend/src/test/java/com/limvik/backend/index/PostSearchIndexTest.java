@@ -0,0 +1,155 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PositionSkillKey;
+import com.limvik.backend.domain.PostDocument;
+import com.limvik.backend.domain.PostSearchHit;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PostSearchIndexTest {
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PositionSkillRepository positionSkillRepository;
+
+    @Mock
+    SkillService skillService;
+
+    @Spy
+    PostSearchCache postSearchCache = new PostSearchCache();
+
+    @InjectMocks
+    PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void load() {
+        var pageable = PageRequest.ofSize(10_000);
+        when(postRepository.findDocuments(eq(0L), any())).thenReturn(new SliceImpl<>(List.of(
+                new PostDocument(1L, "(주)원티드랩", "백엔드 주니어 개발자",
+                        "원티드랩에서 백엔드 주니어 개발자를 채용합니다. 자격요건은 java, ..."),
+                new PostDocument(2L, "(주)사람인에이치알", "프론트 주니어 개발자",
+                        "사람인에서 프론트 주니어 개발자를 채용합니다. 자격요건은 react, ..."),
+                new PostDocument(3L, "(주)원티드랩", "프론트 주니어 개발자",
+                        "원티드랩에서 프론트 주니어 개발자를 채용합니다. 자격요건은 javascript, ...")),
+                pageable, false));
+        when(positionSkillRepository.findIdsByPostIds(anyCollection())).thenReturn(List.of(
+                new PositionSkillKey(1L, 2L)));
+        when(skillService.getSkillName(2L)).thenReturn(Optional.of("spring"));
+        postSearchIndex.load();
+    }
+
+    @Test
+    void analyzeHangulToBigramsAndOthersToWords() {
+        assertThat(KoreanBigramAnalyzer.analyze("백엔드 개발자를 Java8"))
+                .containsExactly("백엔", "엔드", "개발", "발자", "자를", "java8");
+        assertThat(KoreanBigramAnalyzer.analyze("원티드랩Spring 채")).containsExactly("원티", "티드", "드랩", "spring", "채");
+    }
+
+    @Test
+    void searchAllTermsOrderByScore() {
+        assertThat(postSearchIndex.isReady()).isTrue();
+        assertThat(ids(search("프론트 원티드랩", Double.MAX_VALUE, Long.MAX_VALUE, 20)))
+                .containsExactly(3L);
+        assertThat(ids(search("spring", Double.MAX_VALUE, Long.MAX_VALUE, 20)))
+                .containsExactly(1L);
+        assertThat(ids(search("React", Double.MAX_VALUE, Long.MAX_VALUE, 20)))
+                .containsExactly(2L);
+
+        var hits = search("원티드랩", Double.MAX_VALUE, Long.MAX_VALUE, 20);
+        assertThat(ids(hits)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(hits.get(0).getScore()).isGreaterThanOrEqualTo(hits.get(1).getScore());
+    }
+
+    @Test
+    void searchNextPageAfterCursor() {
+        var firstPage = search("주니어 개발자", Double.MAX_VALUE, Long.MAX_VALUE, 2);
+        assertThat(firstPage).hasSize(2);
+
+        var last = firstPage.get(1);
+        var nextPage = search("주니어 개발자", last.getScore(), last.getId(), 2);
+        assertThat(nextPage).hasSize(1);
+        assertThat(ids(firstPage)).doesNotContain(nextPage.get(0).getId());
+    }
+
+    @Test
+    void reindexModifiedAndDeletedPosts() {
+        when(postRepository.findDocumentsByIds(List.of(2L))).thenReturn(List.of(
+                new PostDocument(2L, "(주)사람인에이치알", "데이터 엔지니어", "사람인에서 데이터 엔지니어를 채용합니다.")));
+        postSearchIndex.onPostModified(new PostModifiedEvent(2L));
+        assertThat(ids(search("프론트", Double.MAX_VALUE, Long.MAX_VALUE, 20))).containsExactly(3L);
+        assertThat(ids(search("엔지니어", Double.MAX_VALUE, Long.MAX_VALUE, 20))).containsExactly(2L);
+
+        when(postRepository.findDocumentsByIds(List.of(3L))).thenReturn(List.of());
+        postSearchIndex.onPostDeleted(new PostDeletedEvent(3L, 1L));
+        assertThat(search("프론트", Double.MAX_VALUE, Long.MAX_VALUE, 20)).isEmpty();
+    }
+
+    @Test
+    void searchBooleanQueryInOnePass() {
+        assertThat(ids(search("백엔드 | 프론트 -사람인", Double.MAX_VALUE, Long.MAX_VALUE, 20)))
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(search("skill:Spring", Double.MAX_VALUE, Long.MAX_VALUE, 20))).containsExactly(1L);
+        assertThat(ids(search("주니어 -skill:spring", Double.MAX_VALUE, Long.MAX_VALUE, 20)))
+                .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(search("react | javascript skill:spring", Double.MAX_VALUE, Long.MAX_VALUE, 20)).isEmpty();
+
+        var firstPage = search("react | javascript | java", Double.MAX_VALUE, Long.MAX_VALUE, 2);
+        assertThat(firstPage).hasSize(2);
+        var last = firstPage.get(1);
+        var nextPage = search("react | javascript | java", last.getScore(), last.getId(), 2);
+        assertThat(nextPage).hasSize(1);
+        assertThat(ids(firstPage)).doesNotContain(nextPage.get(0).getId());
+    }
+
+    private List<PostSearchHit> search(String search, double afterScore, long afterId, int limit) {
+        return postSearchIndex.search(SearchQueryParser.parse(search), afterScore, afterId, limit);
+    }
+
+    private List<Long> ids(List<PostSearchHit> hits) {
+        return hits.stream().map(PostSearchHit::getId).toList();
+    }
+
+    @Test
+    void serveCachedHitsUntilMatchingPostChanges() {
+        var hits = search("주니어", Double.MAX_VALUE, Long.MAX_VALUE, 2);
+        assertThat(hits).hasSize(2);
+        var last = hits.get(1);
+        assertThat(search("주니어", last.getScore(), last.getId(), 2)).hasSize(1);
+        search("java", Double.MAX_VALUE, Long.MAX_VALUE, 2);
+        assertThat(postSearchCache.getCache().stats().hitCount()).isEqualTo(1);
+
+        // 검색어 토큰을 모두 포함하지 않는 새 채용공고는 "주니어" 결과를 무효화하지 않음
+        when(postRepository.findDocumentsByIds(List.of(4L))).thenReturn(List.of(
+                new PostDocument(4L, "(주)원티드랩", "java 개발자", "")));
+        postSearchIndex.onPostCreated(new PostCreatedEvent(4L, 1L));
+        assertThat(postSearchCache.getCache().asMap()).hasSize(1);
+
+        assertThat(ids(search("java", Double.MAX_VALUE, Long.MAX_VALUE, 20))).contains(4L);
+    }
+
+}
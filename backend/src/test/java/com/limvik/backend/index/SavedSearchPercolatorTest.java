@@ -0,0 +1,120 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PositionSkillKey;
+import com.limvik.backend.domain.PostDocument;
+import com.limvik.backend.domain.SavedSearchQuery;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.SavedSearchCreatedEvent;
+import com.limvik.backend.event.SavedSearchDeletedEvent;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.repository.SavedSearchRepository;
+import com.limvik.backend.repository.SearchNotificationRepository;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SavedSearchPercolatorTest {
+
+    @Mock
+    SavedSearchRepository savedSearchRepository;
+
+    @Mock
+    SearchNotificationRepository searchNotificationRepository;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PositionSkillRepository positionSkillRepository;
+
+    @Mock
+    SkillService skillService;
+
+    @InjectMocks
+    SavedSearchPercolator percolator;
+
+    @Test
+    void percolateDocumentThroughAnchorTerms() {
+        load(new SavedSearchQuery(1L, "백엔드 skill:java"),
+                new SavedSearchQuery(2L, "프론트 | react"),
+                new SavedSearchQuery(3L, "개발자 -시니어"),
+                new SavedSearchQuery(4L, "skill:spring"),
+                new SavedSearchQuery(5L, "\"주니어 개발자\" 원티드"));
+
+        assertThat(percolator.size()).isEqualTo(5);
+        assertThat(percolator.percolate(termsOf("백엔드 주니어 개발자", "원티드랩", "자격요건", "java")))
+                .containsExactlyInAnyOrder(1L, 3L, 5L);
+        assertThat(percolator.percolate(termsOf("시니어 프론트 개발자", "사람인", "자격요건", "react", "spring")))
+                .containsExactlyInAnyOrder(2L, 4L);
+        assertThat(percolator.percolate(termsOf("데이터 엔지니어", "원티드랩", "자격요건"))).isEmpty();
+    }
+
+    @Test
+    void notifyMatchedSavedSearchesOfCreatedPost() {
+        load(new SavedSearchQuery(1L, "백엔드 skill:spring"), new SavedSearchQuery(2L, "프론트"));
+        when(postRepository.findDocumentsByIds(List.of(1L))).thenReturn(List.of(
+                new PostDocument(1L, "원티드랩", "백엔드 주니어 개발자", "자격요건은 java, ...")));
+        when(positionSkillRepository.findIdsByPostIds(List.of(1L))).thenReturn(List.of(new PositionSkillKey(1L, 2L)));
+        when(skillService.getSkillName(2L)).thenReturn(Optional.of("spring"));
+
+        percolator.onPostCreated(new PostCreatedEvent(1L, 1L));
+
+        verify(searchNotificationRepository).insertAll(1L, List.of(1L));
+    }
+
+    @Test
+    void updateSavedSearchesAndReplayPendingPosts() {
+        // 준비 전에 등록된 채용공고는 검색식을 불러온 뒤 확인
+        percolator.onPostCreated(new PostCreatedEvent(1L, 1L));
+        percolator.onSavedSearchCreated(new SavedSearchCreatedEvent(2L, "주니어"));
+        verify(postRepository, never()).findDocumentsByIds(any());
+
+        when(postRepository.findDocumentsByIds(List.of(1L))).thenReturn(List.of(
+                new PostDocument(1L, "원티드랩", "백엔드 주니어 개발자", "자격요건은 java, ...")));
+        load(new SavedSearchQuery(1L, "백엔드"));
+        verify(searchNotificationRepository).insertAll(1L, List.of(1L));
+        assertThat(percolator.percolate(termsOf("주니어"))).containsExactly(2L);
+
+        percolator.onSavedSearchDeleted(new SavedSearchDeletedEvent(2L));
+        percolator.onSavedSearchCreated(new SavedSearchCreatedEvent(1L, "프론트"));
+        assertThat(percolator.percolate(termsOf("백엔드 주니어"))).isEmpty();
+        assertThat(percolator.size()).isEqualTo(1);
+    }
+
+    private void load(SavedSearchQuery... savedSearches) {
+        when(savedSearchRepository.findQueries(eq(0L), any())).thenReturn(
+                new SliceImpl<>(List.of(savedSearches), PageRequest.ofSize(10_000), false));
+        percolator.load();
+    }
+
+    private TermPositions termsOf(String positionName, String companyName, String jobDescription,
+                                  String... skillNames) {
+        var termPositions = new TermPositions();
+        PostSearchIndex.analyze(new PostDocument(1L, companyName, positionName, jobDescription),
+                List.of(skillNames), new HashMap<>(), termPositions);
+        return termPositions;
+    }
+
+    private TermPositions termsOf(String positionName) {
+        return termsOf(positionName, "", "");
+    }
+
+}
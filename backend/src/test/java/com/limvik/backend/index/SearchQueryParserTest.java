@@ -0,0 +1,75 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.exception.SearchQueryNotValidException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SearchQueryParserTest {
+
+    @Test
+    void parseSingleWordAndPhrase() {
+        assertThat(SearchQueryParser.parse(" java ")).isEqualTo(new SearchQuery.Text("java", false));
+        assertThat(SearchQueryParser.parse("\"백엔드  개발자\"")).isEqualTo(new SearchQuery.Text("백엔드 개발자", true));
+        // 닫는 따옴표가 없으면 끝까지 구문으로 봄
+        assertThat(SearchQueryParser.parse("\"백엔드 개발자")).isEqualTo(new SearchQuery.Text("백엔드 개발자", true));
+    }
+
+    @Test
+    void parseOperatorsOrBindsTighterThanAnd() {
+        var query = SearchQueryParser.parse("java | kotlin 백엔드 -시니어 skill:\"spring boot\"");
+
+        assertThat(query).isEqualTo(new SearchQuery.And(List.of(
+                new SearchQuery.Not(new SearchQuery.Text("시니어", false)),
+                new SearchQuery.Or(List.of(
+                        new SearchQuery.Text("java", false),
+                        new SearchQuery.Text("kotlin", false))),
+                new SearchQuery.SkillFilter("spring boot"),
+                new SearchQuery.Text("백엔드", false))));
+    }
+
+    @Test
+    void sameMeaningParsesToSameQuery() {
+        assertThat(SearchQueryParser.parse("kotlin|java 백엔드 백엔드"))
+                .isEqualTo(SearchQueryParser.parse("백엔드 java | kotlin"));
+        // 단어 안의 '-' 와 남는 연산자는 일반 글자/무시
+        assertThat(SearchQueryParser.parse("c-level | ")).isEqualTo(new SearchQuery.Text("c-level", false));
+    }
+
+    @Test
+    void rejectNegationOnlyAndNegationInOr() {
+        assertThatThrownBy(() -> SearchQueryParser.parse("-java -spring"))
+                .isInstanceOf(SearchQueryNotValidException.class);
+        assertThatThrownBy(() -> SearchQueryParser.parse("java | -spring"))
+                .isInstanceOf(SearchQueryNotValidException.class);
+        assertThatThrownBy(() -> SearchQueryParser.parse(" | - "))
+                .isInstanceOf(SearchQueryNotValidException.class);
+    }
+
+    @Test
+    void matchDocumentTerms() {
+        var query = SearchQueryParser.parse("백엔드 | 프론트 -사람인 skill:Spring");
+        var document = TermPositions.of(List.of("백엔", "엔드", "원티", SearchQuery.skillTerm("spring")));
+
+        assertThat(query.matches(document)).isTrue();
+        assertThat(query.matches(TermPositions.of(
+                List.of("백엔", "엔드", "사람", "람인", SearchQuery.skillTerm("spring"))))).isFalse();
+        assertThat(query.matches(TermPositions.of(List.of("백엔", "엔드")))).isFalse();
+    }
+
+    @Test
+    void matchPhraseOnlyWhenTermsAreAdjacent() {
+        var query = SearchQueryParser.parse("\"백엔드 개발자\"");
+
+        assertThat(query.matches(TermPositions.of(KoreanBigramAnalyzer.analyze("백엔드 개발자 채용")))).isTrue();
+        assertThat(query.matches(TermPositions.of(KoreanBigramAnalyzer.analyze("개발자 백엔드 채용")))).isFalse();
+        // 필드가 다르면 이어진 것으로 보지 않음
+        var document = TermPositions.of(KoreanBigramAnalyzer.analyze("백엔드"));
+        document.addField(KoreanBigramAnalyzer.analyze("개발자"));
+        assertThat(query.matches(document)).isFalse();
+    }
+
+}
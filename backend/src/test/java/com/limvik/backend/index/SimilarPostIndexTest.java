@@ -0,0 +1,89 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PositionSkillKey;
+import com.limvik.backend.domain.PostPositionName;
+import com.limvik.backend.domain.SimilarPost;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SimilarPostIndexTest {
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PositionSkillRepository positionSkillRepository;
+
+    @InjectMocks
+    SimilarPostIndex similarPostIndex;
+
+    @BeforeEach
+    void load() {
+        when(postRepository.findPositionNames(eq(0L), any())).thenReturn(new SliceImpl<>(List.of(
+                new PostPositionName(1L, "백엔드 주니어 개발자"),
+                new PostPositionName(2L, "프론트엔드 개발자"),
+                new PostPositionName(3L, "백엔드 시니어 개발자"),
+                new PostPositionName(4L, "데이터 엔지니어")),
+                PageRequest.ofSize(10_000), false));
+        when(positionSkillRepository.findIdsByPostIds(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                new PositionSkillKey(1L, 1L), new PositionSkillKey(1L, 2L),
+                new PositionSkillKey(2L, 3L), new PositionSkillKey(2L, 4L),
+                new PositionSkillKey(3L, 1L), new PositionSkillKey(3L, 2L)));
+        similarPostIndex.load();
+    }
+
+    @Test
+    void rankPostsBySharedSkillsAndPositionNameTokens() {
+        assertThat(similarPostIndex.isReady()).isTrue();
+        var similarPosts = similarPostIndex.findSimilar(1L, 10);
+
+        // 3번은 스킬 2개와 토큰 2개, 2번은 토큰 1개를 공유. 아무것도 공유하지 않는 4번은 후보가 아님
+        assertThat(similarPosts).extracting(SimilarPost::id).containsExactly(3L, 2L);
+        assertThat(similarPosts.get(0).score()).isEqualTo(6.0 / 8.0);
+        assertThat(similarPosts.get(1).score()).isEqualTo(1.0 / 12.0);
+        assertThat(similarPostIndex.findSimilar(1L, 1)).extracting(SimilarPost::id).containsExactly(3L);
+        assertThat(similarPostIndex.findSimilar(4L, 10)).isEmpty();
+        assertThat(similarPostIndex.findSimilar(99L, 10)).isNull();
+    }
+
+    @Test
+    void invalidateCachedResultsOfPostsSharingChangedFeatures() {
+        similarPostIndex.findSimilar(1L, 10);
+        similarPostIndex.findSimilar(4L, 10);
+        assertThat(similarPostIndex.cachedSize()).isEqualTo(2);
+
+        // 3번의 스킬이 바뀌면 3번과 스킬/토큰을 공유했던 1번의 결과만 지움
+        when(postRepository.findPositionNamesByIds(List.of(3L)))
+                .thenReturn(List.of(new PostPositionName(3L, "백엔드 시니어 개발자")));
+        when(positionSkillRepository.findIdsByPostIds(List.of(3L)))
+                .thenReturn(List.of(new PositionSkillKey(3L, 1L)));
+        similarPostIndex.onPostModified(new PostModifiedEvent(3L, "백엔드 시니어 개발자", Set.of(1L, 2L)));
+        assertThat(similarPostIndex.cachedSize()).isEqualTo(1);
+        assertThat(similarPostIndex.findSimilar(1L, 10).get(0)).isEqualTo(new SimilarPost(3L, 4.0 / 8.0));
+
+        when(postRepository.findPositionNamesByIds(List.of(3L))).thenReturn(List.of());
+        similarPostIndex.onPostDeleted(new PostDeletedEvent(3L, 1L, "백엔드 시니어 개발자", Set.of(1L)));
+        assertThat(similarPostIndex.findSimilar(1L, 10)).extracting(SimilarPost::id).containsExactly(2L);
+        assertThat(similarPostIndex.findSimilar(3L, 10)).isNull();
+    }
+
+}
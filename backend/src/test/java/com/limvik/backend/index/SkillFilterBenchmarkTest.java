@@ -0,0 +1,127 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PositionSkillKey;
+import com.limvik.backend.domain.PostFacetRow;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 20만 건을 적재한 스킬 비트맵으로 여러 스킬을 거르는 처리량을, 스킬별 Set&lt;Long&gt; 을 합치는 방식과 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SkillFilterBenchmarkTest {
+
+    private static final int POST_COUNT = 200_000;
+    private static final int SKILL_COUNT = 50;
+    private static final int SKILLS_PER_POST = 4;
+    private static final int PAGE_SIZE = 20;
+    private static final long WARMUP_NANOS = 1_000_000_000L;
+    private static final long MEASUREMENT_NANOS = 3_000_000_000L;
+    private static final List<Long> SKILL_IDS = List.of(1L, 2L, 3L);
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PositionSkillRepository positionSkillRepository = mock(PositionSkillRepository.class);
+    private final FacetIndex facetIndex =
+            new FacetIndex(postRepository, positionSkillRepository, mock(SkillService.class));
+    private final Map<Long, Set<Long>> postIdsBySkillId = new HashMap<>();
+
+    @BeforeAll
+    void load() {
+        when(postRepository.findFacetRows(anyLong(), any())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            int size = invocation.<Pageable>getArgument(1).getPageSize();
+            List<PostFacetRow> rows = new ArrayList<>(size);
+            for (long postId = after + 1; postId <= Math.min(after + size, POST_COUNT); postId++)
+                rows.add(new PostFacetRow(postId, null, null, null));
+            return new SliceImpl<>(rows, invocation.getArgument(1), after + size < POST_COUNT);
+        });
+        when(positionSkillRepository.findIdsByPostIds(any())).thenAnswer(invocation -> {
+            List<PositionSkillKey> keys = new ArrayList<>();
+            for (var postId : invocation.<Collection<Long>>getArgument(0)) {
+                for (var skillId : skillIdsOf(postId)) {
+                    keys.add(new PositionSkillKey(postId, skillId));
+                    postIdsBySkillId.computeIfAbsent(skillId, id -> new HashSet<>()).add(postId);
+                }
+            }
+            return keys;
+        });
+        facetIndex.load();
+    }
+
+    // 앞 번호 스킬일수록 많은 채용공고에 붙도록 분포를 치우침
+    private static Set<Long> skillIdsOf(long postId) {
+        Set<Long> skillIds = new HashSet<>();
+        long seed = postId * 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SKILLS_PER_POST; i++) {
+            seed ^= seed >>> 29;
+            seed *= 0xBF58476D1CE4E5B9L;
+            double uniform = (seed >>> 11) / (double) (1L << 53);
+            skillIds.add(1L + (long) (SKILL_COUNT * uniform * uniform));
+        }
+        return skillIds;
+    }
+
+    @Test
+    void filterBySkills() {
+        var all = measure("bitmap all", () ->
+                facetIndex.findPostIdsBySkillIds(SKILL_IDS, true, Long.MAX_VALUE, PAGE_SIZE + 1));
+        var any = measure("bitmap any", () ->
+                facetIndex.findPostIdsBySkillIds(SKILL_IDS, false, Long.MAX_VALUE, PAGE_SIZE + 1));
+        measure("Set<Long> all", () -> {
+            Set<Long> postIds = new HashSet<>(postIdsBySkillId.get(SKILL_IDS.get(0)));
+            SKILL_IDS.subList(1, SKILL_IDS.size()).forEach(skillId -> postIds.retainAll(postIdsBySkillId.get(skillId)));
+            return postIds.stream().sorted((a, b) -> Long.compare(b, a)).limit(PAGE_SIZE + 1).toList();
+        });
+        measure("Set<Long> any", () -> {
+            Set<Long> postIds = new HashSet<>();
+            SKILL_IDS.forEach(skillId -> postIds.addAll(postIdsBySkillId.get(skillId)));
+            return postIds.stream().sorted((a, b) -> Long.compare(b, a)).limit(PAGE_SIZE + 1).toList();
+        });
+
+        assertThat(all).hasSize(PAGE_SIZE + 1);
+        assertThat(any).hasSize(PAGE_SIZE + 1);
+    }
+
+    private <T> T measure(String name, Supplier<T> filter) {
+        T result = null;
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < warmupEnd)
+            result = filter.get();
+
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            result = filter.get();
+            operations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASUREMENT_NANOS);
+        System.out.printf("[%s] %,.0f ops/s%n", name, operations * 1_000_000_000.0 / elapsed);
+        return result;
+    }
+
+}
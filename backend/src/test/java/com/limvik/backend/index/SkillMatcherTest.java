@@ -0,0 +1,40 @@
+package com.limvik.backend.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SkillMatcherTest {
+
+    private final SkillMatcher skillMatcher = SkillMatcher.of(Map.of(
+            1L, "java", 2L, "Spring", 3L, "react", 4L, "JavaScript",
+            5L, "spring boot", 6L, "go", 7L, "c++", 8L, "자바"));
+
+    @Test
+    void findSkillsMentionedInText() {
+        var text = "자격요건은 Java, Spring Boot 경험자. JavaScript 는 우대하며 c++17 도 환영합니다.";
+
+        assertThat(skillMatcher.findSkillIds(text)).containsExactlyInAnyOrder(1L, 2L, 4L, 5L, 7L);
+    }
+
+    @Test
+    void ignoreSkillNamesInsideLongerWords() {
+        // reactive, google, javac 는 react, go, java 의 언급이 아님
+        assertThat(skillMatcher.findSkillIds("reactive 한 google 서비스, javac 옵션")).isEmpty();
+        // 한글이 붙은 영문 이름은 언급으로 봄
+        assertThat(skillMatcher.findSkillIds("백엔드는java로 개발합니다")).containsExactly(1L);
+        assertThat(skillMatcher.findSkillIds("자바스크립트")).containsExactly(8L);
+    }
+
+    @Test
+    void followFailureLinksAfterPartialMatch() {
+        // spring boot 를 따라가다 실패해도 이미 지난 spring 과 실패 지점부터 이어지는 go 를 찾음
+        assertThat(skillMatcher.findSkillIds("spring boo")).containsExactly(2L);
+        assertThat(skillMatcher.findSkillIds("spring go")).containsExactlyInAnyOrder(2L, 6L);
+        assertThat(skillMatcher.findSkillIds("")).isEmpty();
+        assertThat(skillMatcher.size()).isEqualTo(8);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.PositionNameCount;
+import com.limvik.backend.domain.PostDocument;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SpellingCorrectorTest {
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    SkillService skillService;
+
+    @InjectMocks
+    SpellingCorrector spellingCorrector;
+
+    @BeforeEach
+    void load() {
+        when(skillService.getSkillNames()).thenReturn(List.of("java", "spring", "javascript", "React"));
+        when(postRepository.countByPositionName()).thenReturn(List.of(
+                new PositionNameCount("백엔드 주니어 개발자", 2L),
+                new PositionNameCount("프론트 주니어 개발자", 1L)));
+        spellingCorrector.load();
+    }
+
+    @Test
+    void correctMisspelledWords() {
+        assertThat(spellingCorrector.correct("sprng")).contains("spring");
+        assertThat(spellingCorrector.correct("Raect")).contains("react");
+        assertThat(spellingCorrector.correct("javascirpt")).contains("javascript");
+        assertThat(spellingCorrector.correct("백엔드 주니오")).contains("백엔드 주니어");
+    }
+
+    @Test
+    void correctOnlyWordsAndKeepQuerySyntax() {
+        assertThat(spellingCorrector.correct("jaav -sprng")).contains("java -spring");
+        assertThat(spellingCorrector.correct("jaav | raect 개발자")).contains("java | react 개발자");
+        assertThat(spellingCorrector.correct("\"백엔드 주니오\" skill:jaav")).contains("skill:jaav \"백엔드 주니어\"");
+        assertThat(spellingCorrector.correct("skill:jaav")).isEmpty();
+    }
+
+    @Test
+    void keepKnownAndUnrelatedWords() {
+        assertThat(spellingCorrector.correct("Java")).isEmpty();
+        assertThat(spellingCorrector.correct("주니어 개발자")).isEmpty();
+        assertThat(spellingCorrector.correct("블록체인")).isEmpty();
+        // 두 글자 이하는 교정하지 않음
+        assertThat(spellingCorrector.correct("jv")).isEmpty();
+    }
+
+    @Test
+    void addPositionWordsOfCreatedPost() {
+        when(postRepository.findDocumentsByIds(List.of(3L))).thenReturn(List.of(
+                new PostDocument(3L, "(주)원티드랩", "데이터 엔지니어", "")));
+        spellingCorrector.onPostCreated(new PostCreatedEvent(3L, 1L));
+
+        assertThat(spellingCorrector.correct("엔지니아")).contains("엔지니어");
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.limvik.backend.index;
+
+import com.limvik.backend.domain.CompanyPostCount;
+import com.limvik.backend.domain.PositionNameCount;
+import com.limvik.backend.domain.PositionSkillKey;
+import com.limvik.backend.domain.PostDocument;
+import com.limvik.backend.domain.SkillPostCount;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.event.PostModifiedEvent;
+import com.limvik.backend.index.SuggestionTrie.Suggestion;
+import com.limvik.backend.repository.PositionSkillRepository;
+import com.limvik.backend.repository.PostRepository;
+import com.limvik.backend.service.SkillService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestionIndexTest {
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PositionSkillRepository positionSkillRepository;
+
+    @Mock
+    SkillService skillService;
+
+    @InjectMocks
+    SuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void load() {
+        when(postRepository.countByPositionName()).thenReturn(List.of(
+                new PositionNameCount("백엔드 주니어 개발자", 1L),
+                new PositionNameCount("프론트 주니어 개발자", 2L)));
+        when(postRepository.countByCompany()).thenReturn(List.of(
+                new CompanyPostCount(1L, "(주)원티드랩", 2L),
+                new CompanyPostCount(2L, "(주)사람인에이치알", 1L)));
+        when(positionSkillRepository.countBySkillId()).thenReturn(List.of(
+                new SkillPostCount(1L, 1L), new SkillPostCount(3L, 2L)));
+        lenient().when(skillService.getSkillName(1L)).thenReturn(Optional.of("java"));
+        lenient().when(skillService.getSkillName(3L)).thenReturn(Optional.of("javascript"));
+        suggestionIndex.load();
+    }
+
+    @Test
+    void suggestByPrefixOrderByPostCount() {
+        clearInvocations(postRepository);
+        clearInvocations(positionSkillRepository);
+        assertThat(suggestionIndex.isReady()).isTrue();
+        assertThat(suggestionIndex.size()).isEqualTo(6);
+        assertThat(suggestionIndex.suggest("JA", 10)).containsExactlyElementsOf(List.of(
+                new Suggestion("javascript", SuggestionIndex.SKILL, 2),
+                new Suggestion("java", SuggestionIndex.SKILL, 1)));
+        assertThat(suggestionIndex.suggest("java", 1)).extracting(Suggestion::text).containsExactly("javascript");
+        // 회사 이름의 법인 표기는 건너뛰고 찾음
+        assertThat(suggestionIndex.suggest("원티", 10)).containsExactlyElementsOf(List.of(
+                new Suggestion("(주)원티드랩", SuggestionIndex.COMPANY, 2)));
+        assertThat(suggestionIndex.suggest("프론트  주니", 10)).extracting(Suggestion::text)
+                .containsExactly("프론트 주니어 개발자");
+        assertThat(suggestionIndex.suggest("데이터", 10)).isEmpty();
+        assertThat(suggestionIndex.suggest(" ", 10)).isEmpty();
+
+        verifyNoInteractions(postRepository, positionSkillRepository);
+    }
+
+    @Test
+    void updateWeightsFromPostEvents() {
+        when(postRepository.findDocumentsByIds(List.of(4L))).thenReturn(List.of(
+                new PostDocument(4L, "(주)사람인에이치알", "백엔드 주니어 개발자", "")));
+        when(positionSkillRepository.findIdsByPostIds(List.of(4L))).thenReturn(List.of(
+                new PositionSkillKey(4L, 1L)));
+        suggestionIndex.onPostCreated(new PostCreatedEvent(4L, 2L));
+        suggestionIndex.onPostCreated(new PostCreatedEvent(4L, 2L));
+        assertThat(suggestionIndex.suggest("j", 10)).extracting(Suggestion::text)
+                .containsExactly("java", "javascript");
+
+        when(postRepository.findDocumentsByIds(List.of(1L))).thenReturn(List.of(
+                new PostDocument(1L, "(주)원티드랩", "데이터 엔지니어", "")));
+        when(positionSkillRepository.findIdsByPostIds(List.of(1L))).thenReturn(List.of());
+        suggestionIndex.onPostModified(new PostModifiedEvent(1L, "백엔드 주니어 개발자", Set.of(1L)));
+        assertThat(suggestionIndex.suggest("데이", 10)).extracting(Suggestion::text).containsExactly("데이터 엔지니어");
+        assertThat(suggestionIndex.suggest("백엔", 10)).extracting(Suggestion::weight).containsExactly(2L);
+
+        suggestionIndex.onPostDeleted(new PostDeletedEvent(1L, 1L, "데이터 엔지니어", Set.of()));
+        suggestionIndex.onPostDeleted(new PostDeletedEvent(3L, 1L, "프론트 주니어 개발자", Set.of(3L)));
+        assertThat(suggestionIndex.suggest("데이", 10)).isEmpty();
+        assertThat(suggestionIndex.suggest("원티", 10)).isEmpty();
+        assertThat(suggestionIndex.suggest("j", 10)).extracting(Suggestion::text).containsExactly("java", "javascript");
+    }
+
+}
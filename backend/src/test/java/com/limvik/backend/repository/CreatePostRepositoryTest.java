@@ -10,9 +10,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -54,6 +56,8 @@ public class CreatePostRepositoryTest {
                 .build();
 
         var returnedPost = postRepository.save(post);
+        // 채용내용은 posts 밖에 저장
+        postRepository.upsertSearchText(returnedPost.getId(), positionName, jobDescription);
         var skill = skillRepository.findByName("java").get();
         var returnedPositionSkills = positionSkillRepository.saveAll(Set.of(new PositionSkill(returnedPost, skill)));
 
@@ -67,7 +71,8 @@ public class CreatePostRepositoryTest {
 
         var newPost = postRepository.findById(returnedPost.getId()).get();
         assertThat(newPost.getPositionName()).isEqualTo(positionName);
-        assertThat(newPost.getJobDescription()).isEqualTo(jobDescription);
+        assertThat(postRepository.findDocumentsByIds(List.of(newPost.getId())))
+                .extracting(PostDocument::jobDescription).containsExactly(jobDescription);
         assertThat(newPost.getReward()).isEqualTo(reward);
         assertThat(newPost.getCompany().getId()).isEqualTo(1L);
         assertThat(returnedAddress.getPostId()).isEqualTo(returnedPost.getId());
@@ -78,4 +83,16 @@ public class CreatePostRepositoryTest {
 
     }
 
+    @Test
+    void saveInferredPositionSkill() {
+        var post = postRepository.findById(1L).get();
+        var skill = skillRepository.findByName("java").get();
+
+        positionSkillRepository.saveAll(Set.of(new PositionSkill(post, skill, true)));
+
+        assertThat(positionSkillRepository.findAllByPostId(1L))
+                .extracting(positionSkill -> positionSkill.getSkill().getName(), PositionSkill::isInferred)
+                .containsExactlyInAnyOrder(tuple("spring", false), tuple("java", true));
+    }
+
 }
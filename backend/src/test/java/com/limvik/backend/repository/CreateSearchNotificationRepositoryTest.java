@@ -0,0 +1,59 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.config.DataConfig;
+import com.limvik.backend.domain.SavedSearch;
+import com.limvik.backend.domain.SavedSearchQuery;
+import com.limvik.backend.domain.SearchNotification;
+import com.limvik.backend.domain.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataConfig.class)
+@ActiveProfiles("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CreateSearchNotificationRepositoryTest {
+
+    @Autowired
+    SavedSearchRepository savedSearchRepository;
+
+    @Autowired
+    SearchNotificationRepository searchNotificationRepository;
+
+    @Test
+    void insertNotificationsOnceInBatch() {
+        var javaSearch = save("skill:java");
+        var reactSearch = save("react | 프론트");
+
+        searchNotificationRepository.insertAll(2L, List.of(javaSearch.getId(), reactSearch.getId()));
+        // 수정된 채용공고가 다시 일치해도 알림은 그대로
+        searchNotificationRepository.insertAll(2L, List.of(reactSearch.getId()));
+        searchNotificationRepository.insertAll(3L, List.of(reactSearch.getId()));
+
+        assertThat(searchNotificationRepository.findPage(reactSearch.getId(), Long.MAX_VALUE, PageRequest.ofSize(20)))
+                .extracting(SearchNotification::getPostId).containsExactly(3L, 2L);
+        assertThat(searchNotificationRepository.findPage(javaSearch.getId(), Long.MAX_VALUE, PageRequest.ofSize(20)))
+                .extracting(SearchNotification::getPostId).containsExactly(2L);
+        assertThat(savedSearchRepository.findQueries(javaSearch.getId() - 1, PageRequest.ofSize(20)))
+                .extracting(SavedSearchQuery::search).containsExactly("skill:java", "react | 프론트");
+    }
+
+    private SavedSearch save(String search) {
+        return savedSearchRepository.save(SavedSearch.builder()
+                .user(User.builder().id(1L).build())
+                .search(search)
+                .build());
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.config.DataConfig;
+import com.limvik.backend.domain.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataConfig.class)
+@ActiveProfiles("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CreateUserRecommendationRepositoryTest {
+
+    @Autowired
+    ApplicationRepository applicationRepository;
+
+    @Autowired
+    UserRecommendationRepository userRecommendationRepository;
+
+    @Test
+    void scanUserPostIdsOfApplications() {
+        for (var postId : List.of(1L, 3L)) {
+            applicationRepository.save(Application.builder()
+                    .ids(new ApplicationKey(postId, 1L))
+                    .post(Post.builder().id(postId).build())
+                    .user(User.builder().id(1L).build())
+                    .status(Status.builder().id(1L).build())
+                    .build());
+        }
+        applicationRepository.flush();
+
+        List<Long> postIds = new ArrayList<>();
+        applicationRepository.forEachUserPostId((userId, postId) -> {
+            assertThat(userId).isEqualTo(1L);
+            postIds.add(postId);
+        });
+        assertThat(postIds).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void upsertRecommendationsAndDeleteStaleOnes() {
+        var computedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        userRecommendationRepository.upsertAll(List.of(recommendation(new long[]{3L, 2L}, computedAt.minusSeconds(60))));
+        userRecommendationRepository.upsertAll(List.of(recommendation(new long[]{2L}, computedAt)));
+
+        assertThat(userRecommendationRepository.findById(1L).orElseThrow().getPostIdArray()).containsExactly(2L);
+        assertThat(userRecommendationRepository.deleteComputedBefore(computedAt)).isZero();
+        assertThat(userRecommendationRepository.deleteComputedBefore(computedAt.plusSeconds(1))).isEqualTo(1);
+        assertThat(userRecommendationRepository.findById(1L)).isEmpty();
+    }
+
+    private static UserRecommendation recommendation(long[] postIds, Instant computedAt) {
+        return new UserRecommendation(1L, UserRecommendation.toBytes(postIds), computedAt);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.config.DataConfig;
+import com.limvik.backend.domain.PostSummary;
+import com.limvik.backend.service.PostSkillLoader;
+import com.limvik.backend.service.SkillService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataConfig.class)
+@ActiveProfiles("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class GetPostListStatementCountTest {
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    PositionSkillRepository positionSkillRepository;
+
+    @Autowired
+    SkillRepository skillRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statementCountOfPostListPageIsConstant() {
+        assertThat(countStatementsOfPage(1)).isEqualTo(2);
+        assertThat(countStatementsOfPage(3)).isEqualTo(2);
+    }
+
+    private long countStatementsOfPage(int size) {
+        var skillService = new SkillService(skillRepository);
+        skillService.loadSkills();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var posts = postRepository.findPage(Long.MAX_VALUE, PageRequest.ofSize(size)).getContent();
+        var postSkillLoader = new PostSkillLoader(positionSkillRepository, skillService);
+        postSkillLoader.prime(posts.stream().map(PostSummary::id).toList());
+        for (var post : posts) {
+            postSkillLoader.getSkillNames(post.id());
+        }
+
+        assertThat(posts).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+
+}
@@ -2,12 +2,14 @@ package com.limvik.backend.repository;
 
 import com.limvik.backend.config.DataConfig;
 import com.limvik.backend.domain.*;
+import com.limvik.backend.index.SearchQueryParser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -15,6 +17,7 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -40,12 +43,27 @@ public class GetPostRepositoryTest {
                 .collect(Collectors.toList())).hasSize(3);
     }
 
+    @Test
+    void findPostPageOrderByIdDesc() {
+        var firstPage = postRepository.findPage(Long.MAX_VALUE, PageRequest.ofSize(2));
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.getContent().get(0).id()).isGreaterThan(firstPage.getContent().get(1).id());
+
+        var lastId = firstPage.getContent().get(1).id();
+        var nextPage = postRepository.findPage(lastId, PageRequest.ofSize(2));
+        assertThat(nextPage.getContent()).allMatch(post -> post.id() < lastId);
+        assertThat(nextPage.hasNext()).isFalse();
+    }
+
     @Test
     void findAllPostByKeywordInPositionNameAndJobDescription() {
         String keyword = "react";
         Long reactSkillId = skillRepository.findByName(keyword).get().getId();
-        List<Post> posts1 = postRepository.search(keyword);
+        List<PostSummary> posts1 = postRepository.search(keyword, null, Long.MAX_VALUE, PageRequest.ofSize(20)).getContent();
         assertThat(posts1).hasSize(1);
+        assertThat(posts1.get(0).companyName()).isEqualTo("(주)사람인에이치알");
+        assertThat(posts1.get(0).city()).isEqualTo("구로구");
         List<Post> posts2 = postRepository.findAllById(positionSkillRepository.findPostIdsBySkillId(reactSkillId));
         assertThat(posts2).hasSize(0);
     }
@@ -54,10 +72,113 @@ public class GetPostRepositoryTest {
     void findAllPostByKeywordInSkill() {
         String keyword = "spring";
         Long SpringSkillId = skillRepository.findByName(keyword).get().getId();
-        List<Post> posts1 = postRepository.search(keyword);
+        List<PostSummary> posts1 = postRepository.search(keyword, null, Long.MAX_VALUE, PageRequest.ofSize(20)).getContent();
         assertThat(posts1).hasSize(0);
         List<Post> posts2 = postRepository.findAllById(positionSkillRepository.findPostIdsBySkillId(SpringSkillId));
         assertThat(posts2).hasSize(1);
+        List<PostSummary> posts3 = postRepository.search(keyword, SpringSkillId, Long.MAX_VALUE, PageRequest.ofSize(20)).getContent();
+        assertThat(posts3).hasSize(1);
+    }
+
+    @Test
+    void fullTextSearchByKeywordInPositionNameAndJobDescription() {
+        var hits = postRepository.fullTextSearch("\"react\"", null, Double.MAX_VALUE, Long.MAX_VALUE, 20);
+        assertThat(hits).hasSize(1);
+
+        var posts = postRepository.findSummariesByIds(List.of(hits.get(0).getId()));
+        assertThat(posts.get(0).companyName()).isEqualTo("(주)사람인에이치알");
+    }
+
+    @Test
+    void fullTextSearchByKeywordInSkill() {
+        Long springSkillId = skillRepository.findByName("spring").get().getId();
+        assertThat(postRepository.fullTextSearch("\"spring\"", null, Double.MAX_VALUE, Long.MAX_VALUE, 20))
+                .isEmpty();
+        var hits = postRepository.fullTextSearch("\"spring\"", springSkillId, Double.MAX_VALUE, Long.MAX_VALUE, 20);
+        assertThat(hits).hasSize(1);
+        assertThat(hits.get(0).getScore()).isZero();
+    }
+
+    @Test
+    void fullTextSearchPageOrderByScoreDesc() {
+        var firstPage = postRepository.fullTextSearch("\"프론트\"", null, Double.MAX_VALUE, Long.MAX_VALUE, 1);
+        assertThat(firstPage).hasSize(1);
+
+        var last = firstPage.get(0);
+        var nextPage = postRepository.fullTextSearch("\"프론트\"", null, last.getScore(), last.getId(), 20);
+        assertThat(nextPage).hasSize(1);
+        assertThat(nextPage.get(0).getId()).isNotEqualTo(last.getId());
+        assertThat(nextPage.get(0).getScore()).isLessThanOrEqualTo(last.getScore());
+    }
+
+    @Test
+    void searchByQueryInOneStatement() {
+        assertThat(ids(postRepository.searchByQuery(SearchQueryParser.parse("프론트 -사람인"),
+                Double.MAX_VALUE, Long.MAX_VALUE, 20))).containsExactly(3L);
+        assertThat(ids(postRepository.searchByQuery(SearchQueryParser.parse("백엔드 | react"),
+                Double.MAX_VALUE, Long.MAX_VALUE, 20))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(postRepository.searchByQuery(SearchQueryParser.parse("주니어 -skill:spring"),
+                Double.MAX_VALUE, Long.MAX_VALUE, 20))).containsExactlyInAnyOrder(2L, 3L);
+
+        var hits = postRepository.searchByQuery(SearchQueryParser.parse("skill:javascript"),
+                Double.MAX_VALUE, Long.MAX_VALUE, 20);
+        assertThat(ids(hits)).containsExactly(2L);
+        assertThat(hits.get(0).getScore()).isZero();
+    }
+
+    @Test
+    void findPostPageBySkillIds() {
+        var pageable = PageRequest.ofSize(20);
+        assertThat(postRepository.findPageBySkillIds(List.of(2L, 4L), 1, Long.MAX_VALUE, pageable))
+                .extracting(PostSummary::id).containsExactly(2L, 1L);
+        assertThat(postRepository.findPageBySkillIds(List.of(2L, 4L), 2, Long.MAX_VALUE, pageable)).isEmpty();
+        assertThat(postRepository.findPageBySkillIds(List.of(4L), 1, 2L, pageable)).isEmpty();
+    }
+
+    @Test
+    void findFilteredPageInIndexOrder() {
+        var byReward = new PostListFilter(PostListFilter.Sort.REWARD, null, null, null);
+        assertThat(postRepository.findFilteredPage(byReward, Long.MAX_VALUE, Long.MAX_VALUE, 20))
+                .extracting(PostSummary::id).containsExactly(3L, 1L, 2L);
+        assertThat(postRepository.findFilteredPage(byReward, 1500000L, 3L, 1))
+                .extracting(PostSummary::id).containsExactly(1L);
+
+        var latestInRange = new PostListFilter(PostListFilter.Sort.LATEST, 1200000L, null, null);
+        assertThat(postRepository.findFilteredPage(latestInRange, Long.MAX_VALUE, Long.MAX_VALUE, 20))
+                .extracting(PostSummary::id).containsExactly(3L, 1L);
+
+        var inCity = new PostListFilter(PostListFilter.Sort.REWARD, null, 1000000L, "구로구");
+        assertThat(postRepository.findFilteredPage(inCity, Long.MAX_VALUE, Long.MAX_VALUE, 20))
+                .extracting(PostSummary::id, PostSummary::companyName, PostSummary::city)
+                .containsExactly(tuple(2L, "(주)사람인에이치알", "구로구"));
+    }
+
+    @Test
+    void findSnippetsAroundFirstMatch() {
+        var snippets = postRepository.findSnippets(List.of(1L, 2L, 3L), List.of("react", "백엔드"), 8);
+
+        assertThat(snippets).extracting(PostSnippet::id, PostSnippet::text).containsExactlyInAnyOrder(
+                tuple(1L, "서 백엔드 주니"),
+                tuple(2L, "은 react,"));
+        assertThat(snippets).filteredOn(snippet -> snippet.id() == 1L).first()
+                .extracting(PostSnippet::highlights).asList()
+                .containsExactly(new PostSnippet.Highlight(2, 5));
+    }
+
+    @Test
+    void countPostsByCompanyAndSkill() {
+        assertThat(postRepository.countByCompany())
+                .extracting(CompanyPostCount::companyName, CompanyPostCount::count)
+                .containsExactlyInAnyOrder(
+                        tuple("원티드랩", 2L),
+                        tuple("(주)사람인에이치알", 1L));
+        assertThat(positionSkillRepository.countBySkillId())
+                .extracting(SkillPostCount::count)
+                .containsExactly(1L, 1L);
+    }
+
+    private List<Long> ids(List<PostSearchHit> hits) {
+        return hits.stream().map(PostSearchHit::getId).toList();
     }
 
 }
@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.HashSet;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -70,12 +71,15 @@ public class ModifyPostRepositoryTest {
                 .build();
 
         var returnedPost = postRepository.save(post);
+        // 채용내용은 posts 밖에 저장
+        postRepository.upsertSearchText(returnedPost.getId(), positionName, jobDescription);
 
         var newPost = postRepository.findById(returnedPost.getId()).get();
         newPost.setPositionSkills(positionSkillRepository.findAllByPostId(1L));
         assertThat(newPost.getId()).isEqualTo(1L);
         assertThat(newPost.getPositionName()).isEqualTo(positionName);
-        assertThat(newPost.getJobDescription()).isEqualTo(jobDescription);
+        assertThat(postRepository.findDocumentsByIds(List.of(newPost.getId())))
+                .extracting(PostDocument::jobDescription).containsExactly(jobDescription);
         assertThat(newPost.getReward()).isEqualTo(reward);
         assertThat(newPost.getCompany().getId()).isEqualTo(company.getId());
         assertThat(newPost.getAddress().getPostId()).isEqualTo(address.getPostId());
@@ -86,4 +90,13 @@ public class ModifyPostRepositoryTest {
 
     }
 
+    @Test
+    void incrementVersionWhenReadForUpdate() {
+        var version = postRepository.findVersionById(2L).orElseThrow().version();
+
+        var post = postRepository.findForUpdateById(2L).orElseThrow();
+
+        assertThat(post.getVersion()).isEqualTo(version + 1);
+    }
+
 }
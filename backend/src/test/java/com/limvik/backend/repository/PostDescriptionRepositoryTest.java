@@ -0,0 +1,91 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.config.DataConfig;
+import com.limvik.backend.domain.PostDescription;
+import com.limvik.backend.domain.PostDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataConfig.class)
+@ActiveProfiles("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PostDescriptionRepositoryTest {
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void readDescriptionCompressedByMySql() {
+        var description = postRepository.findDescriptionById(1L).orElseThrow();
+
+        assertThat(description.codec()).isEqualTo(PostDescription.DEFLATE);
+        assertThat(description.toText()).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT job_description FROM post_search_texts WHERE post_id = 1", String.class));
+    }
+
+    @Test
+    void upsertCompressedDescriptionReadableByMySql() {
+        var jobDescription = "원티드랩에서 백엔드 주니어 개발자를 채용합니다. 자격요건은 java, spring ...\n".repeat(100);
+
+        postRepository.upsertDescription(1L, PostDescription.of(jobDescription));
+
+        var stored = postRepository.findDescriptionById(1L).orElseThrow();
+        assertThat(stored.codec()).isEqualTo(PostDescription.DEFLATE);
+        assertThat(stored.content().length).isLessThan(jobDescription.length());
+        assertThat(stored.toText()).isEqualTo(jobDescription);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT CONVERT(UNCOMPRESS(content) USING utf8mb4) FROM post_descriptions WHERE post_id = 1",
+                String.class)).isEqualTo(jobDescription);
+    }
+
+    @Test
+    void storeShortDescriptionUncompressed() {
+        postRepository.upsertDescription(2L, PostDescription.of("java"));
+
+        var stored = postRepository.findDescriptionById(2L).orElseThrow();
+        assertThat(stored.codec()).isEqualTo(PostDescription.NONE);
+        assertThat(stored.toText()).isEqualTo("java");
+    }
+
+    @Test
+    void readDescriptionWithOtherPostIdsOfCompanyInOneStatement() {
+        var page = postRepository.findDescriptionWithOtherPostIds(1L, 1L, 0L, 20);
+
+        assertThat(page.description().toText()).isEqualTo(postRepository.findDescriptionById(1L).orElseThrow().toText());
+        assertThat(page.otherPostIds()).containsExactly(3L);
+        assertThat(postRepository.findDescriptionWithOtherPostIds(1L, 1L, 3L, 20).otherPostIds()).isEmpty();
+        assertThat(postRepository.findDescriptionWithOtherPostIds(999L, 1L, 0L, 20).description()).isNull();
+    }
+
+    @Test
+    void upsertSearchTextOutsidePostsRow() {
+        postRepository.upsertSearchText(2L, "프론트 시니어 개발자", "사람인에서 프론트 시니어 개발자를 채용합니다.");
+
+        assertThat(postRepository.findDocumentsByIds(List.of(2L)))
+                .extracting(PostDocument::positionName, PostDocument::jobDescription)
+                .containsExactly(tuple("프론트 주니어 개발자", "사람인에서 프론트 시니어 개발자를 채용합니다."));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT position_name FROM post_search_texts WHERE post_id = 2", String.class))
+                .isEqualTo("프론트 시니어 개발자");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = 'posts' AND column_name = 'job_description'",
+                Integer.class)).isZero();
+    }
+
+}
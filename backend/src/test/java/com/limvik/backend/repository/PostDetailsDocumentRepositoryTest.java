@@ -0,0 +1,59 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.config.DataConfig;
+import com.limvik.backend.domain.PostDetailsDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataConfig.class)
+@ActiveProfiles("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PostDetailsDocumentRepositoryTest {
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Test
+    void upsertDocumentAndReadByPrimaryKey() {
+        assertThat(postRepository.findDocumentById(1L)).isEmpty();
+        assertThat(postRepository.findIdsWithoutDocument(0L, 10)).containsExactly(1L, 2L, 3L);
+
+        postRepository.upsertDocument(document(1L, 0L, "{\"id\":1}", new long[]{1L, 3L}));
+        postRepository.insertDocumentIfAbsent(document(1L, 5L, "{\"id\":-1}", new long[]{}));
+        var stored = postRepository.findDocumentById(1L).orElseThrow();
+        assertThat(stored.version()).isZero();
+        assertThat(new String(stored.document(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+        assertThat(stored.otherPostIds()).containsExactly(3L);
+
+        postRepository.upsertDocument(document(1L, 1L, "{\"id\":1,\"reward\":1}", new long[]{1L, 3L}));
+        assertThat(postRepository.findDocumentById(1L).orElseThrow().version()).isEqualTo(1L);
+        assertThat(postRepository.findIdsWithoutDocument(0L, 10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void updateCompanyPostIdsOfAllDocumentsOfCompany() {
+        postRepository.upsertDocument(document(1L, 0L, "{\"id\":1}", new long[]{1L, 3L}));
+        postRepository.upsertDocument(document(3L, 0L, "{\"id\":3}", new long[]{1L, 3L}));
+
+        postRepository.updateCompanyPostIds(1L, new long[]{3L});
+
+        assertThat(postRepository.findDocumentById(1L).orElseThrow().otherPostIds()).containsExactly(3L);
+        assertThat(postRepository.findDocumentById(3L).orElseThrow().otherPostIds()).isEmpty();
+    }
+
+    private static PostDetailsDocument document(Long postId, long version, String json, long[] companyPostIds) {
+        return new PostDetailsDocument(postId, 1L, version, json.getBytes(StandardCharsets.UTF_8), companyPostIds);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.config.DataConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LIKE 검색과 FULLTEXT(ngram) 검색의 응답 시간 비교. ./gradlew benchmark 로 실행합니다.
+ * InnoDB 는 커밋된 행만 FULLTEXT 색인에 반영하므로 트랜잭션 없이 데이터를 추가합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataConfig.class)
+@ActiveProfiles("integration")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PostSearchBenchmarkTest {
+
+    private static final int BATCH_COUNT = 10;
+    private static final int BATCH_SIZE = 100_000;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String INSERT_POSTS = """
+            INSERT INTO posts(company_id, position_name, reward)
+            WITH digits(d) AS (
+                SELECT 0 UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+                UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9
+            )
+            SELECT 1 + seq.n % 2,
+                   CONCAT(ELT(1 + seq.n % 5, '백엔드', '프론트엔드', '데이터', '안드로이드', 'iOS'), ' ',
+                          ELT(1 + seq.n % 3, '주니어', '시니어', '리드'), ' 개발자'),
+                   1000000 + seq.n % 10 * 100000
+            FROM (SELECT ? + d1.d * 10000 + d2.d * 1000 + d3.d * 100 + d4.d * 10 + d5.d AS n
+                  FROM digits d1, digits d2, digits d3, digits d4, digits d5) seq
+            """;
+    private static final String SELECT_LAST_POST_ID = "SELECT COALESCE(MAX(id), 0) FROM posts";
+    // 채용내용은 posts 밖의 검색용 테이블에 있음. 공고번호는 시드 안에서의 순번
+    private static final String INSERT_SEARCH_TEXTS = """
+            INSERT INTO post_search_texts(post_id, position_name, job_description)
+            SELECT p.id, p.position_name,
+                   CONCAT('공고번호 ', p.id - ? - 1, ' 자격요건은 ',
+                          ELT(1 + (p.id - ? - 1) % 7, 'java', 'kotlin', 'react', 'python', 'go', 'rust', 'typescript'),
+                          ' 경험입니다. ', REPEAT('함께 성장할 동료를 찾습니다. ', 20))
+            FROM posts p WHERE p.id > ?
+            """;
+
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private long lastSeedPostId;
+
+    @BeforeAll
+    void seedPosts() {
+        lastSeedPostId = jdbcTemplate.queryForObject(SELECT_LAST_POST_ID, Long.class);
+        for (int batch = 0; batch < BATCH_COUNT; batch++) {
+            var lastPostId = jdbcTemplate.queryForObject(SELECT_LAST_POST_ID, Long.class);
+            jdbcTemplate.update(INSERT_POSTS, batch * BATCH_SIZE);
+            jdbcTemplate.update(INSERT_SEARCH_TEXTS, lastSeedPostId, lastSeedPostId, lastPostId);
+        }
+    }
+
+    @AfterAll
+    void deleteSeededPosts() {
+        jdbcTemplate.update("DELETE FROM posts WHERE id > ?", lastSeedPostId);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"kotlin", "시니어 개발자", "공고번호 777777", "블록체인"})
+    void compareLikeWithFullText(String keyword) {
+        var likeMillis = measure(() -> postRepository.search(keyword, null, Long.MAX_VALUE, PageRequest.ofSize(PAGE_SIZE)));
+        var fullTextMillis = measure(() -> postRepository.fullTextSearch("\"" + keyword + "\"", null,
+                Double.MAX_VALUE, Long.MAX_VALUE, PAGE_SIZE + 1));
+        System.out.printf("[%s] LIKE: %.1f ms, FULLTEXT: %.1f ms%n", keyword, likeMillis, fullTextMillis);
+
+        var likeEmpty = postRepository.search(keyword, null, Long.MAX_VALUE, PageRequest.ofSize(PAGE_SIZE))
+                .getContent().isEmpty();
+        var fullTextEmpty = postRepository.fullTextSearch("\"" + keyword + "\"", null,
+                Double.MAX_VALUE, Long.MAX_VALUE, PAGE_SIZE).isEmpty();
+        assertThat(fullTextEmpty).isEqualTo(likeEmpty);
+    }
+
+    private double measure(Runnable query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+            query.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++)
+            query.run();
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASUREMENT_ITERATIONS;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.limvik.backend.repository;
+
+import com.limvik.backend.config.DataConfig;
+import com.limvik.backend.domain.PositionSkill;
+import com.limvik.backend.domain.Skill;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 캐시는 커밋된 뒤에 갱신되므로 테스트 트랜잭션 없이 저장소 메서드마다 커밋
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataConfig.class)
+@ActiveProfiles("integration")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PostSecondLevelCacheTest {
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    PositionSkillRepository positionSkillRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void readCachedPostWithoutStatements() {
+        assertThat(postRepository.isCached(1L)).isFalse();
+        postRepository.findDetailsById(1L).orElseThrow();
+        postRepository.findById(1L).orElseThrow();
+        assertThat(postRepository.isCached(1L)).isTrue();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var post = postRepository.findById(1L).orElseThrow();
+
+        assertThat(post.getAddress().getCity()).isEqualTo("송파구");
+        assertThat(post.getPositionSkills()).extracting(positionSkill -> positionSkill.getSkill().getId())
+                .containsExactly(2L);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("post").getHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics("post-skills").getHitCount()).isPositive();
+    }
+
+    @Test
+    void evictCachedSkillsOfPostWhenSkillsChanged() {
+        var post = postRepository.findById(1L).orElseThrow();
+        assertThat(post.getPositionSkills()).hasSize(1);
+
+        var added = positionSkillRepository.save(new PositionSkill(post, new Skill(1L, "java"), true));
+        assertThat(postRepository.findById(1L).orElseThrow().getPositionSkills())
+                .extracting(positionSkill -> positionSkill.getSkill().getId())
+                .containsExactlyInAnyOrder(1L, 2L);
+
+        positionSkillRepository.delete(added);
+        assertThat(postRepository.findById(1L).orElseThrow().getPositionSkills())
+                .extracting(positionSkill -> positionSkill.getSkill().getId())
+                .containsExactly(2L);
+    }
+
+    @Test
+    void evictCachedVersionWhenPostModified() {
+        var version = postRepository.findVersionById(1L).orElseThrow().version();
+        var post = postRepository.findById(1L).orElseThrow();
+        var positionName = post.getPositionName();
+        post.setPositionName(positionName + " (수정)");
+        postRepository.save(post);
+
+        assertThat(postRepository.findVersionById(1L).orElseThrow().version()).isEqualTo(version + 1);
+        assertThat(postRepository.findById(1L).orElseThrow().getVersion()).isEqualTo(version + 1);
+
+        post = postRepository.findById(1L).orElseThrow();
+        post.setPositionName(positionName);
+        postRepository.save(post);
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.limvik.backend.service;
 
 import com.limvik.backend.domain.*;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.exception.PostDuplicatedException;
+import com.limvik.backend.index.DuplicatePostIndex;
 import com.limvik.backend.repository.AddressRepository;
 import com.limvik.backend.repository.PositionSkillRepository;
 import com.limvik.backend.repository.PostRepository;
@@ -10,11 +13,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,9 +40,18 @@ public class CreatePostServiceMockTest {
     @Mock
     SkillRepository skillRepository;
 
+    @Mock
+    SkillService skillService;
+
+    @Mock
+    DuplicatePostIndex duplicatePostIndex;
+
     @Mock
     AddressRepository addressRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     PostService postService;
 
@@ -110,5 +130,73 @@ public class CreatePostServiceMockTest {
         assertThat(returnedPost.getJobDescription()).isEqualTo(expectedPost.getJobDescription());
         assertThat(returnedPost.getPositionSkills().size()).isEqualTo(expectedPost.getPositionSkills().size());
         assertThat(returnedPost.getPositionSkills().contains(returnedPositionSkill)).isEqualTo(true);
+        verify(postRepository).upsertSearchText(1L, expectedPost.getPositionName(), expectedPost.getJobDescription());
+        verify(postRepository).upsertDescription(eq(1L),
+                argThat(description -> description.toText().equals(expectedPost.getJobDescription())));
+        verify(eventPublisher).publishEvent(new PostCreatedEvent(1L, 1L));
+    }
+
+    @Test
+    void savePostWithSkillsMentionedInJobDescription() {
+        var jobDescription = "자격요건은 java, spring 경험자";
+        var company = Company.builder().id(1L).name("(주)원티드랩").build();
+        var java = new Skill(1L, "java");
+        var post = Post.builder()
+                .positionName("백엔드 주니어 개발자").jobDescription(jobDescription).reward(1500000L).company(company)
+                .address(Address.builder().city("송파구").build())
+                .build();
+        var savedPost = Post.builder()
+                .id(1L).positionName("백엔드 주니어 개발자").jobDescription(jobDescription).reward(1500000L).company(company)
+                .build();
+        var explicitSkill = new PositionSkill(savedPost, java);
+        var inferredSkill = new PositionSkill(savedPost, new Skill(2L, null), true);
+
+        when(postRepository.save(post)).thenReturn(savedPost);
+        when(skillService.findSkillIdsIn(jobDescription)).thenReturn(Set.of(1L, 2L));
+        when(positionSkillRepository.saveAll(Set.of(explicitSkill))).thenReturn(List.of(explicitSkill));
+        when(positionSkillRepository.saveAll(List.of(inferredSkill))).thenReturn(List.of(inferredSkill));
+
+        var returnedPost = postService.createPost(post, List.of(java));
+
+        assertThat(returnedPost.getPositionSkills())
+                .extracting(positionSkill -> positionSkill.getSkill().getId(), PositionSkill::isInferred)
+                .containsExactlyInAnyOrder(tuple(1L, false), tuple(2L, true));
+    }
+
+    @Test
+    void savePostAndRecordDuplicate() {
+        var jobDescription = "원티드랩에서 백엔드 주니어 개발자를 채용합니다.";
+        var company = Company.builder().id(1L).name("(주)원티드랩").build();
+        var post = Post.builder()
+                .positionName("백엔드 주니어 개발자").jobDescription(jobDescription).reward(1500000L).company(company)
+                .address(Address.builder().city("송파구").build())
+                .build();
+        var savedPost = Post.builder()
+                .id(4L).positionName("백엔드 주니어 개발자").jobDescription(jobDescription).reward(1500000L).company(company)
+                .build();
+        var signature = DuplicatePostIndex.signatureOf("백엔드 주니어 개발자", jobDescription);
+
+        when(duplicatePostIndex.findDuplicate(signature)).thenReturn(1L);
+        when(postRepository.save(post)).thenReturn(savedPost);
+
+        var returnedPost = postService.createPost(post, List.of());
+
+        assertThat(returnedPost.getDuplicateOf()).isEqualTo(1L);
+        verify(duplicatePostIndex).saveSignature(4L, signature, 1L);
+    }
+
+    @Test
+    void rejectDuplicatedPost() {
+        var post = Post.builder()
+                .positionName("백엔드 주니어 개발자").jobDescription("원티드랩에서 백엔드 주니어 개발자를 채용합니다.")
+                .build();
+
+        when(duplicatePostIndex.findDuplicate(any())).thenReturn(1L);
+        when(duplicatePostIndex.rejectsDuplicates()).thenReturn(true);
+
+        assertThatThrownBy(() -> postService.createPost(post, List.of()))
+                .isInstanceOf(PostDuplicatedException.class)
+                .hasMessage(new PostDuplicatedException(1L).getMessage());
+        verify(postRepository, never()).save(any());
     }
 }
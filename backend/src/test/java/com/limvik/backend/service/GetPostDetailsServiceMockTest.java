@@ -2,6 +2,7 @@ package com.limvik.backend.service;
 
 import com.limvik.backend.domain.*;
 import com.limvik.backend.exception.PostNotFoundException;
+import com.limvik.backend.index.CompanyPostIndex;
 import com.limvik.backend.repository.PositionSkillRepository;
 import com.limvik.backend.repository.PostRepository;
 import com.limvik.backend.repository.SkillRepository;
@@ -10,7 +11,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -31,6 +34,9 @@ public class GetPostDetailsServiceMockTest {
     @Mock
     SkillRepository skillRepository;
 
+    @Mock
+    CompanyPostIndex companyPostIndex;
+
     @InjectMocks
     PostService postService;
 
@@ -65,8 +71,7 @@ public class GetPostDetailsServiceMockTest {
                 .positionSkills(skills)
                 .build();
 
-        when(postRepository.findById(targetPostId)).thenReturn(Optional.of(post));
-        when(positionSkillRepository.findAllByPostId(targetPostId)).thenReturn(skills);
+        when(postRepository.findDetailsById(targetPostId)).thenReturn(Optional.of(post));
 
         var returnedPost = postService.getPost(targetPostId);
 
@@ -94,11 +99,57 @@ public class GetPostDetailsServiceMockTest {
     void getNonExistPostAndThrowException() {
         var targetPostId = 99L;
 
-        when(postRepository.findById(targetPostId)).thenReturn(Optional.empty());
+        when(postRepository.findDetailsById(targetPostId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> postService.getPost(targetPostId))
                 .isInstanceOf(PostNotFoundException.class)
                 .hasMessage(new PostNotFoundException(targetPostId).getMessage());
     }
 
+    @Test
+    void getOtherPostIdsFromCompanyPostIndex() {
+        when(companyPostIndex.isReady()).thenReturn(true);
+        when(companyPostIndex.getPostIds(1L, 1L, 0L, 20)).thenReturn(List.of(3L, 7L));
+
+        assertThat(postService.getOtherPostIdsByCompanyId(1L, 1L, null, 20)).containsExactly(3L, 7L);
+    }
+
+    @Test
+    void getOtherPostIdsFromRepositoryBeforeIndexIsReady() {
+        when(companyPostIndex.isReady()).thenReturn(false);
+        when(postRepository.findIdsByCompanyId(1L, 1L, 3L, PageRequest.ofSize(20))).thenReturn(List.of(7L));
+
+        assertThat(postService.getOtherPostIdsByCompanyId(1L, 1L, 3L, 20)).containsExactly(7L);
+    }
+
+    @Test
+    void getDescriptionWithOtherPostIdsInOneStatement() {
+        var description = PostDescription.of("채용내용");
+        when(postRepository.findDescriptionWithOtherPostIds(1L, 1L, 0L, 20))
+                .thenReturn(new PostDescriptionPage(description, List.of(3L)));
+
+        var page = postService.getPostDescriptionPage(1L, 1L, null, 20);
+
+        assertThat(page.description()).isSameAs(description);
+        assertThat(page.otherPostIds()).containsExactly(3L);
+    }
+
+    @Test
+    void getIndexedOtherPostIdsOnlyWhenIndexIsReady() {
+        when(companyPostIndex.isReady()).thenReturn(false, true);
+        when(companyPostIndex.getPostIds(1L, 1L, 3L, 20)).thenReturn(List.of(7L));
+
+        assertThat(postService.getIndexedOtherPostIds(1L, 1L, 3L, 20)).isEmpty();
+        assertThat(postService.getIndexedOtherPostIds(1L, 1L, 3L, 20)).contains(List.of(7L));
+    }
+
+    @Test
+    void throwPostNotFoundWhenDescriptionIsMissing() {
+        when(postRepository.findDescriptionWithOtherPostIds(999L, 1L, 0L, 20))
+                .thenReturn(new PostDescriptionPage(null, List.of()));
+
+        assertThatThrownBy(() -> postService.getPostDescriptionPage(999L, 1L, null, 20))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
 }
@@ -1,22 +1,31 @@
 package com.limvik.backend.service;
 
-import com.limvik.backend.domain.Post;
+import com.limvik.backend.domain.PostListFilter;
+import com.limvik.backend.domain.PostSearchHit;
+import com.limvik.backend.domain.PostSnippet;
+import com.limvik.backend.domain.PostSummary;
 import com.limvik.backend.domain.Skill;
+import com.limvik.backend.dto.PostCursor;
+import com.limvik.backend.index.FacetIndex;
+import com.limvik.backend.index.PostSearchIndex;
+import com.limvik.backend.index.SearchQueryParser;
 import com.limvik.backend.repository.PositionSkillRepository;
 import com.limvik.backend.repository.PostRepository;
-import com.limvik.backend.repository.SkillRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class GetPostServiceMockTest {
@@ -28,29 +37,172 @@ public class GetPostServiceMockTest {
     private PositionSkillRepository positionSkillRepository;
 
     @Mock
-    private SkillRepository skillRepository;
+    private SkillService skillService;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private FacetIndex facetIndex;
 
     @InjectMocks
     private PostService postService;
 
     @Test
     void getAllPost() {
-        when(postRepository.findAll()).thenReturn(List.of(Post.builder().id(1L).build(), Post.builder().id(2L).build()));
+        var pageable = PageRequest.ofSize(2);
+        when(postRepository.findPage(Long.MAX_VALUE, pageable)).thenReturn(new SliceImpl<>(
+                List.of(summaryOf(3L), summaryOf(2L)), pageable, true));
+        when(postRepository.findPage(2L, pageable)).thenReturn(new SliceImpl<>(
+                List.of(summaryOf(1L)), pageable, false));
 
-        assertThat(postService.getPosts().size()).isEqualTo(2);
-        assertThat(postService.getPosts().get(1).getId()).isEqualTo(1L);
+        var firstPage = postService.getPosts(null, 2);
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        var lastPage = postService.getPosts(2L, 2);
+        assertThat(lastPage.getContent().get(0).id()).isEqualTo(1L);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void getFilteredPostsSortedByReward() {
+        var filter = new PostListFilter(PostListFilter.Sort.REWARD, 1000000L, null, null);
+        when(postRepository.findFilteredPage(filter, Long.MAX_VALUE, Long.MAX_VALUE, 3)).thenReturn(
+                List.of(summaryOf(3L), summaryOf(1L), summaryOf(2L)));
+        when(postRepository.findFilteredPage(filter, 1500000L, 1L, 3)).thenReturn(List.of(summaryOf(2L)));
+
+        var firstPage = postService.getPosts(filter, null, 2);
+        assertThat(firstPage.getContent()).extracting(PostSummary::id).containsExactly(3L, 1L);
+        assertThat(firstPage.hasNext()).isTrue();
+        var lastPage = postService.getPosts(filter, new PostCursor(1L, null, 1500000L), 2);
+        assertThat(lastPage.getContent()).extracting(PostSummary::id).containsExactly(2L);
+        assertThat(lastPage.hasNext()).isFalse();
     }
 
     @Test
     void getAllPostByKeyword() {
-        when(skillRepository.findByName("java")).thenReturn(Optional.of(new Skill(1L, "java", null)));
-        when(positionSkillRepository.findPostIdsBySkillId(1L)).thenReturn(Set.of(1L, 2L, 3L));
-        when(postRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(
-                List.of(Post.builder().id(1L).build(), Post.builder().id(2L).build(), Post.builder().id(3L).build()));
-        when(postRepository.search("java")).thenReturn(List.of(Post.builder().id(1L).build()));
-
-        assertThat(postService.getPostsByKeyword("java").size()).isEqualTo(3);
-        assertThat(postService.getPostsByKeyword("java").get(2).getId()).isEqualTo(1L);
+        when(skillService.findSkillByName("java")).thenReturn(Optional.of(new Skill(1L, "java", null)));
+        when(postRepository.fullTextSearch("\"java\"", 1L, Double.MAX_VALUE, Long.MAX_VALUE, 21)).thenReturn(
+                List.of(hitOf(1L, 0.9), hitOf(3L, 0.5), hitOf(2L, 0.0)));
+        when(postRepository.findSummariesByIds(List.of(1L, 3L, 2L))).thenReturn(
+                List.of(summaryOf(3L), summaryOf(2L), summaryOf(1L)));
+
+        var posts = postService.getPostsByKeyword("java", null, 20);
+        assertThat(posts.getContent()).extracting(PostSummary::id).containsExactly(1L, 3L, 2L);
+        assertThat(posts.getContent().get(1).score()).isEqualTo(0.5);
+        assertThat(posts.hasNext()).isFalse();
+    }
+
+    @Test
+    void getAllPostByKeywordWithoutSkill() {
+        when(skillService.findSkillByName("주니어")).thenReturn(Optional.empty());
+        when(postRepository.fullTextSearch("\"주니어\"", null, 0.5, 5L, 2)).thenReturn(
+                List.of(hitOf(4L, 0.5), hitOf(2L, 0.3)));
+        when(postRepository.findSummariesByIds(List.of(4L))).thenReturn(List.of(summaryOf(4L)));
+
+        var posts = postService.getPostsByKeyword("주니어", new PostCursor(5L, 0.5), 1);
+        assertThat(posts.getContent()).extracting(PostSummary::id).containsExactly(4L);
+        assertThat(posts.hasNext()).isTrue();
+    }
+
+    @Test
+    void getAllPostByKeywordFromSearchIndex() {
+        when(postSearchIndex.isReady()).thenReturn(true);
+        when(postSearchIndex.search(SearchQueryParser.parse("백엔드 개발자"), Double.MAX_VALUE, Long.MAX_VALUE, 3))
+                .thenReturn(
+                List.of(hitOf(2L, 3.2), hitOf(1L, 1.5)));
+        when(postRepository.findSummariesByIds(List.of(2L, 1L))).thenReturn(
+                List.of(summaryOf(1L), summaryOf(2L)));
+
+        var posts = postService.getPostsByKeyword("백엔드 개발자", null, 2);
+        assertThat(posts.getContent()).extracting(PostSummary::id).containsExactly(2L, 1L);
+        assertThat(posts.hasNext()).isFalse();
+        verify(postRepository, never()).fullTextSearch(any(), any(), anyDouble(), anyLong(), anyInt());
+        verify(skillService, never()).findSkillByName(any());
+    }
+
+    @Test
+    void getAllPostByKeywordWithSnippets() {
+        when(postSearchIndex.isReady()).thenReturn(true);
+        when(postSearchIndex.search(SearchQueryParser.parse("백엔드 | 프론트 -사람인"), Double.MAX_VALUE, Long.MAX_VALUE, 21))
+                .thenReturn(List.of(hitOf(3L, 0.7), hitOf(1L, 0.4)));
+        when(postRepository.findSummariesByIds(List.of(3L, 1L))).thenReturn(List.of(summaryOf(1L), summaryOf(3L)));
+        var snippet = PostSnippet.of(1L, "서 백엔드 주니", List.of("백엔드"));
+        when(postRepository.findSnippets(List.of(3L, 1L), List.of("백엔드", "프론트"), 160)).thenReturn(List.of(snippet));
+
+        var posts = postService.getPostsByKeyword("백엔드 | 프론트 -사람인", null, 20);
+        assertThat(posts.getContent()).extracting(PostSummary::id, PostSummary::snippet)
+                .containsExactly(tuple(3L, null), tuple(1L, snippet));
+    }
+
+    @Test
+    void getAllPostByBooleanQueryInOneStatement() {
+        var query = SearchQueryParser.parse("백엔드 | 프론트 -사람인");
+        when(postRepository.searchByQuery(query, Double.MAX_VALUE, Long.MAX_VALUE, 21)).thenReturn(
+                List.of(hitOf(3L, 0.7), hitOf(1L, 0.4)));
+        when(postRepository.findSummariesByIds(List.of(3L, 1L))).thenReturn(
+                List.of(summaryOf(1L), summaryOf(3L)));
+
+        var posts = postService.getPostsByKeyword("백엔드 | 프론트 -사람인", null, 20);
+        assertThat(posts.getContent()).extracting(PostSummary::id).containsExactly(3L, 1L);
+        verify(postRepository, never()).fullTextSearch(any(), any(), anyDouble(), anyLong(), anyInt());
+    }
+
+    @Test
+    void getAllPostBySingleCharacterKeyword() {
+        var pageable = PageRequest.ofSize(20);
+        when(skillService.findSkillByName("C")).thenReturn(Optional.empty());
+        when(postRepository.search("C", null, 5L, pageable)).thenReturn(new SliceImpl<>(
+                List.of(summaryOf(4L)), pageable, false));
+
+        assertThat(postService.getPostsByKeyword("C", new PostCursor(5L), 20).getContent()).hasSize(1);
+    }
+
+    @Test
+    void getAllPostBySkillsFromIndex() {
+        when(skillService.findSkillByName("java")).thenReturn(Optional.of(new Skill(1L, "java", null)));
+        when(skillService.findSkillByName("spring")).thenReturn(Optional.of(new Skill(2L, "spring", null)));
+        when(facetIndex.isReady()).thenReturn(true);
+        when(facetIndex.findPostIdsBySkillIds(Set.of(1L, 2L), true, 9L, 3)).thenReturn(new long[]{7L, 4L, 2L});
+        when(postRepository.findSummariesByIds(List.of(7L, 4L))).thenReturn(List.of(summaryOf(4L), summaryOf(7L)));
+
+        var posts = postService.getPostsBySkills(List.of("java", " spring"), true, 9L, 2);
+        assertThat(posts.getContent()).extracting(PostSummary::id).containsExactly(7L, 4L);
+        assertThat(posts.hasNext()).isTrue();
+        verify(postRepository, never()).findPageBySkillIds(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void getAllPostBySkills() {
+        var pageable = PageRequest.ofSize(20);
+        when(skillService.findSkillByName("java")).thenReturn(Optional.of(new Skill(1L, "java", null)));
+        when(skillService.findSkillByName("cobol")).thenReturn(Optional.empty());
+        when(postRepository.findPageBySkillIds(Set.of(1L), 1, Long.MAX_VALUE, pageable)).thenReturn(new SliceImpl<>(
+                List.of(summaryOf(3L)), pageable, false));
+
+        // 모르는 스킬은 any 에서는 무시하고, all 에서는 결과를 비움
+        assertThat(postService.getPostsBySkills(List.of("java", "cobol"), false, null, 20).getContent())
+                .extracting(PostSummary::id).containsExactly(3L);
+        assertThat(postService.getPostsBySkills(List.of("java", "cobol"), true, null, 20).getContent()).isEmpty();
+    }
+
+    private PostSearchHit hitOf(Long id, Double score) {
+        return new PostSearchHit() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getScore() {
+                return score;
+            }
+        };
+    }
+
+    private PostSummary summaryOf(Long id) {
+        return new PostSummary(id, 1L, "(주)원티드랩", "올림픽로 300, 롯데월드타워 35층", "송파구", "서울특별시",
+                "백엔드 주니어 개발자", 1500000L);
     }
 
 }
@@ -1,7 +1,9 @@
 package com.limvik.backend.service;
 
 import com.limvik.backend.domain.*;
+import com.limvik.backend.event.PostModifiedEvent;
 import com.limvik.backend.exception.PostNotFoundException;
+import com.limvik.backend.index.DuplicatePostIndex;
 import com.limvik.backend.repository.PositionSkillRepository;
 import com.limvik.backend.repository.PostRepository;
 import com.limvik.backend.repository.SkillRepository;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +37,15 @@ public class ModifyPostServiceMockTest {
     @Mock
     SkillRepository skillRepository;
 
+    @Mock
+    SkillService skillService;
+
+    @Mock
+    DuplicatePostIndex duplicatePostIndex;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     PostService postService;
 
@@ -66,7 +79,11 @@ public class ModifyPostServiceMockTest {
                 .address(address)
                 .positionSkills(modifiedSkills)
                 .build();
-        when(postRepository.findById(any())).thenReturn(Optional.of(modifiedPost));
+        // 잠그고 읽으면서 버전이 증가한 저장된 채용공고
+        var lockedPost = Post.builder()
+                .id(targetPostId).positionName(positionName).positionSkills(modifiedSkills).version(1L)
+                .build();
+        when(postRepository.findForUpdateById(any())).thenReturn(Optional.of(lockedPost));
         when(postRepository.save(modifiedPost)).thenReturn(modifiedPost);
         when(positionSkillRepository.findAllByPostId(modifiedPost.getId())).thenReturn(modifiedSkills);
 
@@ -75,7 +92,8 @@ public class ModifyPostServiceMockTest {
                 () -> assertAll("contents",
                         () -> assertThat(returnedPost.getId()).isEqualTo(targetPostId),
                         () -> assertThat(returnedPost.getJobDescription()).isEqualTo(jobDescription),
-                        () -> assertThat(returnedPost.getPositionName()).isEqualTo(positionName)),
+                        () -> assertThat(returnedPost.getPositionName()).isEqualTo(positionName),
+                        () -> assertThat(returnedPost.getVersion()).isEqualTo(1L)),
                 () -> assertAll("company",
                         () -> assertThat(returnedPost.getCompany().getId()).isEqualTo(targetCompanyId),
                         () -> assertThat(returnedPost.getCompany().getName()).isEqualTo(targetCompanyName)),
@@ -89,7 +107,38 @@ public class ModifyPostServiceMockTest {
                                 .isEqualTo(modifiedPost.getPositionSkills().size()),
                         () -> assertThat(returnedPost.getPositionSkills().containsAll(modifiedSkills))
                                 .isEqualTo(true)));
+        verify(postRepository).upsertSearchText(targetPostId, positionName, jobDescription);
+        verify(eventPublisher).publishEvent(new PostModifiedEvent(targetPostId, positionName, Set.of(2L, 3L)));
+
+    }
 
+    @Test
+    void modifyPostAndRetagSkillsMentionedInJobDescription() {
+        var targetPostId = 1L;
+        var jobDescription = "자격요건은 spring, react 경험자";
+        var company = Company.builder().id(1L).name("(주)원티드랩").build();
+        var spring = new Skill(2L, "spring");
+        var post = Post.builder()
+                .id(targetPostId).positionName("백엔드 주니어 개발자").jobDescription(jobDescription).reward(1500000L)
+                .company(company).address(Address.builder().postId(targetPostId).city("송파구").build())
+                .build();
+        var staleSkill = new PositionSkill(post, new Skill(1L, "java"), true);
+        var promotedSkill = new PositionSkill(post, spring, true);
+        var inferredSkill = new PositionSkill(post, new Skill(3L, null), true);
+
+        when(postRepository.findForUpdateById(any())).thenReturn(Optional.of(post));
+        when(postRepository.save(post)).thenReturn(post);
+        when(positionSkillRepository.findAllByPostId(targetPostId))
+                .thenReturn(Set.of(staleSkill, promotedSkill))
+                .thenReturn(Set.of(promotedSkill, inferredSkill));
+        when(skillService.findSkillIdsIn(jobDescription)).thenReturn(Set.of(2L, 3L));
+
+        var returnedPost = postService.modifyPost(post, List.of(spring));
+
+        assertThat(promotedSkill.isInferred()).isFalse();
+        verify(positionSkillRepository).deleteAll(List.of(staleSkill));
+        verify(positionSkillRepository).saveAll(List.of(inferredSkill));
+        assertThat(returnedPost.getPositionSkills()).containsExactlyInAnyOrder(promotedSkill, inferredSkill);
     }
 
     @Test
@@ -98,7 +147,7 @@ public class ModifyPostServiceMockTest {
         var post = Post.builder().id(targetPostId).build();
         var skill = new Skill(2L, "spring");
 
-        when(postRepository.findById(any())).thenReturn(Optional.empty());
+        when(postRepository.findForUpdateById(any())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> postService.modifyPost(post, List.of(skill)))
                 .isInstanceOf(PostNotFoundException.class)
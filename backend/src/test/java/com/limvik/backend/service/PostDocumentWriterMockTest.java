@@ -0,0 +1,94 @@
+package com.limvik.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limvik.backend.domain.*;
+import com.limvik.backend.event.PostCreatedEvent;
+import com.limvik.backend.event.PostDeletedEvent;
+import com.limvik.backend.repository.CompanyRepository;
+import com.limvik.backend.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PostDocumentWriterMockTest {
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    CompanyRepository companyRepository;
+
+    @Mock
+    SkillService skillService;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    PostDocumentWriter postDocumentWriter;
+
+    @Test
+    void writeDocumentOfCreatedPostAndUpdateDocumentsOfSmallCompany() {
+        var company = Company.builder().id(1L).name("원티드랩").build();
+        var post = Post.builder()
+                .id(4L)
+                .company(Company.builder().id(1L).name("(주)원티드랩").build())
+                .address(Address.builder().postId(4L).street("올림픽로 300").city("송파구").state("서울특별시").build())
+                .positionName("백엔드 주니어 개발자")
+                .jobDescription("원티드랩에서 백엔드 주니어 개발자를 채용합니다.")
+                .reward(1500000L)
+                .positionSkills(Set.of())
+                .version(0L)
+                .build();
+
+        when(postRepository.findIdsByCompanyId(eq(1L), eq(0L), eq(0L), any())).thenReturn(List.of(1L, 3L, 4L));
+        when(postRepository.findDetailsById(4L)).thenReturn(Optional.of(post));
+        when(companyRepository.findById(1L)).thenReturn(Optional.of(company));
+        when(skillService.getSkillsByPosition(post.getPositionSkills())).thenReturn(List.of(new Skill(2L, "spring")));
+
+        postDocumentWriter.onPostCreated(new PostCreatedEvent(4L, 1L));
+
+        var captor = ArgumentCaptor.forClass(PostDetailsDocument.class);
+        verify(postRepository).upsertDocument(captor.capture());
+        var document = captor.getValue();
+        assertThat(document.otherPostIds()).containsExactly(1L, 3L);
+        assertThat(new String(document.document(), StandardCharsets.UTF_8))
+                .contains("\"name\":\"원티드랩\"", "\"skills\":[{\"name\":\"spring\"}]")
+                .doesNotContain("jobDescription", "otherPostsByCompany");
+        verify(postRepository).updateCompanyPostIds(1L, new long[]{1L, 3L, 4L});
+    }
+
+    @Test
+    void updateDocumentsOfCompanyOnlyWhenDeletedPostWasAmongFirstPosts() {
+        var companyPostIds = new long[PostDetailsDocument.COMPANY_POST_IDS_SIZE];
+        for (int i = 0; i < companyPostIds.length; i++)
+            companyPostIds[i] = i + 1;
+        when(postRepository.findIdsByCompanyId(eq(1L), eq(0L), eq(0L), any()))
+                .thenReturn(Arrays.stream(companyPostIds).boxed().toList());
+
+        postDocumentWriter.onPostDeleted(new PostDeletedEvent(100L, 1L));
+        verify(postRepository, never()).updateCompanyPostIds(any(), any());
+
+        postDocumentWriter.onPostDeleted(new PostDeletedEvent(5L, 1L));
+        verify(postRepository).updateCompanyPostIds(1L, companyPostIds);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.limvik.backend.service;
+
+import com.limvik.backend.domain.PositionSkill;
+import com.limvik.backend.domain.Post;
+import com.limvik.backend.domain.Skill;
+import com.limvik.backend.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SkillServiceMockTest {
+
+    @Mock
+    SkillRepository skillRepository;
+
+    @InjectMocks
+    SkillService skillService;
+
+    @Test
+    void findSkillsFromDictionaryWithoutQuery() {
+        when(skillRepository.findAll()).thenReturn(List.of(new Skill(1L, "java"), new Skill(2L, "Spring")));
+        skillService.loadSkills();
+
+        assertThat(skillService.getSkillByName("Java").getId()).isEqualTo(1L);
+        assertThat(skillService.findSkillByName(" spring ").map(Skill::getName)).contains("Spring");
+        assertThat(skillService.findSkillByName("kotlin")).isEmpty();
+        assertThat(skillService.getSkillName(2L)).contains("Spring");
+
+        var post = Post.builder().id(1L).build();
+        var skills = skillService.getSkillsByPosition(Set.of(
+                new PositionSkill(post, new Skill(1L, null)), new PositionSkill(post, new Skill(2L, null))));
+        assertThat(skills).extracting(Skill::getName).containsExactlyInAnyOrder("java", "Spring");
+
+        assertThat(skillService.getHitCount()).isEqualTo(5L);
+        assertThat(skillService.getMissCount()).isEqualTo(1L);
+        assertThat(skillService.getDictionarySize()).isEqualTo(2);
+        verify(skillRepository, never()).findByName(any());
+        verify(skillRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void findSkillsFromRepositoryBeforeDictionaryIsLoaded() {
+        when(skillRepository.findByName("java")).thenReturn(Optional.of(new Skill(1L, "java")));
+        when(skillRepository.findByName("kotlin")).thenReturn(Optional.empty());
+
+        assertThat(skillService.getSkillByName("java").getId()).isEqualTo(1L);
+        assertThatThrownBy(() -> skillService.getSkillByName("kotlin"));
+        assertThat(skillService.getMissCount()).isEqualTo(2L);
+    }
+
+}